@@ -1,9 +1,12 @@
 package com.tadah;
 
+import com.google.protobuf.MessageLite;
+import com.tadah.vehicle.utils.ProtobufHttpMessageConverter;
 import com.tadah.vehicle.utils.ProtobufMessageConverter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,4 +26,9 @@ public class TaDah {
     public static MessageConverter getMessageConverter() {
         return new ProtobufMessageConverter();
     }
+
+    @Bean
+    public static HttpMessageConverter<MessageLite> getHttpMessageConverter() {
+        return new ProtobufHttpMessageConverter();
+    }
 }
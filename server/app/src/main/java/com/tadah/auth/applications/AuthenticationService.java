@@ -56,12 +56,34 @@ public final class AuthenticationService {
      * @throws InvalidTokenException 유효하지 않은 토큰인 경우, 토큰을 통해 사용자 정보를 가져올 수 없는경우
      */
     public User verify(final String token) {
+        return find(getUserId(token));
+    }
+
+    /**
+     * JWT를 검증하고, 사용자 아이디를 리턴한다.
+     *
+     * @param token JWT
+     * @return 사용자 아이디
+     * @throws InvalidTokenException 유효하지 않은 토큰인 경우, 토큰에 사용자 아이디가 없는 경우
+     */
+    public Long getUserId(final String token) {
         final Claims claims = jwtUtil.decode(token);
 
         final Long userId = claims.get(CLAIM_NAME, Long.class);
         if (userId == null) {
             throw new InvalidTokenException();
         }
+        return userId;
+    }
+
+    /**
+     * 사용자 데이터를 조회한다.
+     *
+     * @param userId 사용자 아이디
+     * @return 사용자 데이터
+     * @throws InvalidTokenException 사용자 정보를 가져올 수 없는 경우
+     */
+    public User find(final Long userId) {
         return userRepository.findById(userId).orElseThrow(InvalidTokenException::new);
     }
 }
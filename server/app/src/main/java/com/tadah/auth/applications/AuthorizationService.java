@@ -2,7 +2,10 @@ package com.tadah.auth.applications;
 
 import com.tadah.auth.domains.entities.Role;
 import com.tadah.auth.domains.repositories.RoleRepository;
+import com.tadah.auth.utils.PrincipalCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -12,19 +15,39 @@ import java.util.List;
 @Service
 public final class AuthorizationService {
     private final RoleRepository roleRepository;
+    private final PrincipalCache principalCache;
 
-    public AuthorizationService(final RoleRepository roleRepository) {
+    public AuthorizationService(final RoleRepository roleRepository, final PrincipalCache principalCache) {
        this.roleRepository = roleRepository;
+       this.principalCache = principalCache;
     }
 
     /**
      * 권한을 생성한다.
+     * 생성한 권한이 바로 적용되도록 캐싱된 인증 정보를 삭제한다.
+     * 트랜잭션 안에서 호출된 경우 커밋한 뒤에 삭제한다.
      *
      * @param role 생성할 권한
      * @return 생성한 권한
      */
     public Role create(final Role role) {
-        return roleRepository.save(role);
+        final Role createdRole = roleRepository.save(role);
+        invalidateAfterCommit(createdRole.getUserId());
+        return createdRole;
+    }
+
+    private void invalidateAfterCommit(final Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            principalCache.invalidate(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                principalCache.invalidate(userId);
+            }
+        });
     }
 
     /**
@@ -4,6 +4,7 @@ import com.tadah.auth.applications.AuthenticationService;
 import com.tadah.auth.applications.AuthorizationService;
 import com.tadah.auth.filters.AuthenticationErrorFilter;
 import com.tadah.auth.filters.JwtAuthenticationFilter;
+import com.tadah.auth.utils.PrincipalCache;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -20,20 +21,23 @@ import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 public class SecurityJavaConfig extends WebSecurityConfigurerAdapter {
     private final AuthorizationService authorizationService;
     private final AuthenticationService authenticationService;
+    private final PrincipalCache principalCache;
 
     public SecurityJavaConfig(
         final AuthorizationService authorizationService,
-        final AuthenticationService authenticationService
+        final AuthenticationService authenticationService,
+        final PrincipalCache principalCache
     ) {
         this.authorizationService = authorizationService;
         this.authenticationService = authenticationService;
+        this.principalCache = principalCache;
     }
 
     @Override
     protected void configure(final HttpSecurity http) throws Exception {
         http
             .csrf().disable()
-            .addFilter(new JwtAuthenticationFilter(authenticationManager(), authorizationService, authenticationService))
+            .addFilter(new JwtAuthenticationFilter(authenticationManager(), authorizationService, authenticationService, principalCache))
             .addFilterBefore(new AuthenticationErrorFilter(), JwtAuthenticationFilter.class)
             .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             .and()
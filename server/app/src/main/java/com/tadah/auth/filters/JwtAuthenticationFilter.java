@@ -3,7 +3,7 @@ package com.tadah.auth.filters;
 import com.tadah.auth.applications.AuthenticationService;
 import com.tadah.auth.applications.AuthorizationService;
 import com.tadah.auth.authentications.UserAuthentication;
-import com.tadah.auth.domains.entities.Role;
+import com.tadah.auth.utils.PrincipalCache;
 import com.tadah.user.domains.entities.User;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
@@ -16,10 +16,10 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 
 /**
  * 인증을 진행한다.
+ * 사용자와 권한 목록은 PrincipalCache에 캐싱하여 요청마다 조회하지 않는다.
  */
 public final class JwtAuthenticationFilter extends BasicAuthenticationFilter {
     private static final String AUTHORIZATION_HEADER = "Authorization";
@@ -27,14 +27,22 @@ public final class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
     private final AuthorizationService authorizationService;
     private final AuthenticationService authenticationService;
+    private final PrincipalCache principalCache;
     public JwtAuthenticationFilter(
         final AuthenticationManager authenticationManager,
         final AuthorizationService authorizationService,
-        final AuthenticationService authenticationService
+        final AuthenticationService authenticationService,
+        final PrincipalCache principalCache
         ) {
         super(authenticationManager);
         this.authorizationService = authorizationService;
         this.authenticationService = authenticationService;
+        this.principalCache = principalCache;
+    }
+
+    private UserAuthentication authenticate(final Long userId) {
+        final User user = authenticationService.find(userId);
+        return new UserAuthentication(user, authorizationService.list(userId));
     }
 
     @Override
@@ -45,9 +53,8 @@ public final class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
         if (authorizationHeader != null) {
             final String token = authorizationHeader.substring(TOKEN_PREFIX.length());
-            final User user = authenticationService.verify(token);
-            final List<Role> roles = authorizationService.list(user.getId());
-            final Authentication authentication = new UserAuthentication(user, roles);
+            final Long userId = authenticationService.getUserId(token);
+            final Authentication authentication = principalCache.get(userId, this::authenticate);
 
             final SecurityContext context = SecurityContextHolder.getContext();
             context.setAuthentication(authentication);
@@ -0,0 +1,73 @@
+package com.tadah.auth.filters;
+
+import com.tadah.auth.applications.AuthenticationService;
+import com.tadah.auth.applications.AuthorizationService;
+import com.tadah.auth.exceptions.InvalidTokenException;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC 스트림을 시작할 때 한 번만 인증을 진행한다.
+ * DRIVER 권한이 있는 사용자의 아이디를 Context에 저장하며, 인증에 실패한 스트림은 바로 종료한다.
+ */
+@Component
+public final class JwtServerInterceptor implements ServerInterceptor {
+    public static final Context.Key<Long> USER_ID = Context.key("userId");
+    public static final Metadata.Key<String> AUTHORIZATION_HEADER =
+        Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final String TOKEN_PREFIX = "Bearer ";
+    private static final String DRIVER_ROLE = "DRIVER";
+
+    private final AuthenticationService authenticationService;
+    private final AuthorizationService authorizationService;
+
+    public JwtServerInterceptor(
+        final AuthenticationService authenticationService,
+        final AuthorizationService authorizationService
+    ) {
+        this.authenticationService = authenticationService;
+        this.authorizationService = authorizationService;
+    }
+
+    private boolean isDriver(final Long userId) {
+        return authorizationService.list(userId)
+            .stream()
+            .anyMatch(role -> DRIVER_ROLE.equals(role.getAuthority()));
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+        final ServerCall<ReqT, RespT> call,
+        final Metadata headers,
+        final ServerCallHandler<ReqT, RespT> next
+    ) {
+        final String authorizationHeader = headers.get(AUTHORIZATION_HEADER);
+        if (authorizationHeader == null || !authorizationHeader.startsWith(TOKEN_PREFIX)) {
+            call.close(Status.UNAUTHENTICATED.withDescription(new InvalidTokenException().getMessage()), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+
+        final Long userId;
+        try {
+            userId = authenticationService.getUserId(authorizationHeader.substring(TOKEN_PREFIX.length()));
+        } catch (InvalidTokenException exception) {
+            call.close(Status.UNAUTHENTICATED.withDescription(exception.getMessage()), new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+
+        if (!isDriver(userId)) {
+            call.close(Status.PERMISSION_DENIED, new Metadata());
+            return new ServerCall.Listener<>() {};
+        }
+
+        final Context context = Context.current().withValue(USER_ID, userId);
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+}
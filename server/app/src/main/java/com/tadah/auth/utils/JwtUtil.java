@@ -1,7 +1,10 @@
 package com.tadah.auth.utils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.tadah.auth.exceptions.InvalidTokenException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,17 +12,38 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JWT 인코딩 디코딩을 수행한다.
+ * 검증된 토큰은 설정된 시간 동안 캐싱하여 다시 서명을 검증하지 않는다.
  */
 @Component
 public final class JwtUtil {
     public static final String CLAIM_NAME = "userId";
 
     private final Key key;
-    public JwtUtil(@Value("${spring.jwt.secret}") final String secret) {
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> verifiedTokens;
+    public JwtUtil(
+        @Value("${spring.jwt.secret}") final String secret,
+        @Value("${spring.jwt.cache.maximum-size:10000}") final long cacheMaximumSize,
+        @Value("${spring.jwt.cache.expire-seconds:300}") final long cacheExpireSeconds
+    ) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+        this.verifiedTokens = CacheBuilder.newBuilder()
+            .maximumSize(cacheMaximumSize)
+            .expireAfterWrite(cacheExpireSeconds, TimeUnit.SECONDS)
+            .build();
+    }
+
+    private static boolean isExpired(final Claims claims) {
+        final Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
 
     /**
@@ -37,20 +61,33 @@ public final class JwtUtil {
 
     /**
      * 토큰을 디코딩하여 속성 정보를 리턴한다.
+     * 캐싱된 토큰은 만료 시간만 확인한다.
      *
      * @param token JWT
      * @return JWT Claim(속성 정보)
      * @throws InvalidTokenException 토큰이 유효하지 않은 경우
      */
     public Claims decode(final String token) {
+        if (token == null) {
+            throw new InvalidTokenException();
+        }
+
+        final Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (isExpired(cached)) {
+                verifiedTokens.invalidate(token);
+                throw new InvalidTokenException();
+            }
+            return cached;
+        }
+
+        final Claims claims;
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+            claims = jwtParser.parseClaimsJws(token).getBody();
         } catch (Exception exception) {
             throw new InvalidTokenException();
         }
+        verifiedTokens.put(token, claims);
+        return claims;
     }
 }
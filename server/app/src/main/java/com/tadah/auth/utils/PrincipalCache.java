@@ -0,0 +1,77 @@
+package com.tadah.auth.utils;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.tadah.auth.authentications.UserAuthentication;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 사용자별 인증 정보를 캐싱한다.
+ * 요청마다 사용자와 권한 목록을 조회하지 않도록 설정된 시간 동안 인증 정보를 저장한다.
+ * 조회하는 동안 인증 정보가 삭제된 경우 조회한 인증 정보를 남겨두지 않는다.
+ */
+@Component
+public final class PrincipalCache {
+    private final Cache<Long, UserAuthentication> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(
+        @Value("${auth.principal-cache.maximum-size:10000}") final long maximumSize,
+        @Value("${auth.principal-cache.expire-seconds:60}") final long expireSeconds
+    ) {
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+            .build();
+    }
+
+    /**
+     * 사용자의 인증 정보를 리턴한다.
+     * 저장된 인증 정보가 없는 경우 조회하여 저장한다.
+     *
+     * @param userId 사용자 아이디
+     * @param loader 인증 정보를 조회하는 함수
+     * @return 인증 정보
+     */
+    public UserAuthentication get(final Long userId, final Function<Long, UserAuthentication> loader) {
+        final long invalidationCount = invalidations.get();
+        final UserAuthentication authentication;
+        try {
+            authentication = cache.get(userId, () -> loader.apply(userId));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+
+        if (invalidations.get() != invalidationCount) {
+            cache.invalidate(userId);
+        }
+        return authentication;
+    }
+
+    /**
+     * 사용자의 인증 정보를 삭제한다.
+     *
+     * @param userId 사용자 아이디
+     */
+    public void invalidate(final Long userId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(userId);
+    }
+
+    /**
+     * 저장된 모든 인증 정보를 삭제한다.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 
 /**
  * 컨트롤러에서 던져진 예외를 처리한다.
@@ -38,4 +40,28 @@ public final class ControllerAdvice {
                 .getDefaultMessage()
         );
     }
+
+    /**
+     * 요청 목록의 입력 형식에 맞지 않는 경우
+     * 해당 예외가 어디서 던져졌는지 리턴한다.
+     *
+     * @param request 예외가 던져진 http 요청
+     * @param exception 컨트롤러에서 던져진 예외
+     * @return 던져진 예외의 내용 및 위치
+     */
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ErrorResponse handleConstraintViolation(
+        final HttpServletRequest request, final ConstraintViolationException exception
+    ) {
+        return new ErrorResponse(
+            request,
+            exception.getConstraintViolations()
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .findFirst()
+                .orElse(exception.getMessage())
+        );
+    }
 }
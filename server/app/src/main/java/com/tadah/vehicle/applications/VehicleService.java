@@ -1,19 +1,33 @@
 package com.tadah.vehicle.applications;
 
 import com.tadah.vehicle.dtos.DrivingDataProto;
+import com.tadah.vehicle.dtos.TimestampedDrivingRequestData;
+import com.tadah.vehicle.exceptions.InvalidDrivingDataException;
 import com.tadah.vehicle.exceptions.SendMessageFailException;
+import com.tadah.vehicle.utils.DrivingSequence;
 import com.tadah.vehicle.utils.KinesisProducer;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 차량 조회, 생성, 운행여부 수정, 위치 정보 업데이트를 담당한다.
+ * 전송하는 모든 메시지에는 tracker가 중복되거나 순서가 뒤바뀐 메시지를 걸러낼 수 있도록 sequence를 채운다.
+ * 클라이언트가 측정 시각이나 sequence를 보낸 경우 그 값으로 채워서 요청을 받은 인스턴스와 관계없이 순서를 유지한다.
+ * 클라이언트가 보내는 sequence는 드라이버별로 계속 증가해야 하며, 서버가 발급하는 값과 같이 마이크로초 단위의 측정 시각을 사용한다.
  */
 @Service
 public final class VehicleService {
     private final KinesisProducer kinesisProducer;
+    private final DrivingSequence drivingSequence;
 
-    public VehicleService(final KinesisProducer kinesisProducer) {
+    public VehicleService(final KinesisProducer kinesisProducer, final DrivingSequence drivingSequence) {
         this.kinesisProducer = kinesisProducer;
+        this.drivingSequence = drivingSequence;
     }
 
     /**
@@ -30,6 +44,7 @@ public final class VehicleService {
             .setLatitude(latitude)
             .setLongitude(longitude)
             .setDrivingStatus(DrivingDataProto.DrivingStatus.START)
+            .setSequence(drivingSequence.next())
             .build();
 
         if (!kinesisProducer.sendData(drivingData)) {
@@ -51,6 +66,7 @@ public final class VehicleService {
             .setLatitude(latitude)
             .setLongitude(longitude)
             .setDrivingStatus(DrivingDataProto.DrivingStatus.DRIVING)
+            .setSequence(drivingSequence.next())
             .build();
 
         if (!kinesisProducer.sendData(drivingData)) {
@@ -58,6 +74,39 @@ public final class VehicleService {
         }
     }
 
+    /**
+     * 차량의 운행정보를 한 번에 업데이트한다
+     * 위치 정보는 측정 시각 순서로 정렬하여 하나의 단위로 전송하며, sequence는 측정 시각으로 채운다
+     *
+     * @param userId 차량의 소유자
+     * @param drivingRequestDataList 측정 시각이 포함된 위치 정보 목록
+     * @throws SendMessageFailException 메시지 전송이 실패한 경우
+     */
+    public void updateDrivings(final Long userId, final List<TimestampedDrivingRequestData> drivingRequestDataList) {
+        final List<TimestampedDrivingRequestData> sortedRequestDataList = drivingRequestDataList.stream()
+            .sorted(Comparator.comparing(TimestampedDrivingRequestData::getTimestamp))
+            .collect(Collectors.toList());
+
+        final List<DrivingDataProto.DrivingData> drivingDataList = new ArrayList<>(sortedRequestDataList.size());
+        long previousTimestamp = Long.MIN_VALUE;
+        int offset = 0;
+        for (final TimestampedDrivingRequestData drivingRequestData : sortedRequestDataList) {
+            offset = drivingRequestData.getTimestamp() == previousTimestamp ? offset + 1 : 0;
+            previousTimestamp = drivingRequestData.getTimestamp();
+            drivingDataList.add(DrivingDataProto.DrivingData.newBuilder()
+                .setUserId(userId)
+                .setLatitude(drivingRequestData.getLatitude())
+                .setLongitude(drivingRequestData.getLongitude())
+                .setDrivingStatus(DrivingDataProto.DrivingStatus.DRIVING)
+                .setSequence(DrivingSequence.of(drivingRequestData.getTimestamp(), offset))
+                .build());
+        }
+
+        if (!kinesisProducer.sendAll(drivingDataList)) {
+            throw new SendMessageFailException();
+        }
+    }
+
     /**
      * 차량 운행을 종료한다.
      *
@@ -72,10 +121,103 @@ public final class VehicleService {
             .setLatitude(latitude)
             .setLongitude(longitude)
             .setDrivingStatus(DrivingDataProto.DrivingStatus.STOP)
+            .setSequence(drivingSequence.next())
             .build();
 
         if (!kinesisProducer.sendData(drivingData)) {
             throw new SendMessageFailException();
         }
     }
+
+    /**
+     * 차량의 운행정보를 비동기로 업데이트한다.
+     * 메시지가 버퍼에 저장되면 완료되며, 버퍼에 공간이 생길 때까지 스레드를 점유하지 않는다.
+     *
+     * @param userId 차량의 소유자
+     * @param latitude 위도
+     * @param longitude 경도
+     * @return 메시지가 버퍼에 저장되면 완료되는 Mono, 메시지 전송이 실패한 경우 SendMessageFailException으로 종료된다
+     */
+    public Mono<Void> updateDrivingAsync(final Long userId, final Double latitude, final Double longitude) {
+        final DrivingDataProto.DrivingData drivingData = DrivingDataProto.DrivingData.newBuilder()
+            .setUserId(userId)
+            .setLatitude(latitude)
+            .setLongitude(longitude)
+            .setDrivingStatus(DrivingDataProto.DrivingStatus.DRIVING)
+            .setSequence(drivingSequence.next())
+            .build();
+
+        return kinesisProducer.sendDataAsync(drivingData)
+            .flatMap(isSuccess -> isSuccess ? Mono.empty() : Mono.error(new SendMessageFailException()));
+    }
+
+    /**
+     * 클라이언트가 전송한 Protobuf 메시지로 차량 운행을 시작한다.
+     *
+     * @param userId 차량의 소유자
+     * @param drivingData 운행 시작 위치 정보
+     * @throws InvalidDrivingDataException 위치 정보가 유효하지 않은 경우
+     * @throws SendMessageFailException 메시지 전송이 실패한 경우
+     */
+    public void startDriving(final Long userId, final DrivingDataProto.DrivingData drivingData) {
+        send(userId, drivingData, DrivingDataProto.DrivingStatus.START);
+    }
+
+    /**
+     * 클라이언트가 전송한 Protobuf 메시지로 차량의 운행정보를 업데이트한다.
+     *
+     * @param userId 차량의 소유자
+     * @param drivingData 위치 정보
+     * @throws InvalidDrivingDataException 위치 정보가 유효하지 않은 경우
+     * @throws SendMessageFailException 메시지 전송이 실패한 경우
+     */
+    public void updateDriving(final Long userId, final DrivingDataProto.DrivingData drivingData) {
+        send(userId, drivingData, DrivingDataProto.DrivingStatus.DRIVING);
+    }
+
+    /**
+     * 클라이언트가 전송한 Protobuf 메시지로 차량 운행을 종료한다.
+     *
+     * @param userId 차량의 소유자
+     * @param drivingData 운행 종료 위치 정보
+     * @throws InvalidDrivingDataException 위치 정보가 유효하지 않은 경우
+     * @throws SendMessageFailException 메시지 전송이 실패한 경우
+     */
+    public void stopDriving(final Long userId, final DrivingDataProto.DrivingData drivingData) {
+        send(userId, drivingData, DrivingDataProto.DrivingStatus.STOP);
+    }
+
+    private static void validate(final DrivingDataProto.DrivingData drivingData) {
+        if (!drivingData.hasLatitude()) {
+            throw new InvalidDrivingDataException("위도가 입력되지 않았습니다.");
+        }
+        // NaN은 모든 비교가 거짓이므로 범위 안에 있는지 확인한다
+        if (!(drivingData.getLatitude() >= -90 && drivingData.getLatitude() <= 90)) {
+            throw new InvalidDrivingDataException("위도 범위를 벗어났습니다.");
+        }
+        if (!drivingData.hasLongitude()) {
+            throw new InvalidDrivingDataException("경도가 입력되지 않았습니다.");
+        }
+        if (!(drivingData.getLongitude() >= -180 && drivingData.getLongitude() <= 180)) {
+            throw new InvalidDrivingDataException("경도 범위를 벗어났습니다.");
+        }
+    }
+
+    private void send(
+        final Long userId,
+        final DrivingDataProto.DrivingData drivingData,
+        final DrivingDataProto.DrivingStatus drivingStatus
+    ) {
+        validate(drivingData);
+
+        final DrivingDataProto.DrivingData message = drivingData.toBuilder()
+            .setUserId(userId)
+            .setDrivingStatus(drivingStatus)
+            .setSequence(drivingData.hasSequence() ? drivingData.getSequence() : drivingSequence.next())
+            .build();
+
+        if (!kinesisProducer.sendData(message)) {
+            throw new SendMessageFailException();
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.tadah.vehicle.configs;
+
+import com.tadah.auth.filters.JwtServerInterceptor;
+import com.tadah.vehicle.controllers.DrivingGrpcService;
+import com.tadah.vehicle.utils.GrpcServerLifecycle;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 위치 정보를 전송하는 gRPC 서버를 등록한다
+ * 서버는 애플리케이션과 함께 시작하고, 웹 서버와 같은 단계에서 종료한다
+ */
+@Configuration
+public class GrpcServerConfiguration {
+    @Bean
+    public Server grpcServer(
+        @Value("${grpc.server.port:9090}") final int port,
+        final DrivingGrpcService drivingGrpcService,
+        final JwtServerInterceptor jwtServerInterceptor
+    ) {
+        return ServerBuilder.forPort(port)
+            .addService(ServerInterceptors.intercept(drivingGrpcService, jwtServerInterceptor))
+            .build();
+    }
+
+    @Bean
+    public GrpcServerLifecycle grpcServerLifecycle(
+        final Server grpcServer,
+        @Value("${grpc.server.shutdown-timeout-millis:5000}") final long shutdownTimeoutMillis
+    ) {
+        return new GrpcServerLifecycle(grpcServer, shutdownTimeoutMillis);
+    }
+}
@@ -0,0 +1,62 @@
+package com.tadah.vehicle.configs;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.AmazonKinesisClientBuilder;
+import com.tadah.vehicle.utils.KinesisBatchProducer;
+import com.tadah.vehicle.utils.KinesisProducer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * PutRecords 요청을 직접 전송하는 Kinesis Producer를 등록한다
+ * kinesis.producer.mode 설정값이 direct인 경우에만 등록되며,
+ * 이 경우 spring.cloud.function.definition에서 produceDriving을 제외해야 한다
+ * kinesis.producer.endpoint를 설정하면 LocalStack, kinesalite 등 로컬 Kinesis로 전송한다
+ * kinesis.producer.aggregation을 true로 설정하면 메시지를 묶어서 전송하며, 이 경우 tracker는 processDrivingBatch로 수신해야 한다
+ */
+@Configuration
+@ConditionalOnProperty(name = "kinesis.producer.mode", havingValue = "direct")
+public class KinesisBatchProducerConfiguration {
+    @Bean
+    public AmazonKinesis directKinesisClient(
+        @Value("${cloud.aws.credentials.accessKey}") final String accessKey,
+        @Value("${cloud.aws.credentials.secretKey}") final String secretKey,
+        @Value("${cloud.aws.region.static}") final String region,
+        @Value("${kinesis.producer.endpoint:}") final String endpoint
+    ) {
+        final AmazonKinesisClientBuilder builder = AmazonKinesisClientBuilder.standard()
+            .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(accessKey, secretKey)));
+
+        if (endpoint.isBlank()) {
+            return builder.withRegion(region).build();
+        }
+        return builder
+            .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+            .build();
+    }
+
+    @Bean
+    public KinesisBatchProducer kinesisBatchProducer(
+        final AmazonKinesis directKinesisClient,
+        final KinesisProducer kinesisProducer,
+        @Value("${kinesis.producer.stream:${spring.cloud.stream.bindings.produceDriving-out-0.destination}}") final String streamName,
+        @Value("${kinesis.producer.linger-millis:100}") final long lingerMillis,
+        @Value("${kinesis.producer.max-retries:3}") final int maxRetries,
+        @Value("${kinesis.producer.aggregation:false}") final boolean aggregation,
+        @Value("${kinesis.producer.aggregation-buckets:64}") final int aggregationBuckets
+    ) {
+        return new KinesisBatchProducer(
+            directKinesisClient,
+            kinesisProducer,
+            streamName,
+            lingerMillis,
+            maxRetries,
+            aggregation ? aggregationBuckets : 0
+        );
+    }
+}
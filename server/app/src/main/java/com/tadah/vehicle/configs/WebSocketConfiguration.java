@@ -0,0 +1,45 @@
+package com.tadah.vehicle.configs;
+
+import com.tadah.vehicle.applications.VehicleService;
+import com.tadah.vehicle.controllers.DrivingHandshakeInterceptor;
+import com.tadah.vehicle.controllers.DrivingWebSocketHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 위치 정보를 전송하는 WebSocket 엔드포인트를 등록한다
+ * 연결 요청은 JwtAuthenticationFilter를 거치므로 Authorization 헤더로 한 번만 인증한다
+ * 브라우저의 연결 요청은 vehicle.websocket.allowed-origins에 설정한 Origin만 허용한다
+ * 처리 제한으로 버려진 위치 업데이트의 개수는 vehicle.websocket.dropped-frames 카운터로 기록한다
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfiguration implements WebSocketConfigurer {
+    private final DrivingWebSocketHandler drivingWebSocketHandler;
+    private final String[] allowedOrigins;
+
+    public WebSocketConfiguration(
+        final VehicleService vehicleService,
+        final MeterRegistry meterRegistry,
+        @Value("${vehicle.websocket.permits-per-second:5}") final double permitsPerSecond,
+        @Value("${vehicle.websocket.allowed-origins:}") final String[] allowedOrigins
+    ) {
+        this.drivingWebSocketHandler = new DrivingWebSocketHandler(
+            vehicleService,
+            permitsPerSecond,
+            meterRegistry.counter("vehicle.websocket.dropped-frames")
+        );
+        this.allowedOrigins = allowedOrigins;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(final WebSocketHandlerRegistry registry) {
+        registry.addHandler(drivingWebSocketHandler, "/vehicles/driving/stream")
+            .addInterceptors(new DrivingHandshakeInterceptor())
+            .setAllowedOrigins(allowedOrigins);
+    }
+}
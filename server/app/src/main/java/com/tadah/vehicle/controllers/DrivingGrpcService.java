@@ -0,0 +1,156 @@
+package com.tadah.vehicle.controllers;
+
+import com.google.protobuf.UInt64Value;
+import com.tadah.auth.filters.JwtServerInterceptor;
+import com.tadah.vehicle.applications.VehicleService;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import com.tadah.vehicle.exceptions.InvalidDrivingDataException;
+import com.tadah.vehicle.exceptions.SendMessageFailException;
+import com.tadah.vehicle.utils.DrivingSequence;
+import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC 스트림으로 전송된 위치 정보를 처리한다.
+ * 하나의 스트림으로 여러 위치 정보를 전송하며, 처리한 위치 정보의 개수를 일정 개수마다 응답한다.
+ * 스트림이 운행 중에 실패하거나 취소되면 마지막 위치로 운행을 종료한다.
+ * 클라이언트가 재연결하기 위해 스트림을 정상 종료한 경우에는 운행을 유지한다.
+ */
+@Component
+public final class DrivingGrpcService implements BindableService {
+    public static final String SERVICE_NAME = "tadah.vehicle.DrivingService";
+    public static final MethodDescriptor<DrivingDataProto.DrivingData, UInt64Value> STREAM_LOCATIONS_METHOD =
+        MethodDescriptor.<DrivingDataProto.DrivingData, UInt64Value>newBuilder()
+            .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "StreamLocations"))
+            .setRequestMarshaller(ProtoUtils.marshaller(DrivingDataProto.DrivingData.getDefaultInstance()))
+            .setResponseMarshaller(ProtoUtils.marshaller(UInt64Value.getDefaultInstance()))
+            .build();
+
+    private final VehicleService vehicleService;
+    private final long ackBatchSize;
+
+    public DrivingGrpcService(
+        final VehicleService vehicleService,
+        @Value("${grpc.server.ack-batch-size:50}") final long ackBatchSize
+    ) {
+        this.vehicleService = vehicleService;
+        this.ackBatchSize = ackBatchSize;
+    }
+
+    @Override
+    public ServerServiceDefinition bindService() {
+        return ServerServiceDefinition.builder(SERVICE_NAME)
+            .addMethod(STREAM_LOCATIONS_METHOD, ServerCalls.asyncBidiStreamingCall(this::streamLocations))
+            .build();
+    }
+
+    /**
+     * 위치 정보 스트림을 처리한다.
+     * 응답은 지금까지 처리한 위치 정보의 개수이다.
+     *
+     * @param responseObserver 응답 스트림
+     * @return 위치 정보 스트림
+     */
+    public StreamObserver<DrivingDataProto.DrivingData> streamLocations(final StreamObserver<UInt64Value> responseObserver) {
+        return new DrivingStream(JwtServerInterceptor.USER_ID.get(), responseObserver);
+    }
+
+    /**
+     * 스트림별 운행 상태
+     */
+    private final class DrivingStream implements StreamObserver<DrivingDataProto.DrivingData> {
+        private final Long userId;
+        private final StreamObserver<UInt64Value> responseObserver;
+        private DrivingDataProto.DrivingData lastDrivingData;
+        private boolean isDriving;
+        private boolean isClosed;
+        private long processed;
+        private long acked;
+
+        private DrivingStream(final Long userId, final StreamObserver<UInt64Value> responseObserver) {
+            this.userId = userId;
+            this.responseObserver = responseObserver;
+        }
+
+        private void ack() {
+            if (processed > acked) {
+                acked = processed;
+                responseObserver.onNext(UInt64Value.of(acked));
+            }
+        }
+
+        private void close(final Status status) {
+            isClosed = true;
+            ack();
+            stopDriving();
+            responseObserver.onError(status.asRuntimeException());
+        }
+
+        private void stopDriving() {
+            if (!isDriving) {
+                return;
+            }
+
+            isDriving = false;
+            try {
+                vehicleService.stopDriving(userId, DrivingSequence.following(lastDrivingData));
+            } catch (SendMessageFailException exception) {
+                // 스트림이 이미 종료되었으므로 전송 실패를 알릴 수 없다
+            }
+        }
+
+        @Override
+        public void onNext(final DrivingDataProto.DrivingData drivingData) {
+            if (isClosed) {
+                return;
+            }
+
+            final DrivingDataProto.DrivingStatus drivingStatus = drivingData.getDrivingStatus();
+            try {
+                switch (drivingStatus) {
+                    case START -> vehicleService.startDriving(userId, drivingData);
+                    case DRIVING -> vehicleService.updateDriving(userId, drivingData);
+                    case STOP -> vehicleService.stopDriving(userId, drivingData);
+                }
+            } catch (InvalidDrivingDataException exception) {
+                close(Status.INVALID_ARGUMENT.withDescription(exception.getMessage()));
+                return;
+            } catch (SendMessageFailException exception) {
+                close(Status.RESOURCE_EXHAUSTED.withDescription(exception.getMessage()));
+                return;
+            }
+
+            lastDrivingData = drivingData;
+            isDriving = drivingStatus != DrivingDataProto.DrivingStatus.STOP;
+            processed++;
+            if (processed - acked >= ackBatchSize) {
+                ack();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            isClosed = true;
+            stopDriving();
+        }
+
+        @Override
+        public void onCompleted() {
+            if (isClosed) {
+                return;
+            }
+
+            isClosed = true;
+            ack();
+            responseObserver.onCompleted();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.tadah.vehicle.controllers;
+
+import com.tadah.common.annotations.Generated;
+import com.tadah.user.domains.entities.User;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+/**
+ * WebSocket 연결 시 한 번만 인증을 확인한다.
+ * JwtAuthenticationFilter가 인증한 사용자 중 DRIVER 권한이 있는 경우에만 연결을 허용하고, 사용자 아이디를 세션에 저장한다.
+ */
+public final class DrivingHandshakeInterceptor implements HandshakeInterceptor {
+    public static final String USER_ID_ATTRIBUTE = "userId";
+
+    private static final String DRIVER_ROLE = "DRIVER";
+
+    private static boolean isDriver(final Authentication authentication) {
+        return authentication.getAuthorities()
+            .stream()
+            .anyMatch(authority -> DRIVER_ROLE.equals(authority.getAuthority()));
+    }
+
+    @Override
+    public boolean beforeHandshake(
+        final ServerHttpRequest request,
+        final ServerHttpResponse response,
+        final WebSocketHandler wsHandler,
+        final Map<String, Object> attributes
+    ) {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User)) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        if (!isDriver(authentication)) {
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        }
+
+        attributes.put(USER_ID_ATTRIBUTE, ((User) authentication.getPrincipal()).getId());
+        return true;
+    }
+
+    @Generated
+    @Override
+    public void afterHandshake(
+        final ServerHttpRequest request,
+        final ServerHttpResponse response,
+        final WebSocketHandler wsHandler,
+        final Exception exception
+    ) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.tadah.vehicle.controllers;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UInt64Value;
+import com.tadah.vehicle.applications.VehicleService;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import com.tadah.vehicle.exceptions.InvalidDrivingDataException;
+import com.tadah.vehicle.exceptions.SendMessageFailException;
+import com.tadah.vehicle.utils.DrivingSequence;
+import io.micrometer.core.instrument.Counter;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket으로 전송된 위치 정보를 처리한다.
+ * 각 프레임은 Protobuf로 인코딩된 DrivingData 메시지이며, 운행 상태가 없는 경우 위치 업데이트로 처리한다.
+ * 연결별로 초당 처리할 위치 업데이트 개수를 제한하며, 운행 중에 연결이 종료되면 마지막 위치로 운행을 종료한다.
+ * 제한을 넘어 버린 위치 업데이트는 카운터에 기록하고, 클라이언트에게 최대 1초에 한 번
+ * 지금까지 버려진 개수를 UInt64Value 메시지로 알려 전송 간격을 늘리도록 한다.
+ */
+public final class DrivingWebSocketHandler extends BinaryWebSocketHandler {
+    private static final String DRIVING_SESSION_ATTRIBUTE = "drivingSession";
+    private static final long DROP_NOTICE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final VehicleService vehicleService;
+    private final double permitsPerSecond;
+    private final Counter droppedFramesCounter;
+
+    public DrivingWebSocketHandler(
+        final VehicleService vehicleService,
+        final double permitsPerSecond,
+        final Counter droppedFramesCounter
+    ) {
+        this.vehicleService = vehicleService;
+        this.permitsPerSecond = permitsPerSecond;
+        this.droppedFramesCounter = droppedFramesCounter;
+    }
+
+    /**
+     * 연결별 운행 상태
+     */
+    private static final class DrivingSession {
+        private final Long userId;
+        private final RateLimiter rateLimiter;
+        private DrivingDataProto.DrivingData lastDrivingData;
+        private boolean isDriving;
+        private long droppedFrames;
+        private long lastDropNoticeNanos;
+
+        private DrivingSession(final Long userId, final double permitsPerSecond) {
+            this.userId = userId;
+            this.rateLimiter = RateLimiter.create(permitsPerSecond);
+            this.lastDropNoticeNanos = System.nanoTime() - DROP_NOTICE_INTERVAL_NANOS;
+        }
+    }
+
+    private static DrivingSession getDrivingSession(final WebSocketSession session) {
+        return (DrivingSession) session.getAttributes().get(DRIVING_SESSION_ATTRIBUTE);
+    }
+
+    /**
+     * 처리 제한으로 위치 업데이트를 버렸음을 클라이언트에게 알린다.
+     * 알림이 위치 업데이트보다 많아지지 않도록 최대 1초에 한 번만 보낸다.
+     *
+     * @param session WebSocket 세션
+     * @param drivingSession 연결별 운행 상태
+     * @throws IOException 메시지 전송에 실패한 경우
+     */
+    private static void notifyDropped(final WebSocketSession session, final DrivingSession drivingSession) throws IOException {
+        final long now = System.nanoTime();
+        if (now - drivingSession.lastDropNoticeNanos < DROP_NOTICE_INTERVAL_NANOS) {
+            return;
+        }
+
+        drivingSession.lastDropNoticeNanos = now;
+        session.sendMessage(new BinaryMessage(UInt64Value.of(drivingSession.droppedFrames).toByteArray()));
+    }
+
+    @Override
+    public void afterConnectionEstablished(final WebSocketSession session) {
+        final Long userId = (Long) session.getAttributes().get(DrivingHandshakeInterceptor.USER_ID_ATTRIBUTE);
+        session.getAttributes().put(DRIVING_SESSION_ATTRIBUTE, new DrivingSession(userId, permitsPerSecond));
+    }
+
+    @Override
+    protected void handleBinaryMessage(final WebSocketSession session, final BinaryMessage message) throws IOException {
+        final DrivingSession drivingSession = getDrivingSession(session);
+
+        final DrivingDataProto.DrivingData drivingData;
+        try {
+            drivingData = DrivingDataProto.DrivingData.parser()
+                .parsePartialFrom(CodedInputStream.newInstance(message.getPayload()));
+        } catch (InvalidProtocolBufferException exception) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        }
+
+        final DrivingDataProto.DrivingStatus drivingStatus = drivingData.hasDrivingStatus()
+            ? drivingData.getDrivingStatus()
+            : DrivingDataProto.DrivingStatus.DRIVING;
+        if (drivingStatus == DrivingDataProto.DrivingStatus.DRIVING && !drivingSession.rateLimiter.tryAcquire()) {
+            drivingSession.droppedFrames++;
+            droppedFramesCounter.increment();
+            notifyDropped(session, drivingSession);
+            return;
+        }
+
+        try {
+            switch (drivingStatus) {
+                case START -> vehicleService.startDriving(drivingSession.userId, drivingData);
+                case DRIVING -> vehicleService.updateDriving(drivingSession.userId, drivingData);
+                case STOP -> vehicleService.stopDriving(drivingSession.userId, drivingData);
+            }
+        } catch (InvalidDrivingDataException exception) {
+            session.close(CloseStatus.BAD_DATA);
+            return;
+        } catch (SendMessageFailException exception) {
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+
+        drivingSession.lastDrivingData = drivingData;
+        drivingSession.isDriving = drivingStatus != DrivingDataProto.DrivingStatus.STOP;
+    }
+
+    @Override
+    public void afterConnectionClosed(final WebSocketSession session, final CloseStatus status) {
+        final DrivingSession drivingSession = getDrivingSession(session);
+        if (drivingSession == null || !drivingSession.isDriving) {
+            return;
+        }
+
+        drivingSession.isDriving = false;
+        try {
+            vehicleService.stopDriving(drivingSession.userId, DrivingSequence.following(drivingSession.lastDrivingData));
+        } catch (SendMessageFailException exception) {
+            // 연결이 이미 종료되었으므로 전송 실패를 알릴 수 없다
+        }
+    }
+}
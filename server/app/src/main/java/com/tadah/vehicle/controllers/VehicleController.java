@@ -4,11 +4,15 @@ import com.tadah.auth.applications.AuthorizationService;
 import com.tadah.auth.domains.entities.Role;
 import com.tadah.user.domains.entities.User;
 import com.tadah.vehicle.applications.VehicleService;
+import com.tadah.vehicle.dtos.DrivingDataProto;
 import com.tadah.vehicle.dtos.DrivingRequestData;
+import com.tadah.vehicle.dtos.TimestampedDrivingRequestData;
+import com.tadah.vehicle.exceptions.InvalidDrivingDataException;
 import com.tadah.vehicle.exceptions.SendMessageFailException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,17 +21,26 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+import static com.tadah.vehicle.utils.ProtobufHttpMessageConverter.PROTOBUF_VALUE;
 
 /**
  * 차량 생성, 운행여부 수정, 위치 업데이트를 담당한다.
+ * 운행 관련 요청은 JSON 외에 application/x-protobuf 형식의 DrivingData 메시지도 받는다.
  */
 @CrossOrigin
+@Validated
 @RestController
 @RequestMapping("/vehicles")
 public class VehicleController {
     private static final String DRIVER_ROLE = "DRIVER";
+    private static final int MAX_BATCH_SIZE = 500;
 
     private final VehicleService vehicleService;
     private final AuthorizationService authorizationService;
@@ -110,4 +123,101 @@ public class VehicleController {
         final Double longitude = drivingRequestData.getLongitude();
         this.vehicleService.updateDriving(userId, latitude, longitude);
     }
+
+    /**
+     * 차량 위치를 비동기로 업데이트한다.
+     * 요청 스레드는 바로 반환되며, 버퍼에 저장되면 응답한다.
+     *
+     * @param user 차량의 소유자
+     * @param drivingRequestData 업데이트할 차량의 위치 정보
+     * @return 버퍼에 저장되면 완료되는 Mono
+     * @throws SendMessageFailException 메시지 전송이 실패한 경우
+     */
+    @PutMapping("/driving/async")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("isAuthenticated() and hasAuthority('DRIVER')")
+    public Mono<Void> updateDrivingAsync(
+        @AuthenticationPrincipal final User user,
+        @RequestBody @Valid final DrivingRequestData drivingRequestData
+    ) {
+        final Long userId = user.getId();
+        final Double latitude = drivingRequestData.getLatitude();
+        final Double longitude = drivingRequestData.getLongitude();
+        return this.vehicleService.updateDrivingAsync(userId, latitude, longitude);
+    }
+
+    /**
+     * 차량 위치를 한 번에 업데이트한다.
+     * 통신이 끊긴 동안 모아둔 위치 정보를 하나의 요청으로 전송할 때 사용한다.
+     *
+     * @param user 차량의 소유자
+     * @param drivingRequestDataList 측정 시각이 포함된 차량의 위치 정보 목록
+     * @throws SendMessageFailException 메시지 전송이 실패한 경우
+     */
+    @PutMapping("/driving/batch")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("isAuthenticated() and hasAuthority('DRIVER')")
+    public void updateDrivings(
+        @AuthenticationPrincipal final User user,
+        @RequestBody
+        @NotEmpty(message = "위치 정보가 입력되지 않았습니다.")
+        @Size(max = MAX_BATCH_SIZE, message = "위치 정보의 개수가 너무 많습니다.")
+        final List<@Valid TimestampedDrivingRequestData> drivingRequestDataList
+    ) {
+        this.vehicleService.updateDrivings(user.getId(), drivingRequestDataList);
+    }
+
+    /**
+     * Protobuf 메시지로 차량 운행을 시작한다.
+     *
+     * @param user 차량의 소유자
+     * @param drivingData 차량 운행 시작 위치 정보
+     * @throws InvalidDrivingDataException 위치 정보가 유효하지 않은 경우
+     * @throws SendMessageFailException 메시지 전송이 실패한 경우
+     */
+    @PostMapping(value = "/driving", consumes = PROTOBUF_VALUE)
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("isAuthenticated() and hasAuthority('DRIVER')")
+    public void startDriving(
+        @AuthenticationPrincipal final User user,
+        @RequestBody final DrivingDataProto.DrivingData drivingData
+    ) {
+        this.vehicleService.startDriving(user.getId(), drivingData);
+    }
+
+    /**
+     * Protobuf 메시지로 차량 운행을 종료한다.
+     *
+     * @param user 차량의 소유자
+     * @param drivingData 차량 운행 종료 위치 정보
+     * @throws InvalidDrivingDataException 위치 정보가 유효하지 않은 경우
+     * @throws SendMessageFailException 메시지 전송이 실패한 경우
+     */
+    @DeleteMapping(value = "/driving", consumes = PROTOBUF_VALUE)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("isAuthenticated() and hasAuthority('DRIVER')")
+    public void stopDriving(
+        @AuthenticationPrincipal final User user,
+        @RequestBody final DrivingDataProto.DrivingData drivingData
+    ) {
+        this.vehicleService.stopDriving(user.getId(), drivingData);
+    }
+
+    /**
+     * Protobuf 메시지로 차량 위치를 업데이트한다.
+     *
+     * @param user 차량의 소유자
+     * @param drivingData 업데이트할 차량의 위치 정보
+     * @throws InvalidDrivingDataException 위치 정보가 유효하지 않은 경우
+     * @throws SendMessageFailException 메시지 전송이 실패한 경우
+     */
+    @PutMapping(value = "/driving", consumes = PROTOBUF_VALUE)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("isAuthenticated() and hasAuthority('DRIVER')")
+    public void updateDriving(
+        @AuthenticationPrincipal final User user,
+        @RequestBody final DrivingDataProto.DrivingData drivingData
+    ) {
+        this.vehicleService.updateDriving(user.getId(), drivingData);
+    }
 }
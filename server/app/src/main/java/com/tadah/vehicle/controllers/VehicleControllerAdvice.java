@@ -1,6 +1,7 @@
 package com.tadah.vehicle.controllers;
 
 import com.tadah.common.dtos.ErrorResponse;
+import com.tadah.vehicle.exceptions.InvalidDrivingDataException;
 import com.tadah.vehicle.exceptions.SendMessageFailException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -31,4 +32,21 @@ public final class VehicleControllerAdvice {
     ) {
         return new ErrorResponse(request, exception.getMessage());
     }
+
+    /**
+     * 차량 운행 데이터가 유효하지 않은 경우
+     * 해당 예외가 어디서 던져졌는지 리턴한다
+     *
+     * @param request 예외가 던져진 http 요청
+     * @param exception 컨트롤러에서 던져진 예외
+     * @return 던져진 예외의 내용 및 위치
+     */
+    @ResponseBody
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidDrivingDataException.class)
+    public ErrorResponse handleInvalidDrivingDataException(
+        final HttpServletRequest request, final InvalidDrivingDataException exception
+    ) {
+        return new ErrorResponse(request, exception.getMessage());
+    }
 }
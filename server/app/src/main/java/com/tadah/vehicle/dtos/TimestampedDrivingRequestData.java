@@ -0,0 +1,27 @@
+package com.tadah.vehicle.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Generated;
+import lombok.Getter;
+import org.hibernate.validator.constraints.Range;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * 측정 시각이 포함된 차량 운행 관련 데이터를 저장한다.
+ */
+@Generated
+@Getter
+@AllArgsConstructor
+public final class TimestampedDrivingRequestData {
+    @NotNull(message = "위도가 입력되지 않았습니다.")
+    @Range(min = -90, max = 90, message = "위도 범위를 벗어났습니다.")
+    private final Double latitude;
+
+    @NotNull(message = "경도가 입력되지 않았습니다.")
+    @Range(min = -180, max = 180, message = "경도 범위를 벗어났습니다.")
+    private final Double longitude;
+
+    @NotNull(message = "측정 시각이 입력되지 않았습니다.")
+    private final Long timestamp;
+}
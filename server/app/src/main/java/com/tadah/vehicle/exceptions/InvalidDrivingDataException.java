@@ -0,0 +1,10 @@
+package com.tadah.vehicle.exceptions;
+
+/**
+ * 차량 운행 데이터가 유효하지 않은 경우 던져진다.
+ */
+public class InvalidDrivingDataException extends RuntimeException {
+    public InvalidDrivingDataException(final String message) {
+        super(message);
+    }
+}
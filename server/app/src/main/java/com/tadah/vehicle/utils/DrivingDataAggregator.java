@@ -0,0 +1,131 @@
+package com.tadah.vehicle.utils;
+
+import com.google.protobuf.CodedOutputStream;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 DrivingData 메시지를 하나의 Kinesis 레코드로 묶는다
+ * 묶은 레코드는 매직 넘버 뒤에 repeated DrivingData drivingData = 1 필드를 이어 붙인 형식이다
+ */
+public final class DrivingDataAggregator {
+    public static final byte[] MAGIC = new byte[] {(byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2};
+    public static final int FIELD_NUMBER = 1;
+    public static final int MAX_RECORD_BYTES = 1024 * 1024 - 256;
+
+    private DrivingDataAggregator() {
+    }
+
+    /**
+     * 파티션 키와 묶은 레코드
+     */
+    @Getter
+    public static final class AggregatedRecord {
+        private final String partitionKey;
+        private final byte[] data;
+        private final int count;
+
+        private AggregatedRecord(final String partitionKey, final byte[] data, final int count) {
+            this.partitionKey = partitionKey;
+            this.data = data;
+            this.count = count;
+        }
+    }
+
+    /**
+     * 메시지를 묶었을 때 추가되는 크기를 리턴한다
+     *
+     * @param drivingData 묶을 메시지
+     * @return 추가되는 크기
+     */
+    public static int getAggregatedSize(final DrivingDataProto.DrivingData drivingData) {
+        return CodedOutputStream.computeMessageSize(FIELD_NUMBER, drivingData);
+    }
+
+    /**
+     * 메시지들을 하나의 레코드로 묶는다
+     *
+     * @param drivingDataList 묶을 메시지 목록
+     * @return 묶은 레코드
+     */
+    public static byte[] aggregate(final List<DrivingDataProto.DrivingData> drivingDataList) {
+        int size = MAGIC.length;
+        for (final DrivingDataProto.DrivingData drivingData : drivingDataList) {
+            size += getAggregatedSize(drivingData);
+        }
+
+        final byte[] bytes = new byte[size];
+        System.arraycopy(MAGIC, 0, bytes, 0, MAGIC.length);
+        final CodedOutputStream outputStream = CodedOutputStream.newInstance(bytes, MAGIC.length, size - MAGIC.length);
+        try {
+            for (final DrivingDataProto.DrivingData drivingData : drivingDataList) {
+                outputStream.writeMessage(FIELD_NUMBER, drivingData);
+            }
+            outputStream.checkNoSpaceLeft();
+        } catch (IOException exception) {
+            throw new IllegalStateException("Aggregation failed", exception);
+        }
+        return bytes;
+    }
+
+    /**
+     * 메시지들을 드라이버 아이디를 buckets로 나눈 나머지별로 묶는다
+     * 같은 드라이버의 메시지는 항상 같은 파티션 키를 가지므로 순서가 유지되며,
+     * 묶은 레코드가 Kinesis 레코드의 최대 크기를 넘는 경우 여러 레코드로 나눈다
+     *
+     * @param drivingDataList 묶을 메시지 목록
+     * @param buckets 파티션 키의 개수
+     * @return 묶은 레코드 목록
+     */
+    public static List<AggregatedRecord> aggregate(
+        final List<DrivingDataProto.DrivingData> drivingDataList,
+        final int buckets
+    ) {
+        final Map<String, List<DrivingDataProto.DrivingData>> partitions = new LinkedHashMap<>();
+        for (final DrivingDataProto.DrivingData drivingData : drivingDataList) {
+            partitions.computeIfAbsent(getPartitionKey(drivingData, buckets), key -> new ArrayList<>())
+                .add(drivingData);
+        }
+
+        final List<AggregatedRecord> records = new ArrayList<>(partitions.size());
+        partitions.forEach((partitionKey, partition) -> {
+            int from = 0;
+            int size = MAGIC.length;
+            for (int index = 0; index < partition.size(); index++) {
+                final int aggregatedSize = getAggregatedSize(partition.get(index));
+                if (index > from && size + aggregatedSize > MAX_RECORD_BYTES) {
+                    records.add(toRecord(partitionKey, partition.subList(from, index)));
+                    from = index;
+                    size = MAGIC.length;
+                }
+                size += aggregatedSize;
+            }
+            records.add(toRecord(partitionKey, partition.subList(from, partition.size())));
+        });
+        return records;
+    }
+
+    /**
+     * 메시지의 파티션 키를 리턴한다
+     *
+     * @param drivingData 메시지
+     * @param buckets 파티션 키의 개수
+     * @return 파티션 키
+     */
+    public static String getPartitionKey(final DrivingDataProto.DrivingData drivingData, final int buckets) {
+        return String.valueOf(Math.floorMod(drivingData.getUserId(), buckets));
+    }
+
+    private static AggregatedRecord toRecord(
+        final String partitionKey,
+        final List<DrivingDataProto.DrivingData> drivingDataList
+    ) {
+        return new AggregatedRecord(partitionKey, aggregate(drivingDataList), drivingDataList.size());
+    }
+}
@@ -0,0 +1,68 @@
+package com.tadah.vehicle.utils;
+
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * DrivingData 메시지의 sequence 값을 발급한다
+ * 서버가 재시작되어도 값이 줄어들지 않도록 현재 시각(밀리초)에 1000을 곱한 값부터 시작하며, 발급한 값은 항상 증가한다
+ * 인스턴스마다 따로 발급하므로 같은 드라이버의 요청이 여러 인스턴스로 나뉘면 인스턴스 간 시각 차이만큼 순서가 틀릴 수 있다
+ * 측정 시각이나 sequence를 보내는 요청은 클라이언트의 값으로 sequence를 만들어 인스턴스와 관계없이 순서를 유지한다
+ */
+@Component
+public final class DrivingSequence {
+    private static final long SEQUENCES_PER_MILLIS = 1000L;
+
+    private final LongSupplier currentTimeMillis;
+    private final AtomicLong last;
+
+    public DrivingSequence() {
+        this(System::currentTimeMillis);
+    }
+
+    public DrivingSequence(final LongSupplier currentTimeMillis) {
+        this.currentTimeMillis = currentTimeMillis;
+        this.last = new AtomicLong();
+    }
+
+    /**
+     * 다음 sequence 값을 리턴한다
+     *
+     * @return 이전에 발급한 값보다 큰 sequence 값
+     */
+    public long next() {
+        final long base = currentTimeMillis.getAsLong() * SEQUENCES_PER_MILLIS;
+        return last.updateAndGet(previous -> Math.max(previous + 1L, base));
+    }
+
+    /**
+     * 클라이언트가 측정한 시각으로 sequence 값을 만든다
+     * 서버가 발급하는 값과 같은 단위를 사용하며, 같은 시각에 측정한 위치는 offset으로 구분한다
+     *
+     * @param timestampMillis 측정 시각(밀리초)
+     * @param offset 같은 시각에 측정한 위치의 순서, SEQUENCES_PER_MILLIS보다 작아야 한다
+     * @return 측정 시각으로 만든 sequence 값
+     */
+    public static long of(final long timestampMillis, final int offset) {
+        return timestampMillis * SEQUENCES_PER_MILLIS + offset;
+    }
+
+    /**
+     * 클라이언트가 마지막으로 보낸 메시지 다음 순서의 메시지를 만든다
+     * 연결이 끊어져 서버가 대신 운행을 종료할 때, 클라이언트의 sequence와 같은 값으로 보내 중복으로 걸러지지 않게 한다
+     *
+     * @param drivingData 클라이언트가 마지막으로 보낸 메시지
+     * @return sequence를 1 늘린 메시지, sequence가 없으면 서버가 발급하도록 그대로 리턴한다
+     */
+    public static DrivingDataProto.DrivingData following(final DrivingDataProto.DrivingData drivingData) {
+        if (!drivingData.hasSequence()) {
+            return drivingData;
+        }
+        return drivingData.toBuilder()
+            .setSequence(drivingData.getSequence() + 1L)
+            .buildPartial();
+    }
+}
@@ -0,0 +1,61 @@
+package com.tadah.vehicle.utils;
+
+import io.grpc.Server;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * gRPC 서버를 애플리케이션과 함께 시작하고 종료한다
+ * 웹 서버와 같은 단계에서 종료하여 Kinesis Producer보다 먼저 위치 정보의 수신을 멈춘다
+ * 종료할 때는 처리중인 요청을 shutdown-timeout 동안 기다린 뒤 강제로 종료한다
+ */
+public final class GrpcServerLifecycle implements SmartLifecycle {
+    public static final int PHASE = Integer.MAX_VALUE - 1;
+
+    private final Server server;
+    private final long shutdownTimeoutMillis;
+
+    private volatile boolean running;
+
+    public GrpcServerLifecycle(final Server server, final long shutdownTimeoutMillis) {
+        this.server = server;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    @Override
+    public void start() {
+        try {
+            server.start();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,298 @@
+package com.tadah.vehicle.utils;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.PutRecordsResult;
+import com.amazonaws.services.kinesis.model.PutRecordsResultEntry;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import org.springframework.context.SmartLifecycle;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * KinesisProducer의 버퍼에 저장된 메시지를 PutRecords 요청으로 묶어서 직접 전송한다
+ * 요청은 최대 500개 또는 5MB까지 묶으며, 가득 차거나 linger 시간이 지나면 전송한다
+ * 파티션 키는 드라이버 아이디를 사용하므로 드라이버별 메시지는 같은 샤드로 전송된다
+ * 같은 파티션 키의 메시지가 여러 개 모인 경우 저장 순서가 바뀌지 않도록 여러 요청으로 나누어 전송한다
+ * aggregation-buckets가 0보다 큰 경우 메시지를 드라이버 아이디를 aggregation-buckets로 나눈 나머지별로 묶어서 전송하며,
+ * 요청에 포함되는 레코드의 개수가 500개를 넘지 않도록 aggregation-buckets는 500보다 충분히 작아야 하고,
+ * 샤드가 고르게 사용되도록 스트림의 샤드 수 이상이어야 한다
+ * 웹 서버와 gRPC 서버가 위치 정보의 수신을 멈춘 뒤에 종료하여 마지막으로 수신한 메시지까지 전송한다
+ * 종료할 때는 워커 스레드를 인터럽트하지 않고 linger 시간 안에 스스로 멈추게 하여 남은 메시지의 재전송이 중단되지 않도록 한다
+ */
+public final class KinesisBatchProducer implements SmartLifecycle {
+    public static final int PHASE = GrpcServerLifecycle.PHASE - 1;
+    public static final int MAX_RECORDS = 500;
+    public static final int MAX_BYTES = 5 * 1024 * 1024;
+    public static final int MAX_AGGREGATED_BYTES = MAX_BYTES - MAX_RECORDS * (DrivingDataAggregator.MAGIC.length + 16);
+
+    private static final long RETRY_BACKOFF_MILLIS = 100L;
+
+    private final AmazonKinesis amazonKinesis;
+    private final KinesisProducer kinesisProducer;
+    private final String streamName;
+    private final long lingerMillis;
+    private final int maxRetries;
+    private final int aggregationBuckets;
+    private final AtomicLong failedRecordCount;
+
+    private volatile boolean running;
+    private Thread worker;
+    private DrivingDataProto.DrivingData pendingDrivingData;
+
+    public KinesisBatchProducer(
+        final AmazonKinesis amazonKinesis,
+        final KinesisProducer kinesisProducer,
+        final String streamName,
+        final long lingerMillis,
+        final int maxRetries,
+        final int aggregationBuckets
+    ) {
+        this.amazonKinesis = amazonKinesis;
+        this.kinesisProducer = kinesisProducer;
+        this.streamName = streamName;
+        this.lingerMillis = lingerMillis;
+        this.maxRetries = maxRetries;
+        this.aggregationBuckets = aggregationBuckets;
+        this.failedRecordCount = new AtomicLong();
+    }
+
+    private static String getPartitionKey(final DrivingDataProto.DrivingData drivingData) {
+        return String.valueOf(drivingData.getUserId());
+    }
+
+    private static PutRecordsRequestEntry toEntry(final DrivingDataProto.DrivingData drivingData) {
+        return new PutRecordsRequestEntry()
+            .withPartitionKey(getPartitionKey(drivingData))
+            .withData(ByteBuffer.wrap(drivingData.toByteArray()));
+    }
+
+    private static PutRecordsRequestEntry toEntry(final DrivingDataAggregator.AggregatedRecord record) {
+        return new PutRecordsRequestEntry()
+            .withPartitionKey(record.getPartitionKey())
+            .withData(ByteBuffer.wrap(record.getData()));
+    }
+
+    private boolean isAggregated() {
+        return aggregationBuckets > 0;
+    }
+
+    private int getSize(final DrivingDataProto.DrivingData drivingData) {
+        if (isAggregated()) {
+            return DrivingDataAggregator.getAggregatedSize(drivingData);
+        }
+        return drivingData.getSerializedSize() + getPartitionKey(drivingData).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private List<PutRecordsRequestEntry> toEntries(final List<DrivingDataProto.DrivingData> drivingDataList) {
+        final List<PutRecordsRequestEntry> entries = new ArrayList<>();
+        if (isAggregated()) {
+            DrivingDataAggregator.aggregate(drivingDataList, aggregationBuckets)
+                .forEach(record -> entries.add(toEntry(record)));
+        } else {
+            drivingDataList.forEach(drivingData -> entries.add(toEntry(drivingData)));
+        }
+        return entries;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "kinesis-batch-producer");
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                flush(collect(lingerMillis));
+            } catch (InterruptedException exception) {
+                break;
+            }
+        }
+
+        // 인터럽트 상태가 남아 있으면 재전송 대기가 바로 실패하므로 남은 메시지를 전송하기 전에 지운다
+        Thread.interrupted();
+        List<PutRecordsRequestEntry> entries;
+        do {
+            entries = collectRemaining();
+            flush(entries);
+        } while (!entries.isEmpty());
+    }
+
+    /**
+     * 버퍼에서 한 번의 요청으로 전송할 메시지를 모은다
+     * aggregation-buckets가 설정된 경우 모은 메시지를 파티션 키별로 묶어서 하나의 레코드로 만든다
+     *
+     * @param lingerMillis 메시지를 모을 최대 시간
+     * @return 전송할 레코드 목록
+     * @throws InterruptedException 기다리는 도중 인터럽트된 경우
+     */
+    List<PutRecordsRequestEntry> collect(final long lingerMillis) throws InterruptedException {
+        final List<DrivingDataProto.DrivingData> drivingDataList = new ArrayList<>();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        final int maxRecords = isAggregated() ? Integer.MAX_VALUE : MAX_RECORDS;
+        final int maxBytes = isAggregated() ? MAX_AGGREGATED_BYTES : MAX_BYTES;
+        int bytes = 0;
+
+        while (drivingDataList.size() < maxRecords) {
+            final DrivingDataProto.DrivingData drivingData;
+            if (pendingDrivingData != null) {
+                drivingData = pendingDrivingData;
+                pendingDrivingData = null;
+            } else {
+                final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                drivingData = remainingMillis > 0 ? kinesisProducer.poll(remainingMillis) : null;
+                if (drivingData == null) {
+                    break;
+                }
+            }
+
+            final int size = getSize(drivingData);
+            if (bytes + size > maxBytes) {
+                pendingDrivingData = drivingData;
+                break;
+            }
+            drivingDataList.add(drivingData);
+            bytes += size;
+        }
+        return toEntries(drivingDataList);
+    }
+
+    private List<PutRecordsRequestEntry> collectRemaining() {
+        final List<DrivingDataProto.DrivingData> drivingDataList = new ArrayList<>();
+        if (pendingDrivingData != null) {
+            drivingDataList.add(pendingDrivingData);
+            pendingDrivingData = null;
+        }
+        drivingDataList.addAll(kinesisProducer.drain(MAX_RECORDS - drivingDataList.size()));
+        return toEntries(drivingDataList);
+    }
+
+    /**
+     * 메시지를 PutRecords 요청으로 전송한다
+     * 같은 파티션 키의 메시지는 앞의 메시지가 저장된 뒤에 전송하도록 요청마다 파티션 키별로 하나씩만 전송한다
+     * 전송에 실패한 메시지는 같은 파티션 키의 이후 메시지보다 먼저 재전송하며, 연속으로 max-retries번 실패하면 남은 메시지를 버린다
+     *
+     * @param entries 전송할 메시지 목록
+     */
+    void flush(final List<PutRecordsRequestEntry> entries) {
+        List<PutRecordsRequestEntry> remainingEntries = entries;
+
+        for (int attempt = 0; !remainingEntries.isEmpty(); ) {
+            if (attempt > maxRetries) {
+                failedRecordCount.addAndGet(remainingEntries.size());
+                return;
+            }
+            if (attempt > 0 && !backoff(attempt)) {
+                failedRecordCount.addAndGet(remainingEntries.size());
+                return;
+            }
+
+            final List<PutRecordsRequestEntry> headEntries = getHeadEntries(remainingEntries);
+            try {
+                final PutRecordsResult result = amazonKinesis.putRecords(new PutRecordsRequest()
+                    .withStreamName(streamName)
+                    .withRecords(headEntries));
+                final Set<String> failedPartitionKeys = getFailedPartitionKeys(headEntries, result);
+                remainingEntries = getRemainingEntries(remainingEntries, failedPartitionKeys);
+                attempt = failedPartitionKeys.isEmpty() ? 0 : attempt + 1;
+            } catch (AmazonClientException exception) {
+                // 요청 전체가 실패한 경우 같은 메시지를 재전송한다
+                attempt++;
+            }
+        }
+    }
+
+    private boolean backoff(final int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MILLIS << (attempt - 1));
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static List<PutRecordsRequestEntry> getHeadEntries(final List<PutRecordsRequestEntry> entries) {
+        final List<PutRecordsRequestEntry> headEntries = new ArrayList<>();
+        final Set<String> partitionKeys = new HashSet<>();
+        for (final PutRecordsRequestEntry entry : entries) {
+            if (partitionKeys.add(entry.getPartitionKey())) {
+                headEntries.add(entry);
+            }
+        }
+        return headEntries;
+    }
+
+    private static Set<String> getFailedPartitionKeys(
+        final List<PutRecordsRequestEntry> headEntries,
+        final PutRecordsResult result
+    ) {
+        if (result.getFailedRecordCount() == null || result.getFailedRecordCount() == 0) {
+            return Set.of();
+        }
+
+        final Set<String> failedPartitionKeys = new HashSet<>();
+        final List<PutRecordsResultEntry> resultEntries = result.getRecords();
+        for (int index = 0; index < resultEntries.size(); index++) {
+            if (resultEntries.get(index).getErrorCode() != null) {
+                failedPartitionKeys.add(headEntries.get(index).getPartitionKey());
+            }
+        }
+        return failedPartitionKeys;
+    }
+
+    private static List<PutRecordsRequestEntry> getRemainingEntries(
+        final List<PutRecordsRequestEntry> entries,
+        final Set<String> failedPartitionKeys
+    ) {
+        final List<PutRecordsRequestEntry> remainingEntries = new ArrayList<>();
+        final Set<String> partitionKeys = new HashSet<>();
+        for (final PutRecordsRequestEntry entry : entries) {
+            // 파티션 키별 첫 번째 메시지는 이번 요청으로 전송되었으므로 실패한 경우에만 남긴다
+            if (!partitionKeys.add(entry.getPartitionKey()) || failedPartitionKeys.contains(entry.getPartitionKey())) {
+                remainingEntries.add(entry);
+            }
+        }
+        return remainingEntries;
+    }
+
+    /**
+     * 재전송 횟수를 초과하여 전송에 실패한 메시지의 개수를 리턴한다
+     *
+     * @return 전송에 실패한 메시지의 개수
+     */
+    public long getFailedRecordCount() {
+        return failedRecordCount.get();
+    }
+}
@@ -1,35 +1,230 @@
 package com.tadah.vehicle.utils;
 
 import com.tadah.vehicle.dtos.DrivingDataProto;
-import org.springframework.context.annotation.Bean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.function.context.PollableBean;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 /**
  * AWS Kinesis Stream 전송을 수행한다
+ * 전송할 메시지는 크기가 고정된 버퍼에 저장하며, 버퍼가 가득 찬 경우 설정된 정책에 따라 처리한다
+ * 버퍼의 빈 공간은 세마포어로 관리하며, 공간을 먼저 확보한 뒤 저장하므로 여러 메시지를 한 번에 저장해도 일부만 저장되지 않는다
+ * 공간을 기다리는 동안 락을 점유하지 않으므로 다른 전송을 막지 않는다
+ * 비동기 전송은 버퍼에 공간이 생길 때까지 스레드를 점유하지 않고 타이머로 다시 시도한다
  */
 @Component
 public final class KinesisProducer {
+    /**
+     * 버퍼가 가득 찬 경우의 처리 정책
+     */
+    public enum OverflowPolicy {
+        /**
+         * 메시지 전송을 거절한다
+         */
+        REJECT,
+        /**
+         * 버퍼에 공간이 생길 때까지 설정된 시간만큼 기다린다
+         */
+        BLOCK,
+        /**
+         * 가장 오래된 메시지를 버리고 저장한다
+         */
+        DROP_OLDEST
+    }
+
+    public static final String PARTITION_KEY_HEADER = "partitionKey";
+
+    private static final long MAX_ASYNC_BACKOFF_MILLIS = 16L;
+
     private final BlockingQueue<DrivingDataProto.DrivingData> blockingQueue;
+    private final Semaphore permits;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutMillis;
+    private final int batchSize;
+    private final int aggregationBuckets;
 
-    public KinesisProducer() {
-        this.blockingQueue = new LinkedBlockingQueue<>();
+    public KinesisProducer(
+        @Value("${kinesis.producer.capacity:10000}") final int capacity,
+        @Value("${kinesis.producer.overflow-policy:REJECT}") final OverflowPolicy overflowPolicy,
+        @Value("${kinesis.producer.offer-timeout-millis:100}") final long offerTimeoutMillis,
+        @Value("${kinesis.producer.batch-size:500}") final int batchSize,
+        @Value("${kinesis.producer.aggregation-buckets:64}") final int aggregationBuckets
+    ) {
+        this.blockingQueue = new ArrayBlockingQueue<>(capacity);
+        this.permits = new Semaphore(capacity);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.batchSize = batchSize;
+        this.aggregationBuckets = aggregationBuckets;
     }
 
     /**
      * Kinesis Producer 등록한다
+     * 한 번의 poll마다 버퍼에 저장된 메시지를 최대 batch-size만큼 전송한다
      *
      * @return Kinesis Producer
      */
-    @Bean
-    public Supplier<DrivingDataProto.DrivingData> produceDriving() {
-        return this.blockingQueue::poll;
+    @PollableBean
+    public Supplier<Flux<DrivingDataProto.DrivingData>> produceDriving() {
+        return () -> Flux.fromIterable(drain(batchSize));
     }
 
+    /**
+     * 메시지를 묶어서 전송하는 Kinesis Producer 등록한다
+     * 한 번의 poll마다 버퍼에 저장된 메시지를 최대 batch-size만큼 꺼내서 aggregation-buckets개의 파티션 키별로 묶는다
+     * spring.cloud.function.definition을 produceAggregatedDriving으로 설정한 경우에 사용된다
+     * 묶은 레코드는 partitionKey 헤더에 버킷 번호를 담으며, 출력 바인딩의 partition-key-expression을 이 헤더로,
+     * partition-count를 aggregation-buckets로 설정해야 버킷별로 다른 Kinesis 파티션 키로 전송된다
+     * 샤드가 고르게 사용되도록 aggregation-buckets는 스트림의 샤드 수 이상이어야 한다
+     * 묶은 레코드는 tracker의 processDrivingBatch Consumer만 풀어서 처리할 수 있다
+     *
+     * @return Kinesis Producer
+     */
+    @PollableBean
+    public Supplier<Flux<Message<byte[]>>> produceAggregatedDriving() {
+        return () -> Flux.fromIterable(DrivingDataAggregator.aggregate(drain(batchSize), aggregationBuckets))
+            .map(record -> MessageBuilder.withPayload(record.getData())
+                .setHeader(PARTITION_KEY_HEADER, Integer.parseInt(record.getPartitionKey()))
+                .build());
+    }
+
+    /**
+     * 메시지를 버퍼에 저장한다
+     *
+     * @param drivingData 전송할 메시지
+     * @return 저장에 성공한 경우 true
+     */
     public boolean sendData(final DrivingDataProto.DrivingData drivingData) {
-        return this.blockingQueue.offer(drivingData);
+        if (!reserve(1)) {
+            return false;
+        }
+        blockingQueue.add(drivingData);
+        return true;
+    }
+
+    /**
+     * 메시지를 비동기로 버퍼에 저장한다
+     * BLOCK 정책인 경우 버퍼가 가득 차면 설정된 시간 동안 1ms부터 최대 16ms까지 간격을 늘려가며 다시 시도한다
+     * 다시 시도할 때는 기다리지 않고 공간 확보만 시도하므로 스케줄러 스레드를 점유하지 않는다
+     *
+     * @param drivingData 전송할 메시지
+     * @return 저장에 성공한 경우 true를 발행하는 Mono
+     */
+    public Mono<Boolean> sendDataAsync(final DrivingDataProto.DrivingData drivingData) {
+        if (overflowPolicy != OverflowPolicy.BLOCK) {
+            return Mono.fromCallable(() -> sendData(drivingData));
+        }
+
+        return Mono.fromCallable(() -> tryOffer(drivingData))
+            .filter(Boolean::booleanValue)
+            .repeatWhenEmpty(attempts -> attempts.concatMap(attempt -> Mono.delay(backoff(attempt))))
+            .timeout(Duration.ofMillis(offerTimeoutMillis), Mono.just(false));
+    }
+
+    private static Duration backoff(final long attempt) {
+        return Duration.ofMillis(Math.min(1L << Math.min(attempt, 4L), MAX_ASYNC_BACKOFF_MILLIS));
+    }
+
+    private boolean tryOffer(final DrivingDataProto.DrivingData drivingData) {
+        if (!permits.tryAcquire()) {
+            return false;
+        }
+        blockingQueue.add(drivingData);
+        return true;
+    }
+
+    /**
+     * 여러 메시지를 순서대로 버퍼에 저장한다
+     * 모든 메시지를 저장할 공간을 확보한 경우에만 저장하므로 일부만 저장되지 않는다
+     *
+     * @param drivingDataList 전송할 메시지 목록
+     * @return 저장에 성공한 경우 true
+     */
+    public boolean sendAll(final List<DrivingDataProto.DrivingData> drivingDataList) {
+        if (drivingDataList.size() > capacity || !reserve(drivingDataList.size())) {
+            return false;
+        }
+        blockingQueue.addAll(drivingDataList);
+        return true;
+    }
+
+    /**
+     * 정책에 따라 버퍼에 size개의 공간을 확보한다
+     * 확보한 공간은 메시지를 꺼낼 때 반환된다
+     */
+    private boolean reserve(final int size) {
+        return switch (overflowPolicy) {
+            case REJECT -> permits.tryAcquire(size);
+            case BLOCK -> {
+                try {
+                    yield permits.tryAcquire(size, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    yield false;
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!permits.tryAcquire(size)) {
+                    if (blockingQueue.poll() != null) {
+                        permits.release();
+                    } else {
+                        Thread.onSpinWait();
+                    }
+                }
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * 버퍼에 저장된 메시지를 꺼낸다
+     *
+     * @param maxSize 꺼낼 메시지의 최대 개수
+     * @return 꺼낸 메시지 목록
+     */
+    public List<DrivingDataProto.DrivingData> drain(final int maxSize) {
+        final List<DrivingDataProto.DrivingData> drivingDataList = new ArrayList<>(Math.min(maxSize, blockingQueue.size()));
+        permits.release(blockingQueue.drainTo(drivingDataList, maxSize));
+        return drivingDataList;
+    }
+
+    /**
+     * 버퍼에 저장된 메시지를 하나 꺼낸다
+     * 버퍼가 비어있는 경우 메시지가 저장될 때까지 기다린다
+     *
+     * @param timeoutMillis 기다릴 최대 시간
+     * @return 꺼낸 메시지, 시간 내에 저장된 메시지가 없는 경우 null
+     * @throws InterruptedException 기다리는 도중 인터럽트된 경우
+     */
+    public DrivingDataProto.DrivingData poll(final long timeoutMillis) throws InterruptedException {
+        final DrivingDataProto.DrivingData drivingData = blockingQueue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (drivingData != null) {
+            permits.release();
+        }
+        return drivingData;
+    }
+
+    /**
+     * 버퍼에 저장된 메시지의 개수를 리턴한다
+     *
+     * @return 메시지의 개수
+     */
+    public int size() {
+        return blockingQueue.size();
     }
 }
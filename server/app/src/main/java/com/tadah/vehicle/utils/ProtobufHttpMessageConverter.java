@@ -0,0 +1,45 @@
+package com.tadah.vehicle.utils;
+
+import com.google.protobuf.MessageLite;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * application/x-protobuf 요청 본문과 Protobuf Message간 변환을 수행한다
+ * 서버에서 채우는 필드가 비어있을 수 있으므로 필수 필드를 확인하지 않고 변환한다
+ */
+public final class ProtobufHttpMessageConverter extends AbstractHttpMessageConverter<MessageLite> {
+    public static final String PROTOBUF_VALUE = "application/x-protobuf";
+    public static final MediaType PROTOBUF = MediaType.parseMediaType(PROTOBUF_VALUE);
+
+    public ProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(final Class<?> clazz) {
+        return MessageLite.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected MessageLite readInternal(
+        final Class<? extends MessageLite> clazz,
+        final HttpInputMessage inputMessage
+    ) throws IOException {
+        try {
+            return ProtobufMessageConverter.getParser(clazz).parsePartialFrom(inputMessage.getBody());
+        } catch (IOException exception) {
+            throw new HttpMessageNotReadableException(exception.getMessage(), exception, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(final MessageLite message, final HttpOutputMessage outputMessage) throws IOException {
+        message.writeTo(outputMessage.getBody());
+    }
+}
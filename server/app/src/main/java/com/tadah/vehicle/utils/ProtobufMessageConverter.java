@@ -1,18 +1,72 @@
 package com.tadah.vehicle.utils;
 
 import com.google.protobuf.AbstractMessageLite;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.converter.AbstractMessageConverter;
 import org.springframework.util.MimeType;
 
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
 
 public final class ProtobufMessageConverter extends AbstractMessageConverter {
+    private static final ClassValue<Parser<? extends MessageLite>> PARSERS = new ClassValue<>() {
+        @Override
+        protected Parser<? extends MessageLite> computeValue(final Class<?> type) {
+            try {
+                return ((MessageLite) type.getMethod("getDefaultInstance").invoke(null)).getParserForType();
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException exception) {
+                throw new IllegalStateException("Unsupported type: " + type, exception);
+            }
+        }
+    };
+
     public ProtobufMessageConverter() {
         super(new MimeType("application", "x-protobuf"));
     }
 
+    /**
+     * 메시지 타입의 Parser를 리턴한다
+     * Parser는 메시지 타입별로 한 번만 조회하여 캐싱한다
+     *
+     * @param type 메시지 타입
+     * @return Parser
+     */
+    public static Parser<? extends MessageLite> getParser(final Class<?> type) {
+        return PARSERS.get(type);
+    }
+
+    /**
+     * 레코드를 메시지로 변환한다
+     * ByteBuffer, CodedInputStream은 byte[]로 복사하지 않고 변환한다
+     *
+     * @param type 메시지 타입
+     * @param payload byte[], ByteBuffer, CodedInputStream 타입의 레코드
+     * @return 메시지
+     */
+    public static Object parse(final Class<?> type, final Object payload) {
+        final Parser<? extends MessageLite> parser = getParser(type);
+
+        try {
+            if (payload instanceof byte[]) {
+                return parser.parseFrom((byte[]) payload);
+            }
+            if (payload instanceof ByteBuffer) {
+                return parser.parseFrom((ByteBuffer) payload);
+            }
+            if (payload instanceof CodedInputStream) {
+                return parser.parseFrom((CodedInputStream) payload);
+            }
+        } catch (InvalidProtocolBufferException exception) {
+            throw new IllegalStateException("Invalid input: " + payload, exception);
+        }
+        throw new IllegalStateException("Unsupported input: " + payload);
+    }
+
     @Override
     protected boolean supports(final Class<?> clazz) {
         return AbstractMessageLite.class.isAssignableFrom(clazz);
@@ -25,13 +79,6 @@ public final class ProtobufMessageConverter extends AbstractMessageConverter {
 
     @Override
     protected Object convertFromInternal(final Message<?> message, final Class<?> targetClass, final Object conversionHint) {
-        final Object payload = message.getPayload();
-
-        try {
-            return targetClass.getMethod("parseFrom", byte[].class)
-                .invoke(null, payload);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException exception) {
-            throw new IllegalStateException("Unsupported input: " + payload, exception);
-        }
+        return parse(targetClass, message.getPayload());
     }
 }
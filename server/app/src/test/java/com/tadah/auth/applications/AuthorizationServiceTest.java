@@ -2,7 +2,9 @@ package com.tadah.auth.applications;
 
 import com.tadah.auth.domains.entities.Role;
 import com.tadah.auth.domains.repositories.RoleRepository;
+import com.tadah.auth.authentications.UserAuthentication;
 import com.tadah.auth.domains.repositories.infra.JpaRoleRepository;
+import com.tadah.auth.utils.PrincipalCache;
 import com.tadah.user.domains.repositories.infra.JpaUserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +13,9 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -29,10 +34,12 @@ public class AuthorizationServiceTest {
     private JpaUserRepository jpaUserRepository;
 
     private final RoleRepository roleRepository;
+    private final PrincipalCache principalCache;
     private final AuthorizationService authorizationService;
     public AuthorizationServiceTest(@Autowired final RoleRepository roleRepository) {
         this.roleRepository = roleRepository;
-        this.authorizationService = new AuthorizationService(roleRepository);
+        this.principalCache = new PrincipalCache(10L, 60L);
+        this.authorizationService = new AuthorizationService(roleRepository, principalCache);
     }
 
     @AfterEach
@@ -55,6 +62,35 @@ public class AuthorizationServiceTest {
                 .matches(role -> ROLE.getName().equals(role.getName()))
                 .matches(role -> ROLE.getUserId().equals(role.getUserId()));
         }
+
+        @Test
+        @DisplayName("캐싱된 인증 정보를 삭제한다.")
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public void it_invalidates_the_cached_principal() {
+            principalCache.get(ROLE.getUserId(), userId -> new UserAuthentication(null, List.of()));
+
+            subject();
+
+            assertThat(principalCache.get(ROLE.getUserId(), userId -> new UserAuthentication(null, List.of(ROLE))).getAuthorities().isEmpty())
+                .isFalse();
+        }
+
+        @Test
+        @DisplayName("트랜잭션 안에서 호출된 경우 커밋한 뒤에 캐싱된 인증 정보를 삭제한다.")
+        public void it_invalidates_the_cached_principal_after_commit() {
+            principalCache.get(ROLE.getUserId(), userId -> new UserAuthentication(null, List.of()));
+
+            subject();
+
+            assertThat(principalCache.get(ROLE.getUserId(), userId -> new UserAuthentication(null, List.of(ROLE))).getAuthorities().isEmpty())
+                .isTrue();
+
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+
+            assertThat(principalCache.get(ROLE.getUserId(), userId -> new UserAuthentication(null, List.of(ROLE))).getAuthorities().isEmpty())
+                .isFalse();
+        }
     }
 
     @Nested
@@ -0,0 +1,163 @@
+package com.tadah.auth.filters;
+
+import com.google.protobuf.UInt64Value;
+import com.tadah.auth.applications.AuthenticationService;
+import com.tadah.auth.applications.AuthorizationService;
+import com.tadah.auth.domains.entities.Role;
+import com.tadah.auth.exceptions.InvalidTokenException;
+import com.tadah.vehicle.applications.VehicleService;
+import com.tadah.vehicle.controllers.DrivingGrpcService;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import io.grpc.CallOptions;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.internal.testing.StreamRecorder;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.tadah.user.domains.entities.UserTest.USER_ID;
+import static com.tadah.vehicle.applications.VehicleServiceTest.START_DRIVING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("JwtServerInterceptor 클래스")
+public final class JwtServerInterceptorTest {
+    private static final String TOKEN = "token";
+    private static final String INVALID_TOKEN = "invalid";
+
+    private AuthenticationService authenticationService;
+    private AuthorizationService authorizationService;
+    private VehicleService vehicleService;
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    private void beforeEach() throws Exception {
+        authenticationService = mock(AuthenticationService.class);
+        authorizationService = mock(AuthorizationService.class);
+        vehicleService = mock(VehicleService.class);
+
+        final String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+            .directExecutor()
+            .addService(ServerInterceptors.intercept(
+                new DrivingGrpcService(vehicleService, 1L),
+                new JwtServerInterceptor(authenticationService, authorizationService)
+            ))
+            .build()
+            .start();
+        channel = InProcessChannelBuilder.forName(serverName)
+            .directExecutor()
+            .build();
+
+        when(authenticationService.getUserId(TOKEN)).thenReturn(USER_ID);
+        when(authenticationService.getUserId(INVALID_TOKEN)).thenThrow(new InvalidTokenException());
+    }
+
+    @AfterEach
+    private void afterEach() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("interceptCall 메서드는")
+    public final class Describe_interceptCall {
+        private StreamRecorder<UInt64Value> subject(final String authorizationHeader) throws Exception {
+            final Metadata headers = new Metadata();
+            if (authorizationHeader != null) {
+                headers.put(JwtServerInterceptor.AUTHORIZATION_HEADER, authorizationHeader);
+            }
+
+            final StreamRecorder<UInt64Value> recorder = StreamRecorder.create();
+            final StreamObserver<DrivingDataProto.DrivingData> requestObserver =
+                ClientCalls.asyncBidiStreamingCall(
+                    ClientInterceptors.intercept(channel, MetadataUtils.newAttachHeadersInterceptor(headers))
+                        .newCall(DrivingGrpcService.STREAM_LOCATIONS_METHOD, CallOptions.DEFAULT),
+                    recorder
+                );
+            requestObserver.onNext(START_DRIVING);
+            requestObserver.onCompleted();
+            recorder.awaitCompletion(1, TimeUnit.SECONDS);
+            return recorder;
+        }
+
+        private void assertStatus(final StreamRecorder<UInt64Value> recorder, final Status.Code code) {
+            assertThat(Status.fromThrowable(recorder.getError()).getCode())
+                .isEqualTo(code);
+            verify(vehicleService, never()).startDriving(USER_ID, START_DRIVING);
+        }
+
+        @Nested
+        @DisplayName("토큰이 없는 경우")
+        public final class Context_noToken {
+            @Test
+            @DisplayName("UNAUTHENTICATED 상태로 스트림을 종료한다.")
+            public void it_closes_the_stream_with_unauthenticated() throws Exception {
+                assertStatus(subject(null), Status.Code.UNAUTHENTICATED);
+            }
+
+            @Test
+            @DisplayName("Bearer 토큰이 아닌 경우 UNAUTHENTICATED 상태로 스트림을 종료한다.")
+            public void it_closes_the_stream_with_unauthenticated_without_bearer() throws Exception {
+                assertStatus(subject(TOKEN), Status.Code.UNAUTHENTICATED);
+            }
+        }
+
+        @Nested
+        @DisplayName("토큰이 유효하지 않은 경우")
+        public final class Context_invalidToken {
+            @Test
+            @DisplayName("UNAUTHENTICATED 상태로 스트림을 종료한다.")
+            public void it_closes_the_stream_with_unauthenticated() throws Exception {
+                assertStatus(subject("Bearer " + INVALID_TOKEN), Status.Code.UNAUTHENTICATED);
+            }
+        }
+
+        @Nested
+        @DisplayName("DRIVER 권한이 없는 경우")
+        public final class Context_notDriver {
+            @Test
+            @DisplayName("PERMISSION_DENIED 상태로 스트림을 종료한다.")
+            public void it_closes_the_stream_with_permission_denied() throws Exception {
+                when(authorizationService.list(USER_ID)).thenReturn(List.of(new Role(USER_ID, "RIDER")));
+
+                assertStatus(subject("Bearer " + TOKEN), Status.Code.PERMISSION_DENIED);
+            }
+        }
+
+        @Nested
+        @DisplayName("DRIVER 권한이 있는 경우")
+        public final class Context_driver {
+            @Test
+            @DisplayName("사용자 아이디로 위치 정보를 처리한다.")
+            public void it_processes_locations_with_the_user_id() throws Exception {
+                when(authorizationService.list(USER_ID)).thenReturn(List.of(new Role(USER_ID, "DRIVER")));
+
+                final StreamRecorder<UInt64Value> recorder = subject("Bearer " + TOKEN);
+
+                assertThat(recorder.getError()).isNull();
+                assertThat(recorder.getValues()).containsExactly(UInt64Value.of(1L));
+                verify(vehicleService).startDriving(USER_ID, START_DRIVING);
+            }
+        }
+    }
+}
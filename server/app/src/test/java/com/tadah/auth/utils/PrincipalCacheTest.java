@@ -0,0 +1,111 @@
+package com.tadah.auth.utils;
+
+import com.tadah.auth.authentications.UserAuthentication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.tadah.auth.domains.entities.RoleTest.ROLE;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+
+@DisplayName("PrincipalCache 클래스")
+public final class PrincipalCacheTest {
+    private static final Long USER_ID = 1L;
+
+    private PrincipalCache principalCache;
+    private AtomicInteger loadCount;
+    private Function<Long, UserAuthentication> loader;
+
+    @BeforeEach
+    private void beforeEach() {
+        principalCache = new PrincipalCache(10L, 60L);
+        loadCount = new AtomicInteger();
+        loader = userId -> {
+            loadCount.incrementAndGet();
+            return new UserAuthentication(null, List.of(ROLE));
+        };
+    }
+
+    @Nested
+    @DisplayName("get 메서드는")
+    public final class Describe_get {
+        private UserAuthentication subject() {
+            return principalCache.get(USER_ID, loader);
+        }
+
+        @Test
+        @DisplayName("저장된 인증 정보를 다시 조회하지 않고 리턴한다.")
+        public void it_returns_the_cached_authentication() {
+            final UserAuthentication authentication = subject();
+
+            assertThat(subject())
+                .isSameAs(authentication);
+            assertThat(loadCount.get())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("조회하는 동안 인증 정보가 삭제된 경우 조회한 인증 정보를 남겨두지 않는다.")
+        public void it_does_not_keep_the_authentication_invalidated_while_loading() {
+            principalCache.get(USER_ID, userId -> {
+                loadCount.incrementAndGet();
+                principalCache.invalidate(USER_ID);
+                return new UserAuthentication(null, List.of());
+            });
+
+            assertThat(subject().getAuthorities().isEmpty())
+                .isFalse();
+            assertThat(loadCount.get())
+                .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("조회 중 발생한 예외를 그대로 던진다.")
+        public void it_throws_the_exception_thrown_while_loading() {
+            final IllegalArgumentException exception = new IllegalArgumentException();
+
+            assertThatThrownBy(() -> principalCache.get(USER_ID, userId -> {
+                throw exception;
+            }))
+                .isSameAs(exception);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate 메서드는")
+    public final class Describe_invalidate {
+        @Test
+        @DisplayName("사용자의 인증 정보를 삭제한다.")
+        public void it_invalidates_the_authentication() {
+            principalCache.get(USER_ID, loader);
+
+            principalCache.invalidate(USER_ID);
+            principalCache.get(USER_ID, loader);
+
+            assertThat(loadCount.get())
+                .isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidateAll 메서드는")
+    public final class Describe_invalidateAll {
+        @Test
+        @DisplayName("모든 인증 정보를 삭제한다.")
+        public void it_invalidates_all_authentications() {
+            principalCache.get(USER_ID, loader);
+
+            principalCache.invalidateAll();
+            principalCache.get(USER_ID, loader);
+
+            assertThat(loadCount.get())
+                .isEqualTo(2);
+        }
+    }
+}
@@ -1,21 +1,34 @@
 package com.tadah.vehicle.applications;
 
 import com.tadah.vehicle.dtos.DrivingDataProto;
+import com.tadah.vehicle.dtos.TimestampedDrivingRequestData;
+import com.tadah.vehicle.exceptions.InvalidDrivingDataException;
 import com.tadah.vehicle.exceptions.SendMessageFailException;
+import com.tadah.vehicle.utils.DrivingSequence;
 import com.tadah.vehicle.utils.KinesisProducer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.stream.Stream;
 
 import static com.tadah.user.domains.entities.UserTest.USER_ID;
+import static com.tadah.vehicle.utils.DrivingSequenceTest.CURRENT_TIME_MILLIS;
+import static com.tadah.vehicle.utils.DrivingSequenceTest.SEQUENCE;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.mock;
@@ -50,17 +63,30 @@ public class VehicleServiceTest {
     @Mock
     private KinesisProducer kinesisProducer;
 
+    @Spy
+    private DrivingSequence drivingSequence = new DrivingSequence(() -> CURRENT_TIME_MILLIS);
+
     @InjectMocks
     private VehicleService vehicleService;
 
+    private static DrivingDataProto.DrivingData sequenced(final DrivingDataProto.DrivingData drivingData, final long sequence) {
+        return drivingData.toBuilder()
+            .setSequence(sequence)
+            .build();
+    }
+
+    private static DrivingDataProto.DrivingData sequenced(final DrivingDataProto.DrivingData drivingData) {
+        return sequenced(drivingData, SEQUENCE);
+    }
+
     private void mockSendData(final boolean isSuccess, final DrivingDataProto.DrivingData drivingData) {
-        when(kinesisProducer.sendData(drivingData))
+        when(kinesisProducer.sendData(sequenced(drivingData)))
             .thenReturn(isSuccess);
     }
 
     private void verifySendData(final DrivingDataProto.DrivingData drivingData) {
         verify(kinesisProducer, atMostOnce())
-            .sendData(drivingData);
+            .sendData(sequenced(drivingData));
     }
 
     @Nested
@@ -182,4 +208,205 @@ public class VehicleServiceTest {
             subject(LATITUDE, LONGITUDE);
         }
     }
+
+    @Nested
+    @DisplayName("updateDrivingAsync 메서드는")
+    public final class Describe_updateDrivingAsync {
+        private Mono<Void> subject() {
+            return vehicleService.updateDrivingAsync(USER_ID, LATITUDE, LONGITUDE);
+        }
+
+        private void mockSendDataAsync(final boolean isSuccess) {
+            when(kinesisProducer.sendDataAsync(sequenced(UPDATE_DRIVING)))
+                .thenReturn(Mono.just(isSuccess));
+        }
+
+        @Nested
+        @DisplayName("메시지 전송에 실패한 경우")
+        public final class Context_sendMessageFail {
+            @Test
+            @DisplayName("SendMessageFailException으로 종료된다")
+            public void it_emits_a_send_message_fail_exception() {
+                mockSendDataAsync(false);
+
+                assertThatThrownBy(() -> subject().block())
+                    .isInstanceOf(SendMessageFailException.class);
+            }
+        }
+
+        @Test
+        @DisplayName("메시지가 버퍼에 저장되면 완료된다")
+        public void it_completes_when_the_message_is_stored() {
+            mockSendDataAsync(true);
+
+            subject().block();
+
+            verify(kinesisProducer).sendDataAsync(sequenced(UPDATE_DRIVING));
+        }
+    }
+
+    @Nested
+    @DisplayName("updateDrivings 메서드는")
+    public final class Describe_updateDrivings {
+        private final DrivingDataProto.DrivingData previousDriving = UPDATE_DRIVING.toBuilder()
+            .setLatitude(LATITUDE + 0.001D)
+            .build();
+        private final List<DrivingDataProto.DrivingData> drivingDataList = List.of(
+            sequenced(previousDriving, DrivingSequence.of(1L, 0)),
+            sequenced(UPDATE_DRIVING, DrivingSequence.of(2L, 0))
+        );
+
+        private void subject() {
+            vehicleService.updateDrivings(USER_ID, List.of(
+                new TimestampedDrivingRequestData(LATITUDE, LONGITUDE, 2L),
+                new TimestampedDrivingRequestData(previousDriving.getLatitude(), LONGITUDE, 1L)
+            ));
+        }
+
+        private void mockSendAll(final boolean isSuccess) {
+            when(kinesisProducer.sendAll(drivingDataList))
+                .thenReturn(isSuccess);
+        }
+
+        @AfterEach
+        private void afterEach() {
+            verify(kinesisProducer, atMostOnce())
+                .sendAll(drivingDataList);
+        }
+
+        @Nested
+        @DisplayName("메시지 전송에 실패한 경우")
+        public final class Context_sendMessageFail {
+            @BeforeEach
+            private void beforeEach() {
+                mockSendAll(false);
+            }
+
+            @Test
+            @DisplayName("SendMessageFailException을 던진다")
+            public void it_throws_a_send_message_fail_exception() {
+                assertThatThrownBy(() -> subject())
+                    .isInstanceOf(SendMessageFailException.class);
+            }
+        }
+
+        @Test
+        @DisplayName("측정 시각 순서로 정렬하고 측정 시각으로 sequence를 채운 운행 정보를 한 번에 전송한다")
+        public void it_sends_the_driving_data_in_order() {
+            mockSendAll(true);
+
+            subject();
+        }
+
+        @Test
+        @DisplayName("같은 시각에 측정한 위치는 sequence를 차례로 늘린다")
+        public void it_increases_the_sequence_of_the_same_timestamp() {
+            final List<DrivingDataProto.DrivingData> sameTimeDrivingDataList = List.of(
+                sequenced(previousDriving, DrivingSequence.of(1L, 0)),
+                sequenced(UPDATE_DRIVING, DrivingSequence.of(1L, 1))
+            );
+            when(kinesisProducer.sendAll(sameTimeDrivingDataList))
+                .thenReturn(true);
+
+            vehicleService.updateDrivings(USER_ID, List.of(
+                new TimestampedDrivingRequestData(previousDriving.getLatitude(), LONGITUDE, 1L),
+                new TimestampedDrivingRequestData(LATITUDE, LONGITUDE, 1L)
+            ));
+
+            verify(kinesisProducer).sendAll(sameTimeDrivingDataList);
+        }
+    }
+
+    @Nested
+    @DisplayName("Protobuf 메시지를 받는 메서드는")
+    public final class Describe_message {
+        private final DrivingDataProto.DrivingData request = DrivingDataProto.DrivingData.newBuilder()
+            .setLatitude(LATITUDE)
+            .setLongitude(LONGITUDE)
+            .buildPartial();
+
+        @Test
+        @DisplayName("startDriving은 사용자 아이디와 운행 시작 상태를 채워서 전송한다")
+        public void it_starts_the_driving() {
+            mockSendData(true, START_DRIVING);
+
+            vehicleService.startDriving(USER_ID, request);
+
+            verifySendData(START_DRIVING);
+        }
+
+        @Test
+        @DisplayName("updateDriving은 사용자 아이디와 운행 상태를 채워서 전송한다")
+        public void it_updates_the_driving_data() {
+            mockSendData(true, UPDATE_DRIVING);
+
+            vehicleService.updateDriving(USER_ID, request);
+
+            verifySendData(UPDATE_DRIVING);
+        }
+
+        @Test
+        @DisplayName("stopDriving은 사용자 아이디와 운행 종료 상태를 채워서 전송한다")
+        public void it_stops_the_driving() {
+            mockSendData(true, STOP_DRIVING);
+
+            vehicleService.stopDriving(USER_ID, request);
+
+            verifySendData(STOP_DRIVING);
+        }
+
+        @Test
+        @DisplayName("클라이언트가 보낸 sequence는 그대로 전송한다")
+        public void it_keeps_the_client_sequence() {
+            final DrivingDataProto.DrivingData drivingData = sequenced(UPDATE_DRIVING, SEQUENCE - 1L);
+            when(kinesisProducer.sendData(drivingData))
+                .thenReturn(true);
+
+            vehicleService.updateDriving(USER_ID, request.toBuilder().setSequence(SEQUENCE - 1L).buildPartial());
+
+            verify(kinesisProducer).sendData(drivingData);
+        }
+
+        @Nested
+        @DisplayName("메시지 전송에 실패한 경우")
+        public final class Context_sendMessageFail {
+            @Test
+            @DisplayName("SendMessageFailException을 던진다")
+            public void it_throws_a_send_message_fail_exception() {
+                mockSendData(false, UPDATE_DRIVING);
+
+                assertThatThrownBy(() -> vehicleService.updateDriving(USER_ID, request))
+                    .isInstanceOf(SendMessageFailException.class);
+            }
+        }
+
+        @Nested
+        @DisplayName("위치 정보가 유효하지 않은 경우")
+        @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+        public final class Context_invalidData {
+            private Stream<Arguments> methodSource() {
+                return Stream.of(
+                    Arguments.of(request.toBuilder().clearLatitude().buildPartial(), "위도가 입력되지 않았습니다."),
+                    Arguments.of(request.toBuilder().setLatitude(-100D).buildPartial(), "위도 범위를 벗어났습니다."),
+                    Arguments.of(request.toBuilder().setLatitude(100D).buildPartial(), "위도 범위를 벗어났습니다."),
+                    Arguments.of(request.toBuilder().setLatitude(Double.NaN).buildPartial(), "위도 범위를 벗어났습니다."),
+                    Arguments.of(request.toBuilder().clearLongitude().buildPartial(), "경도가 입력되지 않았습니다."),
+                    Arguments.of(request.toBuilder().setLongitude(-200D).buildPartial(), "경도 범위를 벗어났습니다."),
+                    Arguments.of(request.toBuilder().setLongitude(200D).buildPartial(), "경도 범위를 벗어났습니다."),
+                    Arguments.of(request.toBuilder().setLongitude(Double.NaN).buildPartial(), "경도 범위를 벗어났습니다.")
+                );
+            }
+
+            @MethodSource("methodSource")
+            @DisplayName("InvalidDrivingDataException을 던진다")
+            @ParameterizedTest(name = "message = \"{1}\"")
+            public void it_throws_an_invalid_driving_data_exception(
+                final DrivingDataProto.DrivingData drivingData, final String message
+            ) {
+                assertThatThrownBy(() -> vehicleService.updateDriving(USER_ID, drivingData))
+                    .isInstanceOf(InvalidDrivingDataException.class)
+                    .hasMessage(message);
+            }
+        }
+    }
 }
@@ -0,0 +1,205 @@
+package com.tadah.vehicle.controllers;
+
+import com.google.protobuf.UInt64Value;
+import com.tadah.auth.filters.JwtServerInterceptor;
+import com.tadah.vehicle.applications.VehicleService;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import com.tadah.vehicle.exceptions.InvalidDrivingDataException;
+import com.tadah.vehicle.exceptions.SendMessageFailException;
+import io.grpc.Context;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static com.tadah.user.domains.entities.UserTest.USER_ID;
+import static com.tadah.vehicle.applications.VehicleServiceTest.START_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.STOP_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.UPDATE_DRIVING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("DrivingGrpcService 클래스")
+public final class DrivingGrpcServiceTest {
+    private static final long ACK_BATCH_SIZE = 2L;
+
+    private VehicleService vehicleService;
+    private DrivingGrpcService drivingGrpcService;
+    private StreamObserver<UInt64Value> responseObserver;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    private void beforeEach() {
+        vehicleService = mock(VehicleService.class);
+        drivingGrpcService = new DrivingGrpcService(vehicleService, ACK_BATCH_SIZE);
+        responseObserver = mock(StreamObserver.class);
+    }
+
+    @Nested
+    @DisplayName("bindService 메서드는")
+    public final class Describe_bindService {
+        @Test
+        @DisplayName("StreamLocations 메서드를 등록한다.")
+        public void it_binds_stream_locations() {
+            final ServerServiceDefinition definition = drivingGrpcService.bindService();
+
+            assertThat(definition.getMethod(DrivingGrpcService.STREAM_LOCATIONS_METHOD.getFullMethodName()))
+                .isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("streamLocations 메서드는")
+    public final class Describe_streamLocations {
+        private StreamObserver<DrivingDataProto.DrivingData> subject() throws Exception {
+            return Context.current()
+                .withValue(JwtServerInterceptor.USER_ID, USER_ID)
+                .call(() -> drivingGrpcService.streamLocations(responseObserver));
+        }
+
+        private Status getError() {
+            final ArgumentCaptor<Throwable> captor = ArgumentCaptor.forClass(Throwable.class);
+            verify(responseObserver).onError(captor.capture());
+            return ((StatusRuntimeException) captor.getValue()).getStatus();
+        }
+
+        @Nested
+        @DisplayName("위치 정보가 전송된 경우")
+        public final class Context_locations {
+            @Test
+            @DisplayName("운행 상태에 따라 위치 정보를 처리한다.")
+            public void it_routes_locations_by_driving_status() throws Exception {
+                final StreamObserver<DrivingDataProto.DrivingData> requestObserver = subject();
+
+                requestObserver.onNext(START_DRIVING);
+                requestObserver.onNext(UPDATE_DRIVING);
+                requestObserver.onNext(STOP_DRIVING);
+                requestObserver.onCompleted();
+
+                verify(vehicleService).startDriving(USER_ID, START_DRIVING);
+                verify(vehicleService).updateDriving(USER_ID, UPDATE_DRIVING);
+                verify(vehicleService).stopDriving(USER_ID, STOP_DRIVING);
+            }
+
+            @Test
+            @DisplayName("처리한 위치 정보의 개수를 일정 개수마다 응답하고, 종료할 때 나머지를 응답한다.")
+            public void it_acks_in_batches() throws Exception {
+                final StreamObserver<DrivingDataProto.DrivingData> requestObserver = subject();
+
+                requestObserver.onNext(START_DRIVING);
+                requestObserver.onNext(UPDATE_DRIVING);
+                requestObserver.onNext(UPDATE_DRIVING);
+                requestObserver.onCompleted();
+
+                verify(responseObserver).onNext(UInt64Value.of(2L));
+                verify(responseObserver).onNext(UInt64Value.of(3L));
+                verify(responseObserver).onCompleted();
+            }
+
+            @Test
+            @DisplayName("응답할 위치 정보가 없으면 종료할 때 응답하지 않는다.")
+            public void it_does_not_ack_twice() throws Exception {
+                final StreamObserver<DrivingDataProto.DrivingData> requestObserver = subject();
+
+                requestObserver.onNext(START_DRIVING);
+                requestObserver.onNext(STOP_DRIVING);
+                requestObserver.onCompleted();
+
+                verify(responseObserver, times(1)).onNext(any(UInt64Value.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("운행 중에 스트림이 종료된 경우")
+        public final class Context_closedWhileDriving {
+            @Test
+            @DisplayName("클라이언트가 정상 종료하면 운행을 유지한다.")
+            public void it_keeps_driving_when_completed() throws Exception {
+                final StreamObserver<DrivingDataProto.DrivingData> requestObserver = subject();
+
+                requestObserver.onNext(START_DRIVING);
+                requestObserver.onCompleted();
+
+                verify(vehicleService, never()).stopDriving(eq(USER_ID), any(DrivingDataProto.DrivingData.class));
+                verify(responseObserver).onCompleted();
+            }
+
+            @Test
+            @DisplayName("스트림이 취소되어도 마지막 위치로 운행을 종료한다.")
+            public void it_stops_driving_when_cancelled() throws Exception {
+                final StreamObserver<DrivingDataProto.DrivingData> requestObserver = subject();
+
+                requestObserver.onNext(START_DRIVING);
+                requestObserver.onError(Status.CANCELLED.asRuntimeException());
+                requestObserver.onCompleted();
+
+                verify(vehicleService).stopDriving(USER_ID, START_DRIVING);
+                verify(responseObserver, never()).onCompleted();
+            }
+
+            @Test
+            @DisplayName("운행 종료 메시지 전송이 실패해도 예외를 던지지 않는다.")
+            public void it_ignores_send_message_fail() throws Exception {
+                doThrow(new SendMessageFailException())
+                    .when(vehicleService).stopDriving(USER_ID, START_DRIVING);
+                final StreamObserver<DrivingDataProto.DrivingData> requestObserver = subject();
+
+                requestObserver.onNext(START_DRIVING);
+                requestObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+
+                verify(vehicleService).stopDriving(USER_ID, START_DRIVING);
+            }
+        }
+
+        @Nested
+        @DisplayName("위치 정보가 유효하지 않은 경우")
+        public final class Context_invalidDrivingData {
+            @Test
+            @DisplayName("INVALID_ARGUMENT 상태로 스트림을 종료하고 이후 위치 정보는 무시한다.")
+            public void it_closes_the_stream_with_invalid_argument() throws Exception {
+                doThrow(new InvalidDrivingDataException("위도 범위를 벗어났습니다."))
+                    .when(vehicleService).updateDriving(USER_ID, UPDATE_DRIVING);
+                final StreamObserver<DrivingDataProto.DrivingData> requestObserver = subject();
+
+                requestObserver.onNext(START_DRIVING);
+                requestObserver.onNext(UPDATE_DRIVING);
+                requestObserver.onNext(UPDATE_DRIVING);
+                requestObserver.onCompleted();
+
+                assertThat(getError().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+                assertThat(getError().getDescription()).isEqualTo("위도 범위를 벗어났습니다.");
+                verify(vehicleService, times(1)).updateDriving(USER_ID, UPDATE_DRIVING);
+                verify(vehicleService).stopDriving(USER_ID, START_DRIVING);
+                verify(responseObserver, never()).onCompleted();
+            }
+        }
+
+        @Nested
+        @DisplayName("메시지 전송이 실패한 경우")
+        public final class Context_sendMessageFail {
+            @Test
+            @DisplayName("처리한 개수를 응답하고 RESOURCE_EXHAUSTED 상태로 스트림을 종료한다.")
+            public void it_closes_the_stream_with_resource_exhausted() throws Exception {
+                doThrow(new SendMessageFailException())
+                    .when(vehicleService).stopDriving(eq(USER_ID), any(DrivingDataProto.DrivingData.class));
+                final StreamObserver<DrivingDataProto.DrivingData> requestObserver = subject();
+
+                requestObserver.onNext(STOP_DRIVING);
+
+                assertThat(getError().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+                verify(responseObserver, never()).onNext(any(UInt64Value.class));
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.tadah.vehicle.controllers;
+
+import com.tadah.auth.authentications.UserAuthentication;
+import com.tadah.auth.domains.entities.Role;
+import com.tadah.user.domains.entities.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.socket.WebSocketHandler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.tadah.user.domains.entities.UserTest.USER_ID;
+import static com.tadah.user.domains.entities.UserTest.getUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("DrivingHandshakeInterceptor 클래스")
+public final class DrivingHandshakeInterceptorTest {
+    private static final Role DRIVER = new Role(USER_ID, "DRIVER");
+    private static final Role RIDER = new Role(USER_ID, "RIDER");
+
+    private final DrivingHandshakeInterceptor interceptor = new DrivingHandshakeInterceptor();
+    private final ServerHttpResponse response = mock(ServerHttpResponse.class);
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    @AfterEach
+    private void afterEach() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Nested
+    @DisplayName("beforeHandshake 메서드는")
+    public final class Describe_beforeHandshake {
+        private boolean subject() {
+            return interceptor.beforeHandshake(
+                mock(ServerHttpRequest.class), response, mock(WebSocketHandler.class), attributes
+            );
+        }
+
+        private void authenticate(final User user, final Role role) {
+            SecurityContextHolder.getContext().setAuthentication(new UserAuthentication(user, List.of(role)));
+        }
+
+        @Nested
+        @DisplayName("인증되지 않은 경우")
+        public final class Context_notAuthenticated {
+            @Test
+            @DisplayName("401 상태 코드로 연결을 거부한다.")
+            public void it_rejects_the_handshake_with_unauthorized() {
+                assertThat(subject()).isFalse();
+                verify(response).setStatusCode(HttpStatus.UNAUTHORIZED);
+            }
+        }
+
+        @Nested
+        @DisplayName("인증된 사용자 정보가 없는 경우")
+        public final class Context_noUser {
+            @Test
+            @DisplayName("401 상태 코드로 연결을 거부한다.")
+            public void it_rejects_the_handshake_with_unauthorized() {
+                authenticate(null, DRIVER);
+
+                assertThat(subject()).isFalse();
+                verify(response).setStatusCode(HttpStatus.UNAUTHORIZED);
+            }
+        }
+
+        @Nested
+        @DisplayName("DRIVER 권한이 없는 경우")
+        public final class Context_notDriver {
+            @Test
+            @DisplayName("403 상태 코드로 연결을 거부한다.")
+            public void it_rejects_the_handshake_with_forbidden() {
+                authenticate(getUser(), RIDER);
+
+                assertThat(subject()).isFalse();
+                verify(response).setStatusCode(HttpStatus.FORBIDDEN);
+            }
+        }
+
+        @Nested
+        @DisplayName("DRIVER 권한이 있는 경우")
+        public final class Context_driver {
+            @Test
+            @DisplayName("사용자 아이디를 세션에 저장하고 연결을 허용한다.")
+            public void it_accepts_the_handshake() {
+                final User user = getUser();
+                authenticate(user, DRIVER);
+
+                assertThat(subject()).isTrue();
+                assertThat(attributes)
+                    .containsEntry(DrivingHandshakeInterceptor.USER_ID_ATTRIBUTE, user.getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.tadah.vehicle.controllers;
+
+import com.google.protobuf.UInt64Value;
+import com.tadah.vehicle.applications.VehicleService;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import com.tadah.vehicle.exceptions.InvalidDrivingDataException;
+import com.tadah.vehicle.exceptions.SendMessageFailException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.tadah.user.domains.entities.UserTest.USER_ID;
+import static com.tadah.vehicle.applications.VehicleServiceTest.LATITUDE;
+import static com.tadah.vehicle.applications.VehicleServiceTest.LONGITUDE;
+import static com.tadah.vehicle.applications.VehicleServiceTest.START_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.STOP_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.UPDATE_DRIVING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DrivingWebSocketHandler 클래스")
+public final class DrivingWebSocketHandlerTest {
+    private static final double PERMITS_PER_SECOND = 1;
+
+    private VehicleService vehicleService;
+    private Counter droppedFramesCounter;
+    private DrivingWebSocketHandler handler;
+    private WebSocketSession session;
+
+    @BeforeEach
+    private void beforeEach() {
+        vehicleService = mock(VehicleService.class);
+        droppedFramesCounter = new SimpleMeterRegistry().counter("vehicle.websocket.dropped-frames");
+        handler = new DrivingWebSocketHandler(vehicleService, PERMITS_PER_SECOND, droppedFramesCounter);
+        session = mock(WebSocketSession.class);
+
+        final Map<String, Object> attributes = new HashMap<>();
+        attributes.put(DrivingHandshakeInterceptor.USER_ID_ATTRIBUTE, USER_ID);
+        when(session.getAttributes()).thenReturn(attributes);
+
+        handler.afterConnectionEstablished(session);
+    }
+
+    private void send(final DrivingDataProto.DrivingData drivingData) throws Exception {
+        handler.handleMessage(session, new BinaryMessage(drivingData.toByteArray()));
+    }
+
+    @Nested
+    @DisplayName("handleBinaryMessage 메서드는")
+    public final class Describe_handleBinaryMessage {
+        @Nested
+        @DisplayName("운행 상태가 START인 경우")
+        public final class Context_start {
+            @Test
+            @DisplayName("운행을 시작한다.")
+            public void it_starts_driving() throws Exception {
+                send(START_DRIVING);
+
+                verify(vehicleService).startDriving(USER_ID, START_DRIVING);
+            }
+        }
+
+        @Nested
+        @DisplayName("운행 상태가 DRIVING인 경우")
+        public final class Context_driving {
+            @Test
+            @DisplayName("위치를 업데이트한다.")
+            public void it_updates_driving() throws Exception {
+                send(UPDATE_DRIVING);
+
+                verify(vehicleService).updateDriving(USER_ID, UPDATE_DRIVING);
+            }
+
+            @Test
+            @DisplayName("처리 제한을 넘은 위치는 버리고 버린 개수를 기록한다.")
+            public void it_drops_frames_over_the_rate_limit() throws Exception {
+                send(UPDATE_DRIVING);
+                send(UPDATE_DRIVING);
+
+                verify(vehicleService, times(1)).updateDriving(USER_ID, UPDATE_DRIVING);
+                assertThat(droppedFramesCounter.count())
+                    .isEqualTo(1D);
+            }
+
+            @Test
+            @DisplayName("위치를 버리면 버린 개수를 최대 1초에 한 번 클라이언트에게 알린다.")
+            public void it_notifies_the_client_of_dropped_frames() throws Exception {
+                send(UPDATE_DRIVING);
+                send(UPDATE_DRIVING);
+                send(UPDATE_DRIVING);
+
+                verify(session, times(1)).sendMessage(new BinaryMessage(UInt64Value.of(1L).toByteArray()));
+                verify(session, times(1)).sendMessage(any());
+                assertThat(droppedFramesCounter.count())
+                    .isEqualTo(2D);
+            }
+        }
+
+        @Nested
+        @DisplayName("운행 상태가 없는 경우")
+        public final class Context_noDrivingStatus {
+            @Test
+            @DisplayName("위치를 업데이트한다.")
+            public void it_updates_driving() throws Exception {
+                final DrivingDataProto.DrivingData drivingData = DrivingDataProto.DrivingData.newBuilder()
+                    .setLatitude(LATITUDE)
+                    .setLongitude(LONGITUDE)
+                    .buildPartial();
+
+                send(drivingData);
+
+                verify(vehicleService).updateDriving(USER_ID, drivingData);
+            }
+        }
+
+        @Nested
+        @DisplayName("운행 상태가 STOP인 경우")
+        public final class Context_stop {
+            @Test
+            @DisplayName("운행을 종료한다.")
+            public void it_stops_driving() throws Exception {
+                send(STOP_DRIVING);
+
+                verify(vehicleService).stopDriving(USER_ID, STOP_DRIVING);
+            }
+        }
+
+        @Nested
+        @DisplayName("메시지를 해석할 수 없는 경우")
+        public final class Context_invalidMessage {
+            @Test
+            @DisplayName("BAD_DATA 상태로 연결을 종료한다.")
+            public void it_closes_the_session_with_bad_data() throws Exception {
+                handler.handleMessage(session, new BinaryMessage(new byte[] {(byte) 0xFF}));
+
+                verify(session).close(CloseStatus.BAD_DATA);
+            }
+        }
+
+        @Nested
+        @DisplayName("위치 정보가 유효하지 않은 경우")
+        public final class Context_invalidDrivingData {
+            @Test
+            @DisplayName("BAD_DATA 상태로 연결을 종료한다.")
+            public void it_closes_the_session_with_bad_data() throws Exception {
+                doThrow(new InvalidDrivingDataException("위도가 입력되지 않았습니다."))
+                    .when(vehicleService).startDriving(USER_ID, START_DRIVING);
+
+                send(START_DRIVING);
+
+                verify(session).close(CloseStatus.BAD_DATA);
+            }
+        }
+
+        @Nested
+        @DisplayName("메시지 전송이 실패한 경우")
+        public final class Context_sendMessageFail {
+            @Test
+            @DisplayName("SERVICE_OVERLOAD 상태로 연결을 종료한다.")
+            public void it_closes_the_session_with_service_overload() throws Exception {
+                doThrow(new SendMessageFailException())
+                    .when(vehicleService).startDriving(USER_ID, START_DRIVING);
+
+                send(START_DRIVING);
+
+                verify(session).close(CloseStatus.SERVICE_OVERLOAD);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("afterConnectionClosed 메서드는")
+    public final class Describe_afterConnectionClosed {
+        private void subject() {
+            handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+        }
+
+        @Nested
+        @DisplayName("운행 중인 경우")
+        public final class Context_driving {
+            @Test
+            @DisplayName("마지막 위치로 운행을 한 번만 종료한다.")
+            public void it_stops_driving_with_the_last_position() throws Exception {
+                send(START_DRIVING);
+
+                subject();
+                subject();
+
+                verify(vehicleService, times(1)).stopDriving(USER_ID, START_DRIVING);
+            }
+
+            @Test
+            @DisplayName("운행 종료 메시지 전송이 실패해도 예외를 던지지 않는다.")
+            public void it_ignores_send_message_fail() throws Exception {
+                send(START_DRIVING);
+                doThrow(new SendMessageFailException())
+                    .when(vehicleService).stopDriving(USER_ID, START_DRIVING);
+
+                subject();
+
+                verify(vehicleService).stopDriving(USER_ID, START_DRIVING);
+            }
+        }
+
+        @Nested
+        @DisplayName("운행이 종료된 경우")
+        public final class Context_stopped {
+            @Test
+            @DisplayName("운행 종료 메시지를 다시 전송하지 않는다.")
+            public void it_does_not_stop_driving_again() throws Exception {
+                send(STOP_DRIVING);
+
+                subject();
+
+                verify(vehicleService, times(1)).stopDriving(eq(USER_ID), any(DrivingDataProto.DrivingData.class));
+            }
+        }
+
+        @Nested
+        @DisplayName("연결이 수립되지 않은 경우")
+        public final class Context_notEstablished {
+            @Test
+            @DisplayName("운행 종료 메시지를 전송하지 않는다.")
+            public void it_does_not_stop_driving() {
+                final WebSocketSession notEstablished = mock(WebSocketSession.class);
+                when(notEstablished.getAttributes()).thenReturn(new HashMap<>());
+
+                handler.afterConnectionClosed(notEstablished, CloseStatus.NORMAL);
+
+                verify(vehicleService, never()).stopDriving(eq(USER_ID), any(DrivingDataProto.DrivingData.class));
+            }
+        }
+    }
+}
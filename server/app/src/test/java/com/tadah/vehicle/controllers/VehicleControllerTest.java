@@ -4,6 +4,7 @@ import com.tadah.auth.domains.entities.Role;
 import com.tadah.auth.domains.repositories.RoleRepository;
 import com.tadah.auth.domains.repositories.infra.JpaRoleRepository;
 import com.tadah.auth.utils.JwtUtil;
+import com.tadah.auth.utils.PrincipalCache;
 import com.tadah.common.dtos.ErrorResponse;
 import com.tadah.user.domains.repositories.UserRepository;
 import com.tadah.user.domains.repositories.infra.JpaUserRepository;
@@ -11,8 +12,10 @@ import com.tadah.utils.LoginFailTest;
 import com.tadah.utils.Parser;
 import com.tadah.vehicle.dtos.DrivingDataProto;
 import com.tadah.vehicle.dtos.DrivingRequestData;
+import com.tadah.vehicle.dtos.TimestampedDrivingRequestData;
 import com.tadah.vehicle.exceptions.SendMessageFailException;
 import com.tadah.vehicle.utils.KinesisProducer;
+import com.tadah.vehicle.utils.ProtobufHttpMessageConverter;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -34,7 +37,9 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Objects;
@@ -51,10 +56,12 @@ import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -66,12 +73,18 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public final class VehicleControllerTest {
     private static final String VEHICLES_URL = "/vehicles";
     private static final String DRIVING_URL = "/driving";
+    private static final String BATCH_URL = "/batch";
+    private static final String ASYNC_URL = "/async";
     private static final String DRIVER_ROLE = "DRIVER";
 
     private static String getDrivingRequest(final Double latitude, final Double longitude) throws Exception {
         return Parser.toJson(new DrivingRequestData(latitude, longitude));
     }
 
+    private static String getDrivingBatchRequest(final TimestampedDrivingRequestData... drivingRequestData) throws Exception {
+        return Parser.toJson(List.of(drivingRequestData));
+    }
+
     private final Long userId;
     private final String token;
     public VehicleControllerTest(
@@ -97,9 +110,13 @@ public final class VehicleControllerTest {
     @Autowired
     private JpaUserRepository jpaUserRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
     @BeforeEach
     private void beforeEach() {
         reset(kinesisProducer);
+        principalCache.invalidateAll();
     }
 
     @AfterAll
@@ -642,4 +659,262 @@ public final class VehicleControllerTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("updateDrivings 메서드는")
+    public final class Describe_updateDrivings extends LoginFailTest {
+        private final List<DrivingDataProto.DrivingData> drivingDataList = List.of(UPDATE_DRIVING, UPDATE_DRIVING);
+
+        public String getErrorResponse(final String errorMessage) throws Exception {
+            return Parser.toJson(new ErrorResponse(VEHICLES_URL + DRIVING_URL + BATCH_URL, HttpMethod.PUT.toString(), errorMessage));
+        }
+
+        public Describe_updateDrivings() throws Exception {
+            super(
+                mockMvc,
+                put(VEHICLES_URL + DRIVING_URL + BATCH_URL)
+                    .accept(MediaType.APPLICATION_JSON_UTF8)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(getDrivingBatchRequest(new TimestampedDrivingRequestData(LATITUDE, LONGITUDE, 1L)))
+            );
+        }
+
+        private ResultActions subject(final String token, final String requestBody) throws Exception {
+            return mockMvc.perform(
+                put(VEHICLES_URL + DRIVING_URL + BATCH_URL)
+                    .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + token)
+                    .accept(MediaType.APPLICATION_JSON_UTF8)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBody)
+            );
+        }
+
+        private String getValidRequest() throws Exception {
+            return getDrivingBatchRequest(
+                new TimestampedDrivingRequestData(LATITUDE, LONGITUDE, 1L),
+                new TimestampedDrivingRequestData(LATITUDE, LONGITUDE, 2L)
+            );
+        }
+
+        @Nested
+        @DisplayName("권한이 없는 경우")
+        public final class Context_emptyRole {
+            @Test
+            @DisplayName("권한이 필요함을 알려준다.")
+            public void it_informs_that_role_is_required() throws Exception {
+                subject(token, getValidRequest())
+                    .andExpect(status().isForbidden());
+            }
+        }
+
+        @Nested
+        @DisplayName("유효한 권한이 있고")
+        @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+        public final class Context_validRole {
+            @BeforeAll
+            private void beforeAll() {
+                roleRepository.save(new Role(userId, DRIVER_ROLE));
+            }
+
+            @AfterAll
+            private void afterAll() {
+                jpaRoleRepository.deleteAll();
+            }
+
+            @Nested
+            @DisplayName("유효하지 않은 데이터를 입력한 경우")
+            @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+            public final class Context_invalidData {
+                private Stream<Arguments> methodSource() throws Exception {
+                    return Stream.of(
+                        Arguments.of(
+                            getDrivingBatchRequest(),
+                            getErrorResponse("위치 정보가 입력되지 않았습니다.")
+                        ),
+                        Arguments.of(
+                            getDrivingBatchRequest(new TimestampedDrivingRequestData(-100D, LONGITUDE, 1L)),
+                            getErrorResponse("위도 범위를 벗어났습니다.")
+                        ),
+                        Arguments.of(
+                            getDrivingBatchRequest(new TimestampedDrivingRequestData(LATITUDE, null, 1L)),
+                            getErrorResponse("경도가 입력되지 않았습니다.")
+                        ),
+                        Arguments.of(
+                            getDrivingBatchRequest(new TimestampedDrivingRequestData(LATITUDE, LONGITUDE, null)),
+                            getErrorResponse("측정 시각이 입력되지 않았습니다.")
+                        )
+                    );
+                }
+
+                @MethodSource("methodSource")
+                @DisplayName("입력 데이터가 잘못되었음을 알려준다.")
+                @ParameterizedTest(name = "input=\"{0}\" output=\"{1}\"")
+                public void it_notifies_that_input_data_is_invalid(final String input, final String output) throws Exception {
+                    subject(token, input)
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().string(output));
+                }
+            }
+
+            @Nested
+            @DisplayName("유효한 데이터를 입력한 경우")
+            public final class Context_validData {
+                @AfterEach
+                private void afterEach() {
+                    verify(kinesisProducer, atMostOnce())
+                        .sendAll(drivingDataList);
+                }
+
+                @Nested
+                @DisplayName("메시지 전송에 실패하면")
+                public final class Context_sendMessageFail {
+                    @BeforeEach
+                    private void beforeEach() {
+                        when(kinesisProducer.sendAll(drivingDataList))
+                            .thenReturn(false);
+                    }
+
+                    @Test
+                    @DisplayName("문제가 발생했음을 알려준다.")
+                    public void it_notifies_that_error_occurred() throws Exception {
+                        subject(token, getValidRequest())
+                            .andExpect(status().isInternalServerError())
+                            .andExpect(content().string(getErrorResponse(new SendMessageFailException().getMessage())));
+                    }
+                }
+
+                @Test
+                @DisplayName("차량 위치를 한 번에 업데이트한다.")
+                public void it_updates_the_driving_data() throws Exception {
+                    when(kinesisProducer.sendAll(drivingDataList))
+                        .thenReturn(true);
+
+                    subject(token, getValidRequest())
+                        .andExpect(status().isNoContent());
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("updateDrivingAsync 메서드는")
+    public final class Describe_updateDrivingAsync extends LoginFailTest {
+        public String getErrorResponse(final String errorMessage) throws Exception {
+            return Parser.toJson(new ErrorResponse(VEHICLES_URL + DRIVING_URL + ASYNC_URL, HttpMethod.PUT.toString(), errorMessage));
+        }
+
+        public Describe_updateDrivingAsync() throws Exception {
+            super(
+                mockMvc,
+                put(VEHICLES_URL + DRIVING_URL + ASYNC_URL)
+                    .accept(MediaType.APPLICATION_JSON_UTF8)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(getDrivingRequest(LATITUDE, LONGITUDE))
+            );
+        }
+
+        private ResultActions subject(final String token) throws Exception {
+            final MvcResult mvcResult = mockMvc.perform(
+                put(VEHICLES_URL + DRIVING_URL + ASYNC_URL)
+                    .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + token)
+                    .accept(MediaType.APPLICATION_JSON_UTF8)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(getDrivingRequest(LATITUDE, LONGITUDE))
+            )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            return mockMvc.perform(asyncDispatch(mvcResult));
+        }
+
+        @Nested
+        @DisplayName("유효한 권한이 있고")
+        @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+        public final class Context_validRole {
+            @BeforeAll
+            private void beforeAll() {
+                roleRepository.save(new Role(userId, DRIVER_ROLE));
+            }
+
+            @AfterAll
+            private void afterAll() {
+                jpaRoleRepository.deleteAll();
+            }
+
+            @Nested
+            @DisplayName("메시지 전송에 실패하면")
+            public final class Context_sendMessageFail {
+                @Test
+                @DisplayName("문제가 발생했음을 알려준다.")
+                public void it_notifies_that_error_occurred() throws Exception {
+                    when(kinesisProducer.sendDataAsync(UPDATE_DRIVING))
+                        .thenReturn(Mono.just(false));
+
+                    subject(token)
+                        .andExpect(status().isInternalServerError())
+                        .andExpect(content().string(getErrorResponse(new SendMessageFailException().getMessage())));
+                }
+            }
+
+            @Test
+            @DisplayName("버퍼에 저장된 후 응답한다.")
+            public void it_updates_the_driving_data() throws Exception {
+                subject(token)
+                    .andExpect(status().isNoContent());
+
+                verify(kinesisProducer)
+                    .sendDataAsync(UPDATE_DRIVING);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Protobuf 요청 본문을 받는 updateDriving 메서드는")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    public final class Describe_updateDrivingWithMessage {
+        private ResultActions subject(final DrivingDataProto.DrivingData drivingData) throws Exception {
+            return mockMvc.perform(
+                put(VEHICLES_URL + DRIVING_URL)
+                    .header(AUTHORIZATION_HEADER, TOKEN_PREFIX + token)
+                    .accept(MediaType.APPLICATION_JSON_UTF8)
+                    .contentType(ProtobufHttpMessageConverter.PROTOBUF)
+                    .content(drivingData.toByteArray())
+            );
+        }
+
+        @BeforeAll
+        private void beforeAll() {
+            roleRepository.save(new Role(userId, DRIVER_ROLE));
+        }
+
+        @AfterAll
+        private void afterAll() {
+            jpaRoleRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("사용자 아이디와 운행 상태를 채워서 차량 위치를 업데이트한다.")
+        public void it_updates_the_driving_data() throws Exception {
+            mockSendData(UPDATE_DRIVING, true);
+
+            subject(DrivingDataProto.DrivingData.newBuilder()
+                .setLatitude(LATITUDE)
+                .setLongitude(LONGITUDE)
+                .buildPartial())
+                .andExpect(status().isNoContent());
+
+            verifyMock(UPDATE_DRIVING);
+        }
+
+        @Test
+        @DisplayName("위치 정보가 없는 경우 입력 데이터가 잘못되었음을 알려준다.")
+        public void it_notifies_that_input_data_is_invalid() throws Exception {
+            subject(DrivingDataProto.DrivingData.newBuilder()
+                .setLongitude(LONGITUDE)
+                .buildPartial())
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(Parser.toJson(
+                    new ErrorResponse(VEHICLES_URL + DRIVING_URL, HttpMethod.PUT.toString(), "위도가 입력되지 않았습니다.")
+                )));
+        }
+    }
 }
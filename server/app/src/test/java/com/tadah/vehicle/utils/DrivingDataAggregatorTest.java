@@ -0,0 +1,90 @@
+package com.tadah.vehicle.utils;
+
+import com.google.protobuf.CodedInputStream;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.tadah.vehicle.applications.VehicleServiceTest.START_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.STOP_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.UPDATE_DRIVING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DrivingDataAggregator 클래스")
+public final class DrivingDataAggregatorTest {
+    private static final DrivingDataProto.DrivingData OTHER_DRIVING = START_DRIVING.toBuilder()
+        .setUserId(START_DRIVING.getUserId() + 1L)
+        .build();
+
+    private static List<DrivingDataProto.DrivingData> deaggregate(final byte[] bytes) throws IOException {
+        final CodedInputStream inputStream = CodedInputStream.newInstance(
+            bytes, DrivingDataAggregator.MAGIC.length, bytes.length - DrivingDataAggregator.MAGIC.length
+        );
+        final List<DrivingDataProto.DrivingData> drivingDataList = new ArrayList<>();
+        while (!inputStream.isAtEnd()) {
+            inputStream.readTag();
+            drivingDataList.add(inputStream.readMessage(DrivingDataProto.DrivingData.parser(), null));
+        }
+        return drivingDataList;
+    }
+
+    @Nested
+    @DisplayName("aggregate 메서드는")
+    public final class Describe_aggregate {
+        @Test
+        @DisplayName("매직 넘버 뒤에 메시지들을 이어 붙인다")
+        public void it_aggregates_messages() throws IOException {
+            final byte[] bytes = DrivingDataAggregator.aggregate(List.of(START_DRIVING, UPDATE_DRIVING, STOP_DRIVING));
+
+            assertThat(Arrays.copyOf(bytes, DrivingDataAggregator.MAGIC.length))
+                .isEqualTo(DrivingDataAggregator.MAGIC);
+            assertThat(deaggregate(bytes))
+                .containsExactly(START_DRIVING, UPDATE_DRIVING, STOP_DRIVING);
+        }
+
+        @Nested
+        @DisplayName("파티션 키의 개수가 주어진 경우")
+        public final class Context_withBuckets {
+            @Test
+            @DisplayName("메시지들을 파티션 키별로 묶는다")
+            public void it_aggregates_messages_by_partition_key() throws IOException {
+                final List<DrivingDataAggregator.AggregatedRecord> records = DrivingDataAggregator.aggregate(
+                    List.of(START_DRIVING, OTHER_DRIVING, STOP_DRIVING), 2
+                );
+
+                assertThat(records)
+                    .extracting(DrivingDataAggregator.AggregatedRecord::getPartitionKey)
+                    .containsExactly(
+                        DrivingDataAggregator.getPartitionKey(START_DRIVING, 2),
+                        DrivingDataAggregator.getPartitionKey(OTHER_DRIVING, 2)
+                    );
+                assertThat(deaggregate(records.get(0).getData()))
+                    .containsExactly(START_DRIVING, STOP_DRIVING);
+            }
+
+            @Test
+            @DisplayName("레코드의 최대 크기를 넘는 경우 여러 레코드로 나눈다")
+            public void it_splits_large_records() throws IOException {
+                final int count = DrivingDataAggregator.MAX_RECORD_BYTES / DrivingDataAggregator.getAggregatedSize(START_DRIVING) + 1;
+                final List<DrivingDataProto.DrivingData> drivingDataList = Collections.nCopies(count, START_DRIVING);
+
+                final List<DrivingDataAggregator.AggregatedRecord> records = DrivingDataAggregator.aggregate(drivingDataList, 1);
+
+                assertThat(records)
+                    .hasSize(2)
+                    .allMatch(record -> record.getData().length <= DrivingDataAggregator.MAX_RECORD_BYTES);
+                assertThat(records.get(0).getCount() + records.get(1).getCount())
+                    .isEqualTo(count);
+                assertThat(deaggregate(records.get(1).getData()))
+                    .hasSize(records.get(1).getCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.tadah.vehicle.utils;
+
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DrivingSequence 클래스")
+public final class DrivingSequenceTest {
+    public static final long CURRENT_TIME_MILLIS = 1_600_000_000_000L;
+    public static final long SEQUENCE = CURRENT_TIME_MILLIS * 1000L;
+
+    @Nested
+    @DisplayName("next 메서드는")
+    public final class Describe_next {
+        private final AtomicLong currentTimeMillis = new AtomicLong(CURRENT_TIME_MILLIS);
+        private final DrivingSequence drivingSequence = new DrivingSequence(currentTimeMillis::get);
+
+        private long subject() {
+            return drivingSequence.next();
+        }
+
+        @Test
+        @DisplayName("현재 시각으로 만든 값을 리턴한다")
+        public void it_returns_the_sequence_of_the_current_time() {
+            assertThat(subject())
+                .isEqualTo(SEQUENCE);
+        }
+
+        @Test
+        @DisplayName("같은 시각에 다시 호출하면 이전보다 1 큰 값을 리턴한다")
+        public void it_returns_the_increased_sequence() {
+            subject();
+
+            assertThat(subject())
+                .isEqualTo(SEQUENCE + 1L);
+        }
+
+        @Test
+        @DisplayName("시각이 지나면 새로운 시각으로 만든 값을 리턴한다")
+        public void it_returns_the_sequence_of_the_new_time() {
+            subject();
+            currentTimeMillis.incrementAndGet();
+
+            assertThat(subject())
+                .isEqualTo(SEQUENCE + 1000L);
+        }
+
+        @Test
+        @DisplayName("시각이 뒤로 돌아가도 이전보다 큰 값을 리턴한다")
+        public void it_never_decreases() {
+            subject();
+            currentTimeMillis.decrementAndGet();
+
+            assertThat(subject())
+                .isEqualTo(SEQUENCE + 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("of 메서드는")
+    public final class Describe_of {
+        @Test
+        @DisplayName("측정 시각으로 서버가 발급하는 값과 같은 단위의 값을 리턴한다")
+        public void it_returns_the_sequence_of_the_timestamp() {
+            assertThat(DrivingSequence.of(CURRENT_TIME_MILLIS, 0))
+                .isEqualTo(SEQUENCE);
+            assertThat(DrivingSequence.of(CURRENT_TIME_MILLIS, 1))
+                .isEqualTo(SEQUENCE + 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("following 메서드는")
+    public final class Describe_following {
+        private final DrivingDataProto.DrivingData drivingData = DrivingDataProto.DrivingData.newBuilder()
+            .setLatitude(37.5D)
+            .setLongitude(127D)
+            .buildPartial();
+
+        @Test
+        @DisplayName("sequence를 1 늘린 메시지를 리턴한다")
+        public void it_returns_the_following_message() {
+            assertThat(DrivingSequence.following(drivingData.toBuilder().setSequence(SEQUENCE).buildPartial()).getSequence())
+                .isEqualTo(SEQUENCE + 1L);
+        }
+
+        @Test
+        @DisplayName("sequence가 없으면 그대로 리턴한다")
+        public void it_returns_the_message_without_sequence() {
+            assertThat(DrivingSequence.following(drivingData))
+                .isSameAs(drivingData);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.tadah.vehicle.utils;
+
+import io.grpc.Server;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("GrpcServerLifecycle 클래스")
+public final class GrpcServerLifecycleTest {
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10L;
+
+    private Server server;
+    private GrpcServerLifecycle grpcServerLifecycle;
+
+    @BeforeEach
+    private void beforeEach() {
+        server = mock(Server.class);
+        grpcServerLifecycle = new GrpcServerLifecycle(server, SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    @Nested
+    @DisplayName("start 메서드는")
+    public final class Describe_start {
+        @Test
+        @DisplayName("서버를 시작한다")
+        public void it_starts_the_server() throws IOException {
+            grpcServerLifecycle.start();
+
+            verify(server).start();
+            assertThat(grpcServerLifecycle.isRunning())
+                .isTrue();
+        }
+
+        @Test
+        @DisplayName("서버를 시작하지 못하면 예외를 던진다")
+        public void it_throws_an_exception_if_the_server_fails_to_start() throws IOException {
+            when(server.start()).thenThrow(new IOException());
+
+            assertThatThrownBy(() -> grpcServerLifecycle.start())
+                .isInstanceOf(UncheckedIOException.class);
+            assertThat(grpcServerLifecycle.isRunning())
+                .isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("stop 메서드는")
+    public final class Describe_stop {
+        @Test
+        @DisplayName("처리중인 요청을 기다린 뒤 서버를 종료한다")
+        public void it_shuts_down_the_server_gracefully() throws InterruptedException {
+            when(server.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(true);
+            grpcServerLifecycle.start();
+
+            grpcServerLifecycle.stop();
+
+            verify(server).shutdown();
+            verify(server, never()).shutdownNow();
+            assertThat(grpcServerLifecycle.isRunning())
+                .isFalse();
+        }
+
+        @Test
+        @DisplayName("처리중인 요청이 끝나지 않으면 서버를 강제로 종료한다")
+        public void it_shuts_down_the_server_now_on_timeout() throws InterruptedException {
+            when(server.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(false);
+
+            grpcServerLifecycle.stop();
+
+            verify(server).shutdownNow();
+        }
+    }
+
+    @Nested
+    @DisplayName("getPhase 메서드는")
+    public final class Describe_getPhase {
+        @Test
+        @DisplayName("Kinesis Producer보다 먼저 종료되는 단계를 리턴한다")
+        public void it_stops_before_the_kinesis_producer() {
+            assertThat(grpcServerLifecycle.getPhase())
+                .isGreaterThan(KinesisBatchProducer.PHASE);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.tadah.vehicle.utils;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.PutRecordsResult;
+import com.amazonaws.services.kinesis.model.PutRecordsResultEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static com.tadah.vehicle.applications.VehicleServiceTest.START_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.STOP_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.UPDATE_DRIVING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("KinesisBatchProducer 클래스")
+public final class KinesisBatchProducerTest {
+    private static final String STREAM_NAME = "stream";
+    private static final int MAX_RETRIES = 1;
+    private static final int AGGREGATION_BUCKETS = 2;
+
+    private AmazonKinesis amazonKinesis;
+    private KinesisProducer kinesisProducer;
+    private KinesisBatchProducer kinesisBatchProducer;
+
+    @BeforeEach
+    private void beforeEach() {
+        amazonKinesis = mock(AmazonKinesis.class);
+        kinesisProducer = new KinesisProducer(10, KinesisProducer.OverflowPolicy.REJECT, 0L, 10, AGGREGATION_BUCKETS);
+        kinesisBatchProducer = new KinesisBatchProducer(amazonKinesis, kinesisProducer, STREAM_NAME, 0L, MAX_RETRIES, 0);
+    }
+
+    private static PutRecordsResultEntry success() {
+        return new PutRecordsResultEntry().withSequenceNumber("1").withShardId("shard");
+    }
+
+    private static PutRecordsResultEntry failure() {
+        return new PutRecordsResultEntry().withErrorCode("ProvisionedThroughputExceededException");
+    }
+
+    @Nested
+    @DisplayName("collect 메서드는")
+    public final class Describe_collect {
+        @Test
+        @DisplayName("버퍼에 저장된 메시지를 드라이버 아이디를 파티션 키로 하여 모은다")
+        public void it_collects_messages_with_partition_key() throws InterruptedException {
+            kinesisProducer.sendData(START_DRIVING);
+            kinesisProducer.sendData(UPDATE_DRIVING);
+
+            assertThat(kinesisBatchProducer.collect(10L))
+                .hasSize(2)
+                .allMatch(entry -> entry.getPartitionKey().equals(String.valueOf(START_DRIVING.getUserId())))
+                .first()
+                .matches(entry -> entry.getData().equals(ByteBuffer.wrap(START_DRIVING.toByteArray())));
+        }
+
+        @Nested
+        @DisplayName("aggregation-buckets가 설정된 경우")
+        public final class Context_aggregated {
+            @Test
+            @DisplayName("메시지를 파티션 키별로 묶어서 하나의 레코드로 모은다")
+            public void it_collects_aggregated_records() throws InterruptedException {
+                final KinesisBatchProducer aggregatedProducer = new KinesisBatchProducer(
+                    amazonKinesis, kinesisProducer, STREAM_NAME, 0L, MAX_RETRIES, AGGREGATION_BUCKETS
+                );
+                kinesisProducer.sendData(START_DRIVING);
+                kinesisProducer.sendData(UPDATE_DRIVING);
+                kinesisProducer.sendData(STOP_DRIVING);
+
+                assertThat(aggregatedProducer.collect(10L))
+                    .hasSize(1)
+                    .first()
+                    .matches(entry -> entry.getPartitionKey().equals(DrivingDataAggregator.getPartitionKey(START_DRIVING, AGGREGATION_BUCKETS)))
+                    .matches(entry -> entry.getData().equals(ByteBuffer.wrap(
+                        DrivingDataAggregator.aggregate(List.of(START_DRIVING, UPDATE_DRIVING, STOP_DRIVING))
+                    )));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 메서드는")
+    public final class Describe_flush {
+        private List<PutRecordsRequestEntry> entries;
+        private PutRecordsRequestEntry otherEntry;
+        private ArgumentCaptor<PutRecordsRequest> captor;
+
+        @BeforeEach
+        private void beforeEach() throws InterruptedException {
+            kinesisProducer.sendData(START_DRIVING);
+            kinesisProducer.sendData(UPDATE_DRIVING);
+            kinesisProducer.sendData(STOP_DRIVING);
+            entries = kinesisBatchProducer.collect(10L);
+            otherEntry = new PutRecordsRequestEntry()
+                .withPartitionKey("other")
+                .withData(ByteBuffer.wrap(UPDATE_DRIVING.toByteArray()));
+            captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        }
+
+        private List<PutRecordsRequestEntry> getRecords(final int index) {
+            return captor.getAllValues().get(index).getRecords();
+        }
+
+        @Test
+        @DisplayName("다른 파티션 키의 메시지는 한 번의 요청으로 전송한다")
+        public void it_puts_records_of_other_partition_keys_at_once() {
+            when(amazonKinesis.putRecords(captor.capture()))
+                .thenReturn(new PutRecordsResult().withFailedRecordCount(0).withRecords(success(), success()));
+
+            kinesisBatchProducer.flush(List.of(entries.get(0), otherEntry));
+
+            verify(amazonKinesis, times(1))
+                .putRecords(any(PutRecordsRequest.class));
+            assertThat(getRecords(0))
+                .containsExactly(entries.get(0), otherEntry);
+            assertThat(kinesisBatchProducer.getFailedRecordCount())
+                .isZero();
+        }
+
+        @Test
+        @DisplayName("같은 파티션 키의 메시지는 앞의 메시지가 저장된 뒤에 순서대로 전송한다")
+        public void it_puts_records_of_a_partition_key_in_order() {
+            when(amazonKinesis.putRecords(captor.capture()))
+                .thenReturn(new PutRecordsResult().withFailedRecordCount(0).withRecords(success()));
+
+            kinesisBatchProducer.flush(entries);
+
+            verify(amazonKinesis, times(entries.size()))
+                .putRecords(any(PutRecordsRequest.class));
+            for (int index = 0; index < entries.size(); index++) {
+                assertThat(getRecords(index))
+                    .containsExactly(entries.get(index));
+            }
+        }
+
+        @Nested
+        @DisplayName("일부 메시지의 전송이 실패한 경우")
+        public final class Context_partialFailure {
+            @Test
+            @DisplayName("실패한 메시지만 같은 파티션 키의 이후 메시지보다 먼저 재전송한다")
+            public void it_retries_failed_records_before_later_records() {
+                when(amazonKinesis.putRecords(captor.capture()))
+                    .thenReturn(new PutRecordsResult().withFailedRecordCount(1).withRecords(failure(), success()))
+                    .thenReturn(new PutRecordsResult().withFailedRecordCount(0).withRecords(success()));
+
+                kinesisBatchProducer.flush(List.of(entries.get(0), otherEntry, entries.get(1)));
+
+                assertThat(getRecords(0))
+                    .containsExactly(entries.get(0), otherEntry);
+                assertThat(getRecords(1))
+                    .containsExactly(entries.get(0));
+                assertThat(getRecords(2))
+                    .containsExactly(entries.get(1));
+                assertThat(kinesisBatchProducer.getFailedRecordCount())
+                    .isZero();
+            }
+        }
+
+        @Nested
+        @DisplayName("재전송 횟수를 초과한 경우")
+        public final class Context_retryExceeded {
+            @Test
+            @DisplayName("전송에 실패한 메시지의 개수를 기록한다")
+            public void it_counts_failed_records() {
+                when(amazonKinesis.putRecords(any(PutRecordsRequest.class)))
+                    .thenThrow(new AmazonClientException("failed"));
+
+                kinesisBatchProducer.flush(entries);
+
+                verify(amazonKinesis, times(MAX_RETRIES + 1))
+                    .putRecords(any(PutRecordsRequest.class));
+                assertThat(kinesisBatchProducer.getFailedRecordCount())
+                    .isEqualTo(entries.size());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("stop 메서드는")
+    public final class Describe_stop {
+        @Test
+        @DisplayName("버퍼에 남은 메시지를 모두 전송하고 종료한다")
+        public void it_flushes_remaining_records() {
+            when(amazonKinesis.putRecords(any(PutRecordsRequest.class)))
+                .thenReturn(new PutRecordsResult().withFailedRecordCount(0).withRecords(success()));
+
+            kinesisBatchProducer.start();
+            kinesisProducer.sendData(START_DRIVING);
+            kinesisBatchProducer.stop();
+
+            assertThat(kinesisBatchProducer.isRunning())
+                .isFalse();
+            assertThat(kinesisProducer.size())
+                .isZero();
+        }
+
+        @Test
+        @DisplayName("남은 메시지의 전송이 실패하면 재전송한 뒤 종료한다")
+        public void it_retries_remaining_records() {
+            when(amazonKinesis.putRecords(any(PutRecordsRequest.class)))
+                .thenReturn(new PutRecordsResult().withFailedRecordCount(1).withRecords(failure()))
+                .thenReturn(new PutRecordsResult().withFailedRecordCount(0).withRecords(success()));
+
+            kinesisProducer.sendData(START_DRIVING);
+            kinesisBatchProducer.start();
+            kinesisBatchProducer.stop();
+
+            assertThat(kinesisBatchProducer.getFailedRecordCount())
+                .isZero();
+        }
+    }
+}
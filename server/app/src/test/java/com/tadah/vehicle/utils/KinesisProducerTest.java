@@ -0,0 +1,305 @@
+package com.tadah.vehicle.utils;
+
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.tadah.vehicle.applications.VehicleServiceTest.START_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.STOP_DRIVING;
+import static com.tadah.vehicle.applications.VehicleServiceTest.UPDATE_DRIVING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KinesisProducer 클래스")
+public final class KinesisProducerTest {
+    private static final int CAPACITY = 2;
+    private static final int BATCH_SIZE = 2;
+    private static final long OFFER_TIMEOUT_MILLIS = 10L;
+    private static final int AGGREGATION_BUCKETS = 2;
+
+    private static KinesisProducer getKinesisProducer(final KinesisProducer.OverflowPolicy overflowPolicy) {
+        return new KinesisProducer(CAPACITY, overflowPolicy, OFFER_TIMEOUT_MILLIS, BATCH_SIZE, AGGREGATION_BUCKETS);
+    }
+
+    @Nested
+    @DisplayName("sendData 메서드는")
+    public final class Describe_sendData {
+        @Test
+        @DisplayName("메시지를 버퍼에 저장한다")
+        public void it_stores_the_message() {
+            final KinesisProducer kinesisProducer = getKinesisProducer(KinesisProducer.OverflowPolicy.REJECT);
+
+            assertThat(kinesisProducer.sendData(START_DRIVING))
+                .isTrue();
+            assertThat(kinesisProducer.size())
+                .isEqualTo(1);
+        }
+
+        @Nested
+        @DisplayName("버퍼가 가득 찬 경우")
+        public final class Context_full {
+            private KinesisProducer fill(final KinesisProducer kinesisProducer) {
+                kinesisProducer.sendData(START_DRIVING);
+                kinesisProducer.sendData(UPDATE_DRIVING);
+                return kinesisProducer;
+            }
+
+            @Test
+            @DisplayName("REJECT 정책이면 저장을 거절한다")
+            public void it_rejects_the_message() {
+                final KinesisProducer kinesisProducer = fill(getKinesisProducer(KinesisProducer.OverflowPolicy.REJECT));
+
+                assertThat(kinesisProducer.sendData(STOP_DRIVING))
+                    .isFalse();
+            }
+
+            @Test
+            @DisplayName("BLOCK 정책이면 기다린 후 저장을 거절한다")
+            public void it_rejects_the_message_after_timeout() {
+                final KinesisProducer kinesisProducer = fill(getKinesisProducer(KinesisProducer.OverflowPolicy.BLOCK));
+
+                assertThat(kinesisProducer.sendData(STOP_DRIVING))
+                    .isFalse();
+            }
+
+            @Test
+            @DisplayName("DROP_OLDEST 정책이면 가장 오래된 메시지를 버리고 저장한다")
+            public void it_drops_the_oldest_message() {
+                final KinesisProducer kinesisProducer = fill(getKinesisProducer(KinesisProducer.OverflowPolicy.DROP_OLDEST));
+
+                assertThat(kinesisProducer.sendData(STOP_DRIVING))
+                    .isTrue();
+                assertThat(kinesisProducer.drain(CAPACITY))
+                    .containsExactly(UPDATE_DRIVING, STOP_DRIVING);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("sendDataAsync 메서드는")
+    public final class Describe_sendDataAsync {
+        @Test
+        @DisplayName("메시지를 버퍼에 저장하면 true를 발행한다")
+        public void it_stores_the_message() {
+            final KinesisProducer kinesisProducer = getKinesisProducer(KinesisProducer.OverflowPolicy.REJECT);
+
+            assertThat(kinesisProducer.sendDataAsync(START_DRIVING).block())
+                .isTrue();
+            assertThat(kinesisProducer.size())
+                .isEqualTo(1);
+        }
+
+        @Nested
+        @DisplayName("버퍼가 가득 찬 경우")
+        public final class Context_full {
+            private KinesisProducer fill(final KinesisProducer kinesisProducer) {
+                kinesisProducer.sendData(START_DRIVING);
+                kinesisProducer.sendData(UPDATE_DRIVING);
+                return kinesisProducer;
+            }
+
+            @Test
+            @DisplayName("REJECT 정책이면 false를 발행한다")
+            public void it_rejects_the_message() {
+                final KinesisProducer kinesisProducer = fill(getKinesisProducer(KinesisProducer.OverflowPolicy.REJECT));
+
+                assertThat(kinesisProducer.sendDataAsync(STOP_DRIVING).block())
+                    .isFalse();
+            }
+
+            @Test
+            @DisplayName("BLOCK 정책이면 설정된 시간 동안 다시 시도한 후 false를 발행한다")
+            public void it_rejects_the_message_after_timeout() {
+                final KinesisProducer kinesisProducer = fill(getKinesisProducer(KinesisProducer.OverflowPolicy.BLOCK));
+
+                assertThat(kinesisProducer.sendDataAsync(STOP_DRIVING).block())
+                    .isFalse();
+                assertThat(kinesisProducer.drain(CAPACITY))
+                    .containsExactly(START_DRIVING, UPDATE_DRIVING);
+            }
+
+            @Test
+            @DisplayName("BLOCK 정책으로 다른 전송이 공간을 기다리는 동안에도 바로 저장한다")
+            public void it_does_not_wait_for_other_senders() throws InterruptedException {
+                final KinesisProducer kinesisProducer = new KinesisProducer(CAPACITY, KinesisProducer.OverflowPolicy.BLOCK, 1000L, BATCH_SIZE, AGGREGATION_BUCKETS);
+                kinesisProducer.sendData(START_DRIVING);
+                final Thread batchSender = new Thread(() -> kinesisProducer.sendAll(List.of(UPDATE_DRIVING, STOP_DRIVING)));
+                batchSender.start();
+
+                assertThat(kinesisProducer.sendDataAsync(UPDATE_DRIVING).block(Duration.ofMillis(500L)))
+                    .isTrue();
+
+                kinesisProducer.drain(CAPACITY);
+                batchSender.join();
+            }
+
+            @Test
+            @DisplayName("BLOCK 정책이면 공간이 생긴 경우 저장한다")
+            public void it_stores_the_message_when_space_is_freed() {
+                final KinesisProducer kinesisProducer = fill(new KinesisProducer(CAPACITY, KinesisProducer.OverflowPolicy.BLOCK, 1000L, BATCH_SIZE, AGGREGATION_BUCKETS));
+                Mono.delay(Duration.ofMillis(5L)).subscribe(tick -> kinesisProducer.drain(1));
+
+                assertThat(kinesisProducer.sendDataAsync(STOP_DRIVING).block())
+                    .isTrue();
+                assertThat(kinesisProducer.drain(CAPACITY))
+                    .containsExactly(UPDATE_DRIVING, STOP_DRIVING);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("sendAll 메서드는")
+    public final class Describe_sendAll {
+        @Test
+        @DisplayName("여러 메시지를 순서대로 버퍼에 저장한다")
+        public void it_stores_all_messages() {
+            final KinesisProducer kinesisProducer = getKinesisProducer(KinesisProducer.OverflowPolicy.REJECT);
+
+            assertThat(kinesisProducer.sendAll(List.of(START_DRIVING, UPDATE_DRIVING)))
+                .isTrue();
+            assertThat(kinesisProducer.drain(CAPACITY))
+                .containsExactly(START_DRIVING, UPDATE_DRIVING);
+        }
+
+        @Test
+        @DisplayName("버퍼의 크기보다 많은 메시지는 저장하지 않는다")
+        public void it_rejects_messages_larger_than_the_capacity() {
+            final KinesisProducer kinesisProducer = getKinesisProducer(KinesisProducer.OverflowPolicy.DROP_OLDEST);
+
+            assertThat(kinesisProducer.sendAll(List.of(START_DRIVING, UPDATE_DRIVING, STOP_DRIVING)))
+                .isFalse();
+            assertThat(kinesisProducer.size())
+                .isZero();
+        }
+
+        @Nested
+        @DisplayName("버퍼의 남은 공간이 부족한 경우")
+        public final class Context_notEnoughSpace {
+            private KinesisProducer prepare(final KinesisProducer.OverflowPolicy overflowPolicy) {
+                final KinesisProducer kinesisProducer = getKinesisProducer(overflowPolicy);
+                kinesisProducer.sendData(START_DRIVING);
+                return kinesisProducer;
+            }
+
+            @Test
+            @DisplayName("REJECT 정책이면 어떤 메시지도 저장하지 않는다")
+            public void it_rejects_all_messages() {
+                final KinesisProducer kinesisProducer = prepare(KinesisProducer.OverflowPolicy.REJECT);
+
+                assertThat(kinesisProducer.sendAll(List.of(UPDATE_DRIVING, STOP_DRIVING)))
+                    .isFalse();
+                assertThat(kinesisProducer.drain(CAPACITY))
+                    .containsExactly(START_DRIVING);
+            }
+
+            @Test
+            @DisplayName("BLOCK 정책이면 설정된 시간만큼 기다린 뒤 저장을 거절한다")
+            public void it_rejects_all_messages_after_timeout() {
+                final KinesisProducer kinesisProducer = prepare(KinesisProducer.OverflowPolicy.BLOCK);
+
+                assertThat(kinesisProducer.sendAll(List.of(UPDATE_DRIVING, STOP_DRIVING)))
+                    .isFalse();
+                assertThat(kinesisProducer.drain(CAPACITY))
+                    .containsExactly(START_DRIVING);
+            }
+
+            @Test
+            @DisplayName("BLOCK 정책이면 공간이 생긴 경우 저장한다")
+            public void it_stores_all_messages_when_space_is_freed() throws InterruptedException {
+                final KinesisProducer kinesisProducer = new KinesisProducer(CAPACITY, KinesisProducer.OverflowPolicy.BLOCK, 1000L, BATCH_SIZE, AGGREGATION_BUCKETS);
+                kinesisProducer.sendData(START_DRIVING);
+                final Thread consumer = new Thread(() -> kinesisProducer.drain(1));
+                consumer.start();
+
+                assertThat(kinesisProducer.sendAll(List.of(UPDATE_DRIVING, STOP_DRIVING)))
+                    .isTrue();
+                consumer.join();
+            }
+
+            @Test
+            @DisplayName("BLOCK 정책으로 공간을 기다리는 동안 다른 메시지의 저장을 막지 않는다")
+            public void it_does_not_block_other_messages_while_waiting() throws InterruptedException {
+                final KinesisProducer kinesisProducer = new KinesisProducer(CAPACITY, KinesisProducer.OverflowPolicy.BLOCK, 1000L, BATCH_SIZE, AGGREGATION_BUCKETS);
+                kinesisProducer.sendData(START_DRIVING);
+                final Thread batchSender = new Thread(() -> kinesisProducer.sendAll(List.of(UPDATE_DRIVING, STOP_DRIVING)));
+                batchSender.start();
+
+                final long startNanos = System.nanoTime();
+                assertThat(kinesisProducer.sendData(UPDATE_DRIVING))
+                    .isTrue();
+                assertThat(Duration.ofNanos(System.nanoTime() - startNanos))
+                    .isLessThan(Duration.ofMillis(500L));
+
+                kinesisProducer.drain(CAPACITY);
+                batchSender.join();
+            }
+
+            @Test
+            @DisplayName("DROP_OLDEST 정책이면 가장 오래된 메시지를 버리고 저장한다")
+            public void it_drops_the_oldest_messages() {
+                final KinesisProducer kinesisProducer = prepare(KinesisProducer.OverflowPolicy.DROP_OLDEST);
+
+                assertThat(kinesisProducer.sendAll(List.of(UPDATE_DRIVING, STOP_DRIVING)))
+                    .isTrue();
+                assertThat(kinesisProducer.drain(CAPACITY))
+                    .containsExactly(UPDATE_DRIVING, STOP_DRIVING);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("produceDriving 메서드는")
+    public final class Describe_produceDriving {
+        @Test
+        @DisplayName("버퍼에 저장된 메시지를 batch-size만큼 전송한다")
+        public void it_produces_a_batch_of_messages() {
+            final KinesisProducer kinesisProducer = new KinesisProducer(3, KinesisProducer.OverflowPolicy.REJECT, OFFER_TIMEOUT_MILLIS, BATCH_SIZE, AGGREGATION_BUCKETS);
+            kinesisProducer.sendData(START_DRIVING);
+            kinesisProducer.sendData(UPDATE_DRIVING);
+            kinesisProducer.sendData(STOP_DRIVING);
+
+            final List<DrivingDataProto.DrivingData> drivingDataList = kinesisProducer.produceDriving()
+                .get()
+                .collectList()
+                .block();
+
+            assertThat(drivingDataList)
+                .containsExactly(START_DRIVING, UPDATE_DRIVING);
+            assertThat(kinesisProducer.size())
+                .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("produceAggregatedDriving 메서드는")
+    public final class Describe_produceAggregatedDriving {
+        @Test
+        @DisplayName("버퍼에 저장된 메시지를 batch-size만큼 파티션 키별로 묶어서 전송한다")
+        public void it_produces_aggregated_records() {
+            final KinesisProducer kinesisProducer = new KinesisProducer(3, KinesisProducer.OverflowPolicy.REJECT, OFFER_TIMEOUT_MILLIS, BATCH_SIZE, AGGREGATION_BUCKETS);
+            kinesisProducer.sendData(START_DRIVING);
+            kinesisProducer.sendData(UPDATE_DRIVING);
+            kinesisProducer.sendData(STOP_DRIVING);
+
+            final List<Message<byte[]>> messages = kinesisProducer.produceAggregatedDriving()
+                .get()
+                .collectList()
+                .block();
+
+            assertThat(messages)
+                .hasSize(1)
+                .first()
+                .matches(message -> Arrays.equals(message.getPayload(), DrivingDataAggregator.aggregate(List.of(START_DRIVING, UPDATE_DRIVING))))
+                .matches(message -> Integer.valueOf(DrivingDataAggregator.getPartitionKey(START_DRIVING, AGGREGATION_BUCKETS))
+                    .equals(message.getHeaders().get(KinesisProducer.PARTITION_KEY_HEADER)));
+            assertThat(kinesisProducer.size())
+                .isEqualTo(1);
+        }
+    }
+}
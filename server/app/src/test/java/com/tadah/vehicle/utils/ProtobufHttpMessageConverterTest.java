@@ -0,0 +1,70 @@
+package com.tadah.vehicle.utils;
+
+import com.google.protobuf.MessageLite;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+
+import static com.tadah.vehicle.applications.VehicleServiceTest.LATITUDE;
+import static com.tadah.vehicle.applications.VehicleServiceTest.LONGITUDE;
+import static com.tadah.vehicle.applications.VehicleServiceTest.START_DRIVING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProtobufHttpMessageConverter 클래스")
+public final class ProtobufHttpMessageConverterTest {
+    private final ProtobufHttpMessageConverter protobufHttpMessageConverter = new ProtobufHttpMessageConverter();
+
+    @Nested
+    @DisplayName("read 메서드는")
+    public final class Describe_read {
+        private MessageLite subject(final byte[] body) throws IOException {
+            return protobufHttpMessageConverter.read(DrivingDataProto.DrivingData.class, new MockHttpInputMessage(body));
+        }
+
+        @Test
+        @DisplayName("필수 필드가 비어있는 요청 본문도 메시지로 변환한다")
+        public void it_reads_a_partial_message() throws IOException {
+            final byte[] body = DrivingDataProto.DrivingData.newBuilder()
+                .setLatitude(LATITUDE)
+                .setLongitude(LONGITUDE)
+                .buildPartial()
+                .toByteArray();
+
+            assertThat(subject(body))
+                .isInstanceOf(DrivingDataProto.DrivingData.class)
+                .matches(message -> ((DrivingDataProto.DrivingData) message).getLatitude() == LATITUDE)
+                .matches(message -> !((DrivingDataProto.DrivingData) message).hasUserId());
+        }
+
+        @Test
+        @DisplayName("잘못된 요청 본문인 경우 HttpMessageNotReadableException을 던진다")
+        public void it_throws_http_message_not_readable_exception() {
+            assertThatThrownBy(() -> subject(new byte[] {(byte) 0xFF}))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("write 메서드는")
+    public final class Describe_write {
+        @Test
+        @DisplayName("메시지를 응답 본문으로 변환한다")
+        public void it_writes_the_message() throws IOException {
+            final MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+            protobufHttpMessageConverter.write(START_DRIVING, ProtobufHttpMessageConverter.PROTOBUF, outputMessage);
+
+            assertThat(outputMessage.getBodyAsBytes())
+                .isEqualTo(START_DRIVING.toByteArray());
+            assertThat(protobufHttpMessageConverter.canRead(String.class, ProtobufHttpMessageConverter.PROTOBUF))
+                .isFalse();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.tadah.vehicle.utils;
+
+import com.google.protobuf.CodedInputStream;
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static com.tadah.vehicle.applications.VehicleServiceTest.START_DRIVING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProtobufMessageConverter 클래스")
+public final class ProtobufMessageConverterTest {
+    @Nested
+    @DisplayName("getParser 메서드는")
+    public final class Describe_getParser {
+        @Test
+        @DisplayName("메시지 타입의 Parser를 캐싱하여 리턴한다")
+        public void it_returns_the_cached_parser() {
+            assertThat(ProtobufMessageConverter.getParser(DrivingDataProto.DrivingData.class))
+                .isSameAs(DrivingDataProto.DrivingData.parser())
+                .isSameAs(ProtobufMessageConverter.getParser(DrivingDataProto.DrivingData.class));
+        }
+
+        @Test
+        @DisplayName("메시지 타입이 아닌 경우 예외를 던진다")
+        public void it_throws_an_exception_for_an_unsupported_type() {
+            assertThatThrownBy(() -> ProtobufMessageConverter.getParser(String.class))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("parse 메서드는")
+    public final class Describe_parse {
+        private Object subject(final Object payload) {
+            return ProtobufMessageConverter.parse(DrivingDataProto.DrivingData.class, payload);
+        }
+
+        @Test
+        @DisplayName("byte[]를 메시지로 변환한다")
+        public void it_parses_a_byte_array() {
+            assertThat(subject(START_DRIVING.toByteArray()))
+                .isEqualTo(START_DRIVING);
+        }
+
+        @Test
+        @DisplayName("ByteBuffer를 메시지로 변환한다")
+        public void it_parses_a_byte_buffer() {
+            assertThat(subject(ByteBuffer.wrap(START_DRIVING.toByteArray())))
+                .isEqualTo(START_DRIVING);
+        }
+
+        @Test
+        @DisplayName("CodedInputStream을 메시지로 변환한다")
+        public void it_parses_a_coded_input_stream() {
+            assertThat(subject(CodedInputStream.newInstance(START_DRIVING.toByteArray())))
+                .isEqualTo(START_DRIVING);
+        }
+
+        @Test
+        @DisplayName("잘못된 레코드인 경우 예외를 던진다")
+        public void it_throws_an_exception_for_an_invalid_input() {
+            assertThatThrownBy(() -> subject(new byte[0]))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 레코드 타입인 경우 예외를 던진다")
+        public void it_throws_an_exception_for_an_unsupported_input() {
+            assertThatThrownBy(() -> subject("input"))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
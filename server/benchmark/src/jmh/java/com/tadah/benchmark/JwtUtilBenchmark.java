@@ -0,0 +1,66 @@
+package com.tadah.benchmark;
+
+import com.tadah.auth.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil.encode, JwtUtil.decode 처리량을 측정한다
+ * newParser는 요청마다 JwtParser를 생성하던 기존 방식, sharedParser는 캐싱 없이 JwtParser만 재사용하는 방식이다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+    private static final String SECRET = "12345678901234567890123456789012";
+    private static final Long USER_ID = 1L;
+
+    private Key key;
+    private String token;
+    private JwtUtil sharedParserJwtUtil;
+    private JwtUtil cachedJwtUtil;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        sharedParserJwtUtil = new JwtUtil(SECRET, 0L, 0L);
+        cachedJwtUtil = new JwtUtil(SECRET, 10000L, 300L);
+        token = cachedJwtUtil.encode(USER_ID);
+    }
+
+    @Benchmark
+    public String encode() {
+        return cachedJwtUtil.encode(USER_ID);
+    }
+
+    @Benchmark
+    public Claims newParser() {
+        return Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return sharedParserJwtUtil.decode(token);
+    }
+
+    @Benchmark
+    public Claims cached() {
+        return cachedJwtUtil.decode(token);
+    }
+}
@@ -0,0 +1,61 @@
+package com.tadah.benchmark;
+
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import com.tadah.vehicle.utils.KinesisProducer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 동시에 KinesisProducer.sendData를 호출할 때의 처리량을 측정한다
+ * 전송 스레드 4개와 버퍼를 비우는 스레드 1개를 하나의 그룹으로 실행한다
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KinesisProducerBenchmark {
+    private static final int CAPACITY = 10000;
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+    private static final int BATCH_SIZE = 500;
+    private static final int AGGREGATION_BUCKETS = 16;
+    private static final DrivingDataProto.DrivingData DRIVING_DATA = DrivingDataProto.DrivingData.newBuilder()
+        .setUserId(1L)
+        .setLatitude(37.487964946)
+        .setLongitude(127.065536349)
+        .setDrivingStatus(DrivingDataProto.DrivingStatus.DRIVING)
+        .build();
+
+    @Param({"REJECT", "BLOCK", "DROP_OLDEST"})
+    private KinesisProducer.OverflowPolicy overflowPolicy;
+
+    private KinesisProducer kinesisProducer;
+
+    @Setup
+    public void setup() {
+        kinesisProducer = new KinesisProducer(CAPACITY, overflowPolicy, OFFER_TIMEOUT_MILLIS, BATCH_SIZE, AGGREGATION_BUCKETS);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(4)
+    public boolean sendData() {
+        return kinesisProducer.sendData(DRIVING_DATA);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public List<DrivingDataProto.DrivingData> drain() {
+        return kinesisProducer.drain(BATCH_SIZE);
+    }
+}
@@ -0,0 +1,54 @@
+package com.tadah.benchmark;
+
+import com.tadah.vehicle.dtos.DrivingDataProto;
+import com.tadah.vehicle.utils.ProtobufMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProtobufMessageConverter의 직렬화, 역직렬화 처리량을 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProtobufMessageConverterBenchmark {
+    private static final DrivingDataProto.DrivingData DRIVING_DATA = DrivingDataProto.DrivingData.newBuilder()
+        .setUserId(1L)
+        .setLatitude(37.487964946)
+        .setLongitude(127.065536349)
+        .setDrivingStatus(DrivingDataProto.DrivingStatus.DRIVING)
+        .setSequence(1_600_000_000_000_000L)
+        .build();
+
+    private ProtobufMessageConverter protobufMessageConverter;
+    private MessageHeaders headers;
+    private Message<byte[]> message;
+
+    @Setup
+    public void setup() {
+        protobufMessageConverter = new ProtobufMessageConverter();
+        headers = new MessageHeaders(Collections.emptyMap());
+        message = MessageBuilder.withPayload(DRIVING_DATA.toByteArray()).build();
+    }
+
+    @Benchmark
+    public Message<?> toMessage() {
+        return protobufMessageConverter.toMessage(DRIVING_DATA, headers);
+    }
+
+    @Benchmark
+    public Object fromMessage() {
+        return protobufMessageConverter.fromMessage(message, DrivingDataProto.DrivingData.class);
+    }
+}
@@ -0,0 +1,223 @@
+package com.tadah.load;
+
+import com.tadah.driving.domains.repositories.infra.JpaDrivingRepository;
+import com.tadah.driving.dtos.DrivingDataProto;
+import com.tadah.driving.utils.CoordinateUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.locationtech.jts.io.ParseException;
+import org.opengis.referencing.operation.TransformException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ad0022 도로를 따라 이동하는 드라이버를 시뮬레이션하여 processDriving Consumer의 처리량과 지연 시간을 측정한다
+ * 위치 정보는 Spring Cloud Stream 테스트 바인더로 전송하며, 맵매칭과 저장은 로컬 PostGIS에서 수행한다
+ *
+ * 지연 시간은 메시지를 전송하기로 예정된 시각부터 처리가 끝난 시각까지로, 처리가 밀리면 대기한 시간도 포함한다
+ * 드라이버는 load.senders개의 스레드에 나누어 배정하며, 같은 드라이버의 메시지는 하나의 스레드가 순서대로 전송한다
+ *
+ * ./gradlew loadTest -Dload.drivers=1000 -Dload.ping-interval-millis=1000 -Dload.duration-seconds=60 형식으로 실행하며,
+ * 결과는 표준 출력과 load.result-file에 JSON으로 기록한다
+ *
+ * 시뮬레이션하는 드라이버의 아이디는 [load.user-id-base, load.user-id-base + load.drivers) 구간을 사용하며,
+ * 실행 전후에 이 구간의 운행정보와 위치, 처리한 sequence만 삭제한다
+ * 실제 드라이버의 아이디와 겹치지 않도록 load.user-id-base를 지정해야 한다
+ */
+@SpringBootTest(properties = {
+    "spring.cloud.function.definition=processDriving",
+    "spring.cloud.stream.default-binder=integration"
+})
+@Import(TestChannelBinderConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("차량 위치 부하 테스트")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class FleetLoadTest {
+    private static final int DRIVERS = Integer.getInteger("load.drivers", 1000);
+    private static final long PING_INTERVAL_MILLIS = Long.getLong("load.ping-interval-millis", 1000L);
+    private static final long DURATION_SECONDS = Long.getLong("load.duration-seconds", 60L);
+    private static final long WARMUP_SECONDS = Long.getLong("load.warmup-seconds", 10L);
+    private static final int SENDERS = Integer.getInteger("load.senders", 4);
+    private static final int TRIP_PINGS = Integer.getInteger("load.trip-pings", 300);
+    private static final double SPEED_METERS_PER_SECOND = Double.parseDouble(System.getProperty("load.speed-meters-per-second", "11"));
+    private static final long SEED = Long.getLong("load.seed", 42L);
+    private static final long USER_ID_BASE = Long.getLong("load.user-id-base", 1_000_000L);
+    private static final String RESULT_FILE = System.getProperty("load.result-file", "build/reports/load/results.json");
+    private static final String PROTOBUF_VALUE = "application/x-protobuf";
+    private static final double NANOS_PER_MILLIS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    @Autowired
+    private InputDestination inputDestination;
+
+    @Autowired
+    private JpaDrivingRepository jpaDrivingRepository;
+
+    @Autowired
+    private CoordinateUtil coordinateUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    private void beforeAll() {
+        // 중단된 이전 실행이 남긴 운행정보와 sequence 때문에 메시지가 걸러지지 않도록 지운다
+        deleteSimulatedDrivers();
+    }
+
+    @AfterAll
+    private void afterAll() {
+        deleteSimulatedDrivers();
+    }
+
+    private void deleteSimulatedDrivers() {
+        final long userIdEnd = USER_ID_BASE + DRIVERS;
+        jdbcTemplate.update(
+            "delete from driving_point where driving_id in (select id from driving where user_id >= ? and user_id < ?)",
+            USER_ID_BASE, userIdEnd
+        );
+        jdbcTemplate.update("delete from driving where user_id >= ? and user_id < ?", USER_ID_BASE, userIdEnd);
+        jdbcTemplate.update("delete from driving_sequence where user_id >= ? and user_id < ?", USER_ID_BASE, userIdEnd);
+    }
+
+    private List<List<SimulatedDriver>> createDrivers() throws ParseException {
+        final RoadNetwork roadNetwork = RoadNetwork.fromWkt(jpaDrivingRepository.findAllEdges());
+        final double stepMeters = SPEED_METERS_PER_SECOND * PING_INTERVAL_MILLIS / 1000D;
+
+        final List<List<SimulatedDriver>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < SENDERS; lane++) {
+            lanes.add(new ArrayList<>());
+        }
+        for (int index = 0; index < DRIVERS; index++) {
+            final long userId = USER_ID_BASE + index;
+            lanes.get(index % SENDERS).add(new SimulatedDriver(
+                userId, roadNetwork, coordinateUtil, new Random(SEED + userId), stepMeters, TRIP_PINGS
+            ));
+        }
+        lanes.removeIf(List::isEmpty);
+        return lanes;
+    }
+
+    private void send(final DrivingDataProto.DrivingData drivingData) {
+        inputDestination.send(MessageBuilder.withPayload(drivingData.toByteArray())
+            .setHeader(MessageHeaders.CONTENT_TYPE, PROTOBUF_VALUE)
+            .build());
+    }
+
+    private LatencyRecorder run(
+        final List<SimulatedDriver> drivers,
+        final long startNanos,
+        final long warmupEndNanos,
+        final long endNanos
+    ) throws TransformException {
+        final LatencyRecorder latencyRecorder = new LatencyRecorder();
+        final long gapNanos = TimeUnit.MILLISECONDS.toNanos(PING_INTERVAL_MILLIS) / drivers.size();
+
+        long scheduledNanos = startNanos;
+        while (scheduledNanos < endNanos) {
+            for (final SimulatedDriver driver : drivers) {
+                final long waitNanos = scheduledNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+
+                send(driver.next());
+                if (scheduledNanos >= warmupEndNanos) {
+                    latencyRecorder.record(System.nanoTime() - scheduledNanos);
+                }
+                scheduledNanos += gapNanos;
+            }
+        }
+
+        for (final SimulatedDriver driver : drivers) {
+            if (driver.isDriving()) {
+                send(driver.stop());
+            }
+        }
+        return latencyRecorder;
+    }
+
+    private static String report(final LatencyRecorder latencyRecorder, final double measuredSeconds) {
+        return String.format(
+            Locale.ROOT,
+            "{\"drivers\":%d,\"pingIntervalMillis\":%d,\"senders\":%d,\"messages\":%d,"
+                + "\"targetThroughput\":%.1f,\"throughput\":%.1f,"
+                + "\"p50Millis\":%.3f,\"p99Millis\":%.3f,\"p999Millis\":%.3f,\"maxMillis\":%.3f}",
+            DRIVERS, PING_INTERVAL_MILLIS, SENDERS, latencyRecorder.count(),
+            DRIVERS * 1000D / PING_INTERVAL_MILLIS, latencyRecorder.count() / measuredSeconds,
+            latencyRecorder.percentile(0.5D) / NANOS_PER_MILLIS,
+            latencyRecorder.percentile(0.99D) / NANOS_PER_MILLIS,
+            latencyRecorder.percentile(0.999D) / NANOS_PER_MILLIS,
+            latencyRecorder.max() / NANOS_PER_MILLIS
+        );
+    }
+
+    @Test
+    @DisplayName("설정된 드라이버 수와 주기로 위치 정보를 전송하고 처리량과 지연 시간을 기록한다")
+    public void it_reports_the_throughput_and_latency() throws Exception {
+        final List<List<SimulatedDriver>> lanes = createDrivers();
+        final long startNanos = System.nanoTime();
+        final long warmupEndNanos = startNanos + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        final long endNanos = warmupEndNanos + TimeUnit.SECONDS.toNanos(DURATION_SECONDS);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(lanes.size());
+        final LatencyRecorder latencyRecorder = new LatencyRecorder();
+        try {
+            final List<Future<LatencyRecorder>> futures = new ArrayList<>();
+            for (final List<SimulatedDriver> drivers : lanes) {
+                final Callable<LatencyRecorder> sender = () -> run(drivers, startNanos, warmupEndNanos, endNanos);
+                futures.add(executorService.submit(sender));
+            }
+            for (final Future<LatencyRecorder> future : futures) {
+                latencyRecorder.addAll(future.get());
+            }
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("부하 생성에 실패했습니다.", exception.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        final double measuredSeconds = Math.max(System.nanoTime() - warmupEndNanos, 1L) / 1e9D;
+        final String report = report(latencyRecorder, measuredSeconds);
+        System.out.println(report);
+        write(report);
+
+        assertThat(latencyRecorder.count())
+            .isPositive();
+    }
+
+    private static void write(final String report) throws IOException {
+        final Path path = Paths.get(RESULT_FILE);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.writeString(path, report);
+    }
+}
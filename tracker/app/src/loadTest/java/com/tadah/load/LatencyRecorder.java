@@ -0,0 +1,59 @@
+package com.tadah.load;
+
+import java.util.Arrays;
+
+/**
+ * 처리 지연 시간(ns)을 모두 기록하고 백분위 값을 계산한다
+ * 스레드마다 하나씩 사용하고, 측정이 끝나면 하나로 합친다
+ */
+final class LatencyRecorder {
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private long[] samples;
+    private int size;
+    private boolean sorted;
+
+    LatencyRecorder() {
+        this.samples = new long[INITIAL_CAPACITY];
+    }
+
+    void record(final long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+        sorted = false;
+    }
+
+    void addAll(final LatencyRecorder other) {
+        for (int index = 0; index < other.size; index++) {
+            record(other.samples[index]);
+        }
+    }
+
+    int count() {
+        return size;
+    }
+
+    /**
+     * 백분위 값을 리턴한다
+     *
+     * @param percentile 0보다 크고 1 이하인 백분위
+     * @return 백분위 지연 시간(ns), 기록이 없으면 0
+     */
+    long percentile(final double percentile) {
+        if (size == 0) {
+            return 0L;
+        }
+        if (!sorted) {
+            Arrays.sort(samples, 0, size);
+            sorted = true;
+        }
+        final int index = (int) Math.ceil(percentile * size) - 1;
+        return samples[Math.max(0, Math.min(index, size - 1))];
+    }
+
+    long max() {
+        return percentile(1D);
+    }
+}
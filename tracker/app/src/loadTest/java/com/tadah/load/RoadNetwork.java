@@ -0,0 +1,90 @@
+package com.tadah.load;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 시뮬레이션에 사용할 도로 정보(EPSG 5179)
+ * 도로의 양 끝점을 1m 단위로 반올림하여 이어진 도로를 찾는다
+ */
+final class RoadNetwork {
+    private final List<LineString> edges;
+    private final Map<Long, List<LineString>> junctions;
+
+    private RoadNetwork(final List<LineString> edges) {
+        this.edges = edges;
+        this.junctions = new HashMap<>();
+        for (final LineString edge : edges) {
+            junctions.computeIfAbsent(getKey(edge.getCoordinateN(0)), key -> new ArrayList<>()).add(edge);
+            junctions.computeIfAbsent(getKey(edge.getCoordinateN(edge.getNumPoints() - 1)), key -> new ArrayList<>()).add(edge);
+        }
+    }
+
+    /**
+     * WKT 형식의 도로 정보로 도로망을 만든다
+     *
+     * @param wkts 도로 정보(WKT, EPSG5179) 목록
+     * @return 도로망
+     * @throws ParseException WKT 형식이 잘못된 경우
+     */
+    static RoadNetwork fromWkt(final List<String> wkts) throws ParseException {
+        final WKTReader wktReader = new WKTReader();
+        final List<LineString> edges = new ArrayList<>();
+        for (final String wkt : wkts) {
+            final Geometry geometry = wktReader.read(wkt);
+            for (int index = 0; index < geometry.getNumGeometries(); index++) {
+                final Geometry part = geometry.getGeometryN(index);
+                if (part instanceof LineString && part.getLength() > 0) {
+                    edges.add((LineString) part);
+                }
+            }
+        }
+        if (edges.isEmpty()) {
+            throw new IllegalStateException("도로 정보가 없습니다.");
+        }
+        return new RoadNetwork(edges);
+    }
+
+    static long getKey(final Coordinate coordinate) {
+        return (Math.round(coordinate.x) << Integer.SIZE) | (Math.round(coordinate.y) & 0xFFFFFFFFL);
+    }
+
+    int size() {
+        return edges.size();
+    }
+
+    LineString random(final Random random) {
+        return edges.get(random.nextInt(edges.size()));
+    }
+
+    /**
+     * 교차점에서 이어지는 도로 중 하나를 고른다
+     * 지나온 도로 외에 이어진 도로가 없으면 지나온 도로를 리턴하여 되돌아가게 한다
+     *
+     * @param junction 교차점
+     * @param from 지나온 도로
+     * @param random 난수 생성기
+     * @return 이어지는 도로
+     */
+    LineString next(final Coordinate junction, final LineString from, final Random random) {
+        final List<LineString> candidates = new ArrayList<>();
+        for (final LineString edge : junctions.getOrDefault(getKey(junction), List.of())) {
+            if (edge != from) {
+                candidates.add(edge);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return from;
+        }
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+}
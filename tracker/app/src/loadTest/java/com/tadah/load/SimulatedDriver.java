@@ -0,0 +1,138 @@
+package com.tadah.load;
+
+import com.tadah.driving.dtos.DrivingDataProto;
+import com.tadah.driving.utils.CoordinateUtil;
+import org.geolatte.geom.G2D;
+import org.geolatte.geom.Point;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.linearref.LengthIndexedLine;
+import org.opengis.referencing.operation.TransformException;
+
+import java.util.Random;
+
+/**
+ * 도로를 따라 이동하며 위치 정보를 전송하는 드라이버
+ * 운행마다 임의의 도로에서 시작하여 교차점에서 이어진 도로를 골라 이동하고, 정해진 횟수만큼 위치를 전송하면 운행을 종료한다
+ */
+final class SimulatedDriver {
+    private final long userId;
+    private final RoadNetwork roadNetwork;
+    private final CoordinateUtil coordinateUtil;
+    private final Random random;
+    private final double stepMeters;
+    private final int tripPings;
+
+    private LineString edge;
+    private LengthIndexedLine line;
+    private boolean forward;
+    private double offset;
+    private int pings;
+    private int tripLength;
+    private long sequence;
+
+    /**
+     * @param userId 드라이버 아이디
+     * @param roadNetwork 도로망
+     * @param coordinateUtil 좌표계 변환
+     * @param random 난수 생성기
+     * @param stepMeters 위치를 전송하는 사이에 이동하는 거리(m)
+     * @param tripPings 운행 한 번에 전송하는 위치의 평균 개수
+     */
+    SimulatedDriver(
+        final long userId,
+        final RoadNetwork roadNetwork,
+        final CoordinateUtil coordinateUtil,
+        final Random random,
+        final double stepMeters,
+        final int tripPings
+    ) {
+        this.userId = userId;
+        this.roadNetwork = roadNetwork;
+        this.coordinateUtil = coordinateUtil;
+        this.random = random;
+        this.stepMeters = stepMeters;
+        this.tripPings = tripPings;
+    }
+
+    long getUserId() {
+        return userId;
+    }
+
+    boolean isDriving() {
+        return pings > 0;
+    }
+
+    /**
+     * 다음에 전송할 위치 정보를 만든다
+     * 운행중이 아니면 운행 시작, 운행 길이에 도달하면 운행 종료, 그 외에는 이동한 위치의 운행 정보를 만든다
+     *
+     * @return 전송할 위치 정보
+     * @throws TransformException 좌표계 변환에 실패한 경우
+     */
+    DrivingDataProto.DrivingData next() throws TransformException {
+        if (pings == 0) {
+            startTrip();
+            return build(DrivingDataProto.DrivingStatus.START);
+        }
+        if (pings >= tripLength) {
+            return stop();
+        }
+
+        pings++;
+        move(stepMeters);
+        return build(DrivingDataProto.DrivingStatus.DRIVING);
+    }
+
+    /**
+     * 현재 위치에서 운행을 종료한다
+     *
+     * @return 운행 종료 정보
+     * @throws TransformException 좌표계 변환에 실패한 경우
+     */
+    DrivingDataProto.DrivingData stop() throws TransformException {
+        pings = 0;
+        return build(DrivingDataProto.DrivingStatus.STOP);
+    }
+
+    private void startTrip() {
+        setEdge(roadNetwork.random(random), random.nextBoolean());
+        offset = random.nextDouble() * edge.getLength();
+        tripLength = tripPings / 2 + random.nextInt(tripPings + 1);
+        pings = 1;
+    }
+
+    private void setEdge(final LineString edge, final boolean forward) {
+        this.edge = edge;
+        this.line = new LengthIndexedLine(edge);
+        this.forward = forward;
+        this.offset = 0D;
+    }
+
+    private void move(final double meters) {
+        double remaining = offset + meters;
+        while (remaining > edge.getLength()) {
+            remaining -= edge.getLength();
+            final Coordinate junction = forward ? edge.getEndPoint().getCoordinate() : edge.getStartPoint().getCoordinate();
+            final LineString next = roadNetwork.next(junction, edge, random);
+            final boolean nextForward = next == edge
+                ? !forward
+                : RoadNetwork.getKey(next.getStartPoint().getCoordinate()) == RoadNetwork.getKey(junction);
+            setEdge(next, nextForward);
+        }
+        offset = remaining;
+    }
+
+    private DrivingDataProto.DrivingData build(final DrivingDataProto.DrivingStatus drivingStatus) throws TransformException {
+        final Coordinate coordinate = line.extractPoint(forward ? offset : edge.getLength() - offset);
+        final Point<G2D> gps = coordinateUtil.toGps(coordinate.x, coordinate.y);
+
+        return DrivingDataProto.DrivingData.newBuilder()
+            .setUserId(userId)
+            .setLatitude(gps.getPosition().getLat())
+            .setLongitude(gps.getPosition().getLon())
+            .setDrivingStatus(drivingStatus)
+            .setSequence(++sequence)
+            .build();
+    }
+}
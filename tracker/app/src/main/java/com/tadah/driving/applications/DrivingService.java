@@ -1,23 +1,78 @@
 package com.tadah.driving.applications;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.tadah.driving.domains.entities.Driving;
 import com.tadah.driving.domains.repositories.DrivingRepository;
 import com.tadah.driving.utils.CoordinateUtil;
+import com.tadah.driving.utils.MapMatcher;
+import com.tadah.driving.utils.TrajectoryCodec;
+import com.tadah.driving.utils.TrajectorySimplifier;
+import com.tadah.driving.utils.WriteBehindBuffer;
 import org.geolatte.geom.C2D;
+import org.geolatte.geom.Geometries;
 import org.geolatte.geom.Point;
 import org.opengis.referencing.operation.TransformException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 @Service
 public final class DrivingService {
+    /**
+     * 위치 정보 저장 방식
+     */
+    public enum StorageMode {
+        /**
+         * 위치를 수신할 때마다 운행정보의 경로에 추가한다
+         */
+        PATH,
+        /**
+         * 위치를 별도의 테이블에 저장하고, 운행이 종료될 때 경로로 이어 붙인다
+         * 운행 중에 조회하면 저장한 위치를 이어 붙인 경로를 리턴한다
+         */
+        POINTS
+    }
+
+    private static final Duration ACTIVE_DRIVING_TTL = Duration.ofHours(1);
+
+    private final Cache<Long, Long> activeDrivings;
     private final CoordinateUtil coordinateUtil;
     private final DrivingRepository drivingRepository;
+    private final MapMatcher mapMatcher;
+    private final TrajectorySimplifier trajectorySimplifier;
+    private final StorageMode storageMode;
+    private final boolean archiveOnStop;
+    private final WriteBehindBuffer<Long, Point<C2D>> writeBehindBuffer;
 
-    public DrivingService(final CoordinateUtil coordinateUtil, final DrivingRepository drivingRepository) {
+    public DrivingService(
+        final CoordinateUtil coordinateUtil,
+        final DrivingRepository drivingRepository,
+        final MapMatcher mapMatcher,
+        final TrajectorySimplifier trajectorySimplifier,
+        @Value("${tracker.driving.storage:PATH}") final StorageMode storageMode,
+        @Value("${tracker.driving.archive-on-stop:false}") final boolean archiveOnStop,
+        final WriteBehindBuffer.Policy writeBehindPolicy
+    ) {
         this.coordinateUtil = coordinateUtil;
         this.drivingRepository = drivingRepository;
+        this.mapMatcher = mapMatcher;
+        this.trajectorySimplifier = trajectorySimplifier;
+        this.storageMode = storageMode;
+        this.archiveOnStop = archiveOnStop;
+        this.activeDrivings = CacheBuilder.newBuilder()
+            .expireAfterWrite(ACTIVE_DRIVING_TTL)
+            .recordStats()
+            .build();
+        this.writeBehindBuffer = new WriteBehindBuffer<>(writeBehindPolicy, this::write);
     }
 
     /**
@@ -30,17 +85,51 @@ public final class DrivingService {
      */
     public Point<C2D> transForm(final Double latitude, final Double longitude) throws TransformException {
         final Point<C2D> point = coordinateUtil.fromGps(latitude, longitude);
-        return drivingRepository.mapMatch(point).getPoint();
+        return mapMatcher.match(point).getPoint();
     }
 
     /**
      * 차량 운행정보를 가져온다
+     * 위치를 별도로 저장하는 경우 아직 경로에 이어 붙이지 않은 위치까지 포함한 경로를 리턴한다
      *
      * @param userId 드라이버 아이디
      * @return 차량 운행 정보
      */
     public Optional<Driving> get(final Long userId) {
-        return drivingRepository.find(userId);
+        final Optional<Driving> drivingOptional = storageMode == StorageMode.POINTS
+            ? drivingRepository.findWithPoints(userId)
+            : drivingRepository.find(userId);
+        drivingOptional.ifPresent(driving -> activeDrivings.put(userId, driving.getId()));
+        return drivingOptional;
+    }
+
+    /**
+     * 운행중인 차량 운행정보 아이디를 가져온다
+     * 운행을 시작할 때 저장해둔 아이디를 우선 사용하고, 없는 경우에만 조회한다
+     *
+     * @param userId 드라이버 아이디
+     * @return 차량 운행 정보 아이디
+     */
+    public OptionalLong getId(final Long userId) {
+        final Long drivingId = activeDrivings.getIfPresent(userId);
+        if (drivingId != null) {
+            return OptionalLong.of(drivingId);
+        }
+        return drivingRepository.find(userId)
+            .map(driving -> {
+                activeDrivings.put(userId, driving.getId());
+                return OptionalLong.of(driving.getId());
+            })
+            .orElseGet(OptionalLong::empty);
+    }
+
+    /**
+     * 운행중인 차량 운행정보 아이디 캐시의 적중 통계를 리턴한다
+     *
+     * @return 캐시 적중 통계
+     */
+    public CacheStats getActiveDrivingStats() {
+        return activeDrivings.stats();
     }
 
     /**
@@ -50,7 +139,12 @@ public final class DrivingService {
      * @return 시작한 운행 정보
      */
     public Driving start(final Driving driving) {
-        return drivingRepository.save(driving);
+        final Driving savedDriving = drivingRepository.save(driving);
+        activeDrivings.put(savedDriving.getUserId(), savedDriving.getId());
+        trajectorySimplifier.start(savedDriving.getId(), Geometries.mkPoint(
+            savedDriving.getPath().getStartPosition(), savedDriving.getPath().getCoordinateReferenceSystem()
+        ));
+        return savedDriving;
     }
 
     /**
@@ -60,7 +154,36 @@ public final class DrivingService {
      * @param point 종료 지점
      */
     public void stop(final Driving driving, final Point<C2D> point) {
-        drivingRepository.update(driving.getId(), point, false);
+        final List<Point<C2D>> points = trajectorySimplifier.stop(driving.getId(), point);
+        points.subList(0, points.size() - 1).forEach(pending -> save(driving.getId(), pending));
+        writeBehindBuffer.flush(driving.getId());
+
+        if (storageMode == StorageMode.POINTS) {
+            drivingRepository.insertPoint(driving.getId(), point);
+            drivingRepository.materialize(driving.getId(), false);
+        } else {
+            drivingRepository.update(driving.getId(), point, false);
+        }
+        activeDrivings.invalidate(driving.getUserId());
+        if (archiveOnStop) {
+            archive(driving.getId());
+        }
+    }
+
+    /**
+     * 종료된 운행의 경로를 압축된 형식으로 보관한다
+     * 이미 보관되었거나 운행중인 경우 아무것도 하지 않는다
+     *
+     * @param drivingId 차량 운행 정보 아이디
+     * @return 경로를 보관한 경우 true
+     */
+    public boolean archive(final Long drivingId) {
+        return drivingRepository.findStopped(drivingId)
+            .map(driving -> {
+                drivingRepository.archive(drivingId, TrajectoryCodec.encode(driving.getPath()));
+                return true;
+            })
+            .orElse(false);
     }
 
     /**
@@ -70,6 +193,138 @@ public final class DrivingService {
      * @param point 업데이트할 위치 정보
      */
     public void update(final Driving driving, final Point<C2D> point) {
-        drivingRepository.update(driving.getId(), point, true);
+        update(driving.getId(), point);
+    }
+
+    /**
+     * 위치 정보를 업데이트한다
+     * 경로 단순화 결과 저장할 필요가 없는 위치는 저장하지 않는다
+     *
+     * @param drivingId 차량 운행 정보 아이디
+     * @param point 업데이트할 위치 정보
+     */
+    public void update(final Long drivingId, final Point<C2D> point) {
+        trajectorySimplifier.offer(drivingId, point)
+            .ifPresent(simplified -> save(drivingId, simplified));
+    }
+
+    private void save(final Long drivingId, final Point<C2D> point) {
+        writeBehindBuffer.add(drivingId, point);
+    }
+
+    private void write(final Long drivingId, final List<Point<C2D>> points) {
+        if (points.size() == 1) {
+            if (storageMode == StorageMode.POINTS) {
+                invalidateIfStopped(drivingId, drivingRepository.insertPoint(drivingId, points.get(0)));
+                return;
+            }
+            invalidateIfStopped(drivingId, drivingRepository.update(drivingId, points.get(0), true));
+            return;
+        }
+
+        if (storageMode == StorageMode.POINTS) {
+            invalidateIfStopped(drivingId, drivingRepository.insertPoints(drivingId, Geometries.mkMultiPoint(points)));
+            return;
+        }
+        invalidateIfStopped(drivingId, drivingRepository.appendAll(drivingId, Geometries.mkMultiPoint(points), true));
+    }
+
+    /**
+     * 다른 인스턴스에서 이미 종료하여 저장되지 않은 운행의 아이디를 캐시에서 지운다
+     *
+     * @param drivingId 차량 운행 정보 아이디
+     * @param updatedCount 저장된 행의 개수
+     */
+    private void invalidateIfStopped(final Long drivingId, final int updatedCount) {
+        if (updatedCount == 0) {
+            activeDrivings.asMap().values().remove(drivingId);
+        }
+    }
+
+    /**
+     * 저장되지 않고 모아둔 위치 정보의 개수를 리턴한다
+     *
+     * @return 저장되지 않은 위치 정보의 개수
+     */
+    public int getWriteBehindDepth() {
+        return writeBehindBuffer.getDepth();
+    }
+
+    /**
+     * 모아둔 위치 정보의 저장에 실패한 횟수를 리턴한다
+     *
+     * @return 저장에 실패한 횟수
+     */
+    public long getWriteBehindFailedFlushCount() {
+        return writeBehindBuffer.getFailedFlushCount();
+    }
+
+    /**
+     * 모아둔 위치 정보를 모두 저장한다
+     */
+    @PreDestroy
+    public void close() {
+        writeBehindBuffer.close();
+    }
+
+    /**
+     * 여러 위치 정보를 한 번에 업데이트한다
+     *
+     * @param driving 차량 운행 정보
+     * @param points 업데이트할 위치 정보 목록
+     * @param isDriving 업데이트 후 운행 상태
+     */
+    public void append(final Driving driving, final List<Point<C2D>> points, final boolean isDriving) {
+        append(driving.getUserId(), driving.getId(), points, isDriving);
+    }
+
+    /**
+     * 여러 위치 정보를 한 번에 업데이트한다
+     * 운행정보를 조회하지 않고 getId로 가져온 아이디만으로 업데이트한다
+     *
+     * @param userId 드라이버 아이디
+     * @param drivingId 차량 운행 정보 아이디
+     * @param points 업데이트할 위치 정보 목록
+     * @param isDriving 업데이트 후 운행 상태
+     */
+    public void append(final Long userId, final Long drivingId, final List<Point<C2D>> points, final boolean isDriving) {
+        if (points.isEmpty()) {
+            return;
+        }
+
+        final List<Point<C2D>> simplifiedPoints = simplify(drivingId, points, isDriving);
+        if (simplifiedPoints.isEmpty()) {
+            return;
+        }
+        writeBehindBuffer.flush(drivingId);
+        if (storageMode == StorageMode.POINTS) {
+            invalidateIfStopped(drivingId, drivingRepository.insertPoints(drivingId, Geometries.mkMultiPoint(simplifiedPoints)));
+            if (!isDriving) {
+                drivingRepository.materialize(drivingId, false);
+            }
+        } else {
+            invalidateIfStopped(drivingId, drivingRepository.appendAll(drivingId, Geometries.mkMultiPoint(simplifiedPoints), isDriving));
+        }
+        if (!isDriving) {
+            activeDrivings.invalidate(userId);
+            if (archiveOnStop) {
+                archive(drivingId);
+            }
+        }
+    }
+
+    private List<Point<C2D>> simplify(final Long drivingId, final List<Point<C2D>> points, final boolean isDriving) {
+        final List<Point<C2D>> simplifiedPoints = new ArrayList<>();
+        final int lastIndex = points.size() - 1;
+        for (int index = 0; index < lastIndex; index++) {
+            trajectorySimplifier.offer(drivingId, points.get(index)).ifPresent(simplifiedPoints::add);
+        }
+
+        if (isDriving) {
+            trajectorySimplifier.offer(drivingId, points.get(lastIndex)).ifPresent(simplifiedPoints::add);
+        } else {
+            simplifiedPoints.addAll(trajectorySimplifier.stop(drivingId, points.get(lastIndex)));
+        }
+        return simplifiedPoints;
     }
 }
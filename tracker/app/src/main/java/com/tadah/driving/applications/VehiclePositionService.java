@@ -0,0 +1,53 @@
+package com.tadah.driving.applications;
+
+import com.tadah.driving.dtos.VehiclePositionData;
+import com.tadah.driving.utils.CoordinateUtil;
+import com.tadah.driving.utils.VehiclePositionIndex;
+import org.geolatte.geom.G2D;
+import org.geolatte.geom.Point;
+import org.opengis.referencing.operation.TransformException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public final class VehiclePositionService {
+    private final CoordinateUtil coordinateUtil;
+    private final VehiclePositionIndex vehiclePositionIndex;
+
+    public VehiclePositionService(final CoordinateUtil coordinateUtil, final VehiclePositionIndex vehiclePositionIndex) {
+        this.coordinateUtil = coordinateUtil;
+        this.vehiclePositionIndex = vehiclePositionIndex;
+    }
+
+    /**
+     * 질의 위치에서 가까운 운행중인 드라이버를 찾는다
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param count 찾을 드라이버의 최대 수
+     * @param maxDistanceMeters 찾을 최대 거리(m)
+     * @return 거리가 가까운 순서로 정렬한 드라이버의 위치
+     * @throws TransformException 좌표계 변환에 실패한 경우
+     */
+    public List<VehiclePositionData> nearest(
+        final Double latitude,
+        final Double longitude,
+        final int count,
+        final double maxDistanceMeters
+    ) throws TransformException {
+        final List<VehiclePositionIndex.Position> positions = vehiclePositionIndex.nearest(
+            coordinateUtil.fromGps(latitude, longitude), count, maxDistanceMeters
+        );
+
+        final List<VehiclePositionData> vehiclePositions = new ArrayList<>(positions.size());
+        for (final VehiclePositionIndex.Position position : positions) {
+            final Point<G2D> point = coordinateUtil.toGps(position.getX(), position.getY());
+            vehiclePositions.add(new VehiclePositionData(
+                position.getUserId(), point.getPosition().getLat(), point.getPosition().getLon(), position.getDistance()
+            ));
+        }
+        return vehiclePositions;
+    }
+}
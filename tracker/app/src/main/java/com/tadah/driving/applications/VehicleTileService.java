@@ -0,0 +1,137 @@
+package com.tadah.driving.applications;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.tadah.driving.exceptions.InvalidTileException;
+import com.tadah.driving.utils.CoordinateUtil;
+import com.tadah.driving.utils.VectorTileEncoder;
+import com.tadah.driving.utils.VehiclePositionIndex;
+import org.geolatte.geom.G2D;
+import org.opengis.referencing.operation.TransformException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 운행중인 드라이버의 현재 위치를 XYZ 타일(EPSG 3857) 단위의 Mapbox Vector Tile로 제공한다
+ * 인코딩한 타일은 tracker.vehicle-tile.ttl-millis 동안 캐싱하며, 같은 타일을 동시에 요청하면 한 번만 인코딩한다
+ * EPSG 5179에서 타일의 경계는 곡선이 되므로 경계마다 여러 점을 변환하여 조회할 영역을 구한다
+ */
+@Service
+public final class VehicleTileService {
+    public static final String LAYER_NAME = "vehicles";
+    public static final int EXTENT = 4096;
+    public static final int MIN_ZOOM = 8;
+    public static final int MAX_ZOOM = 22;
+    private static final int MAX_CACHED_TILES = 10000;
+    private static final int EDGE_SAMPLES = 16;
+
+    private final CoordinateUtil coordinateUtil;
+    private final VehiclePositionIndex vehiclePositionIndex;
+    private final Cache<String, byte[]> tiles;
+
+    public VehicleTileService(
+        final CoordinateUtil coordinateUtil,
+        final VehiclePositionIndex vehiclePositionIndex,
+        @Value("${tracker.vehicle-tile.ttl-millis:1000}") final long ttlMillis
+    ) {
+        this.coordinateUtil = coordinateUtil;
+        this.vehiclePositionIndex = vehiclePositionIndex;
+        this.tiles = CacheBuilder.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(ttlMillis))
+            .maximumSize(MAX_CACHED_TILES)
+            .build();
+    }
+
+    private static double toLongitude(final double x, final double numTiles) {
+        return x / numTiles * 360D - 180D;
+    }
+
+    private static double toLatitude(final double y, final double numTiles) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1D - 2D * y / numTiles))));
+    }
+
+    private static double toTileX(final double longitude, final double numTiles) {
+        return (longitude + 180D) / 360D * numTiles;
+    }
+
+    private static double toTileY(final double latitude, final double numTiles) {
+        final double radians = Math.toRadians(latitude);
+        return (1D - Math.log(Math.tan(radians) + 1D / Math.cos(radians)) / Math.PI) / 2D * numTiles;
+    }
+
+    /**
+     * 타일 안에 있는 운행중인 드라이버의 위치를 Mapbox Vector Tile로 인코딩한다
+     *
+     * @param z 줌 레벨
+     * @param x 타일의 x 좌표
+     * @param y 타일의 y 좌표
+     * @return 인코딩한 타일
+     * @throws InvalidTileException 타일 좌표가 유효하지 않은 경우
+     * @throws TransformException 좌표계 변환에 실패한 경우
+     */
+    public byte[] getTile(final int z, final int x, final int y) throws TransformException {
+        if (z < MIN_ZOOM || z > MAX_ZOOM) {
+            throw new InvalidTileException("지원하지 않는 줌 레벨입니다.");
+        }
+        final int numTiles = 1 << z;
+        if (x < 0 || x >= numTiles || y < 0 || y >= numTiles) {
+            throw new InvalidTileException("타일 좌표가 범위를 벗어났습니다.");
+        }
+
+        try {
+            return tiles.get(z + "/" + x + "/" + y, () -> encode(z, x, y));
+        } catch (ExecutionException exception) {
+            throw (TransformException) exception.getCause();
+        }
+    }
+
+    /**
+     * 타일의 경계를 따라 EDGE_SAMPLES개씩 나눈 점을 EPSG 5179로 변환하여 감싸는 영역을 구한다
+     *
+     * @return 최소 x, 최소 y, 최대 x, 최대 y
+     */
+    private double[] getBounds(final int x, final int y, final double numTiles) throws TransformException {
+        final int numPoints = EDGE_SAMPLES * 4;
+        final double[] points = new double[numPoints * 2];
+        for (int i = 0; i < EDGE_SAMPLES; i++) {
+            final double t = (double) i / EDGE_SAMPLES;
+            final double[][] tileCoordinates = {
+                {x + t, y}, {x + 1, y + t}, {x + 1 - t, y + 1}, {x, y + 1 - t}
+            };
+            for (int edge = 0; edge < tileCoordinates.length; edge++) {
+                final int index = (edge * EDGE_SAMPLES + i) * 2;
+                points[index] = toLatitude(tileCoordinates[edge][1], numTiles);
+                points[index + 1] = toLongitude(tileCoordinates[edge][0], numTiles);
+            }
+        }
+        coordinateUtil.transform(points, points, numPoints);
+
+        final double[] bounds = {Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (int index = 0; index < points.length; index += 2) {
+            bounds[0] = Math.min(bounds[0], points[index]);
+            bounds[1] = Math.min(bounds[1], points[index + 1]);
+            bounds[2] = Math.max(bounds[2], points[index]);
+            bounds[3] = Math.max(bounds[3], points[index + 1]);
+        }
+        return bounds;
+    }
+
+    private byte[] encode(final int z, final int x, final int y) throws TransformException {
+        final double numTiles = 1 << z;
+        final double[] bounds = getBounds(x, y, numTiles);
+
+        final VectorTileEncoder vectorTileEncoder = new VectorTileEncoder(LAYER_NAME, EXTENT);
+        for (final VehiclePositionIndex.Position position : vehiclePositionIndex.within(bounds[0], bounds[1], bounds[2], bounds[3])) {
+            final G2D gps = coordinateUtil.toGps(position.getX(), position.getY()).getPosition();
+            final int tileX = (int) Math.floor((toTileX(gps.getLon(), numTiles) - x) * EXTENT);
+            final int tileY = (int) Math.floor((toTileY(gps.getLat(), numTiles) - y) * EXTENT);
+            if (tileX >= 0 && tileX < EXTENT && tileY >= 0 && tileY < EXTENT) {
+                vectorTileEncoder.addPoint(position.getUserId(), tileX, tileY);
+            }
+        }
+        return vectorTileEncoder.encode();
+    }
+}
@@ -0,0 +1,21 @@
+package com.tadah.driving.configs;
+
+import com.tadah.driving.utils.KeyedExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 운행정보를 드라이버별로 병렬 처리할 실행기를 등록한다
+ * tracker.dispatch.lanes개의 레인에 드라이버를 배정하며, 레인마다 tracker.dispatch.lane-capacity개의 작업을 대기시킨다
+ */
+@Configuration
+public class DispatchConfiguration {
+    @Bean
+    public KeyedExecutor keyedExecutor(
+        @Value("${tracker.dispatch.lanes:8}") final int lanes,
+        @Value("${tracker.dispatch.lane-capacity:1000}") final int laneCapacity
+    ) {
+        return new KeyedExecutor(lanes, laneCapacity);
+    }
+}
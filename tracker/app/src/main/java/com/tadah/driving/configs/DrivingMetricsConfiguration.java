@@ -0,0 +1,59 @@
+package com.tadah.driving.configs;
+
+import com.tadah.driving.applications.DrivingService;
+import com.tadah.driving.utils.DrivingSequenceFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 운행정보 처리 관련 지표를 등록한다
+ */
+@Configuration
+public class DrivingMetricsConfiguration {
+    private static final String ACTIVE_DRIVING_CACHE = "tracker.driving.active.cache";
+    private static final String WRITE_BEHIND_DEPTH = "tracker.driving.write-behind.depth";
+    private static final String WRITE_BEHIND_FAILED = "tracker.driving.write-behind.failed";
+    private static final String SEQUENCE_FILTER_DROPPED = "tracker.driving.sequence-filter.dropped";
+    private static final String SEQUENCE_FILTER_FAILED = "tracker.driving.sequence-filter.failed";
+
+    @Bean
+    public MeterBinder activeDrivingCacheMetrics(final DrivingService drivingService) {
+        return registry -> {
+            FunctionCounter.builder(ACTIVE_DRIVING_CACHE, drivingService, service -> service.getActiveDrivingStats().hitCount())
+                .tag("result", "hit")
+                .description("운행중인 차량 운행정보 아이디 캐시 적중 횟수")
+                .register(registry);
+            FunctionCounter.builder(ACTIVE_DRIVING_CACHE, drivingService, service -> service.getActiveDrivingStats().missCount())
+                .tag("result", "miss")
+                .description("운행중인 차량 운행정보 아이디 캐시 실패 횟수")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder writeBehindMetrics(final DrivingService drivingService) {
+        return registry -> {
+            Gauge.builder(WRITE_BEHIND_DEPTH, drivingService, DrivingService::getWriteBehindDepth)
+                .description("저장되지 않고 모아둔 위치 정보의 개수")
+                .register(registry);
+            FunctionCounter.builder(WRITE_BEHIND_FAILED, drivingService, DrivingService::getWriteBehindFailedFlushCount)
+                .description("모아둔 위치 정보의 저장에 실패한 횟수")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder sequenceFilterMetrics(final DrivingSequenceFilter drivingSequenceFilter) {
+        return registry -> {
+            FunctionCounter.builder(SEQUENCE_FILTER_DROPPED, drivingSequenceFilter, DrivingSequenceFilter::getDroppedCount)
+                .description("중복되거나 순서가 뒤바뀌어 처리하지 않은 운행정보의 개수")
+                .register(registry);
+            FunctionCounter.builder(SEQUENCE_FILTER_FAILED, drivingSequenceFilter, DrivingSequenceFilter::getFailedSaveCount)
+                .description("처리한 sequence의 저장에 실패한 횟수")
+                .register(registry);
+        };
+    }
+}
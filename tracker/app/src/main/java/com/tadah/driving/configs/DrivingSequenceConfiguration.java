@@ -0,0 +1,39 @@
+package com.tadah.driving.configs;
+
+import com.tadah.driving.domains.repositories.DrivingSequenceRepository;
+import com.tadah.driving.utils.DrivingSequenceFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.OptionalLong;
+
+/**
+ * 중복되거나 순서가 뒤바뀐 운행정보를 걸러낼 필터를 등록한다
+ * 드라이버를 tracker.driving.sequence-filter.segments개의 구간으로 나누어 동기화한다
+ * 처리한 sequence는 driving_sequence 테이블에 tracker.driving.sequence-filter.flush-interval-millis 간격으로 저장하여
+ * 다시 시작하거나 샤드를 넘겨받은 인스턴스도 이미 처리한 메시지를 걸러내게 한다
+ */
+@Configuration
+public class DrivingSequenceConfiguration {
+    @Bean
+    public DrivingSequenceFilter drivingSequenceFilter(
+        @Value("${tracker.driving.sequence-filter.segments:64}") final int segments,
+        @Value("${tracker.driving.sequence-filter.flush-interval-millis:1000}") final long flushIntervalMillis,
+        final DrivingSequenceRepository drivingSequenceRepository
+    ) {
+        return new DrivingSequenceFilter(segments, new DrivingSequenceFilter.Store() {
+            @Override
+            public OptionalLong find(final long userId) {
+                return drivingSequenceRepository.findLastSequence(userId)
+                    .map(OptionalLong::of)
+                    .orElseGet(OptionalLong::empty);
+            }
+
+            @Override
+            public void save(final long userId, final long sequence) {
+                drivingSequenceRepository.saveLastSequence(userId, sequence);
+            }
+        }, flushIntervalMillis);
+    }
+}
@@ -3,28 +3,66 @@ package com.tadah.driving.configs;
 import com.tadah.driving.applications.DrivingService;
 import com.tadah.driving.domains.entities.Driving;
 import com.tadah.driving.dtos.DrivingDataProto;
+import com.tadah.driving.utils.CheckpointTracker;
+import com.tadah.driving.utils.DrivingSequenceFilter;
+import com.tadah.driving.utils.KeyedExecutor;
+import com.tadah.driving.utils.VehiclePositionIndex;
 import org.geolatte.geom.C2D;
 import org.geolatte.geom.Point;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.aws.inbound.kinesis.Checkpointer;
+import org.springframework.integration.aws.support.AwsHeaders;
+import org.springframework.messaging.Message;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Kinesis Stream Consumer를 등록한다
+ * 중복되거나 순서가 뒤바뀐 레코드는 좌표 변환과 저장 전에 DrivingSequenceFilter로 걸러낸다
+ * Consumer가 여러 개 등록되어 있어 자동으로 고르지 못하므로 application.yml에서 processDriving을 기본값으로 지정한다
  */
 @Configuration
 public class KinesisConsumerConfiguration {
     private final DrivingService drivingService;
+    private final KeyedExecutor keyedExecutor;
+    private final VehiclePositionIndex vehiclePositionIndex;
+    private final DrivingSequenceFilter drivingSequenceFilter;
+    private final Map<Checkpointer, CheckpointTracker> checkpointTrackers;
 
-    public KinesisConsumerConfiguration(final DrivingService drivingService) {
+    public KinesisConsumerConfiguration(
+        final DrivingService drivingService,
+        final KeyedExecutor keyedExecutor,
+        final VehiclePositionIndex vehiclePositionIndex,
+        final DrivingSequenceFilter drivingSequenceFilter
+    ) {
         this.drivingService = drivingService;
+        this.keyedExecutor = keyedExecutor;
+        this.vehiclePositionIndex = vehiclePositionIndex;
+        this.drivingSequenceFilter = drivingSequenceFilter;
+        this.checkpointTrackers = Collections.synchronizedMap(new WeakHashMap<>());
     }
 
     @Bean
     public Consumer<DrivingDataProto.DrivingData> processDriving() {
         return drivingData -> {
+            if (!drivingSequenceFilter.accept(drivingData)) {
+                return;
+            }
+            if (drivingData.getDrivingStatus().equals(DrivingDataProto.DrivingStatus.DRIVING)) {
+                updateDriving(drivingData);
+                return;
+            }
+
             final Optional<Driving> drivingOptional = drivingService.get(drivingData.getUserId());
             if (drivingOptional.isEmpty() && !drivingData.getDrivingStatus().equals(DrivingDataProto.DrivingStatus.START)) {
                 // todo radis pub/sub 연동 후 추가 필요
@@ -39,13 +77,132 @@ public class KinesisConsumerConfiguration {
                 final Driving driving = drivingOptional.orElse(new Driving(drivingData.getUserId(), point));
 
                 switch (drivingData.getDrivingStatus()) {
-                    case START -> drivingService.start(driving);
-                    case DRIVING -> drivingService.update(driving, point);
-                    case STOP -> drivingService.stop(driving, point);
+                    case START -> {
+                        drivingService.start(driving);
+                        vehiclePositionIndex.update(drivingData.getUserId(), point);
+                    }
+                    case STOP -> {
+                        drivingService.stop(driving, point);
+                        vehiclePositionIndex.remove(drivingData.getUserId());
+                    }
                 }
             } catch (Exception exception) {
                 // todo radis pub/sub 연동 후 추가 필요
             }
         };
     }
+
+    /**
+     * 레코드를 드라이버별 레인에 배정하여 병렬로 처리한다
+     * 같은 드라이버의 레코드는 수신한 순서대로 처리하며, 다른 드라이버의 레코드는 동시에 처리한다
+     * 체크포인트는 앞선 레코드가 모두 처리된 레코드까지만 샤드별로 저장한다
+     * 서버에서 여러 메시지를 묶어서 전송하는 경우에는 사용할 수 없으며 processDrivingBatch를 사용해야 한다
+     *
+     * spring.cloud.function.definition을 processDrivingParallel로 설정하고,
+     * spring.cloud.stream.kinesis.bindings.processDrivingParallel-in-0.consumer.checkpointMode=manual 설정하여 사용한다
+     *
+     * @return Kinesis Consumer
+     */
+    @Bean
+    public Consumer<Message<DrivingDataProto.DrivingData>> processDrivingParallel() {
+        final Consumer<DrivingDataProto.DrivingData> processDriving = processDriving();
+
+        return message -> {
+            final DrivingDataProto.DrivingData drivingData = message.getPayload();
+            final Checkpointer checkpointer = message.getHeaders().get(AwsHeaders.CHECKPOINTER, Checkpointer.class);
+            if (checkpointer == null) {
+                keyedExecutor.submit(drivingData.getUserId(), () -> processDriving.accept(drivingData));
+                return;
+            }
+
+            final CheckpointTracker checkpointTracker = checkpointTrackers.computeIfAbsent(
+                checkpointer, key -> new CheckpointTracker(key::checkpoint)
+            );
+            final CheckpointTracker.Record record = checkpointTracker.register(
+                message.getHeaders().get(AwsHeaders.RECEIVED_SEQUENCE_NUMBER, String.class)
+            );
+            keyedExecutor.submit(drivingData.getUserId(), () -> processDriving.accept(drivingData))
+                .whenComplete((result, throwable) -> checkpointTracker.complete(record));
+        };
+    }
+
+    private void updateDriving(final DrivingDataProto.DrivingData drivingData) {
+        final OptionalLong drivingId = drivingService.getId(drivingData.getUserId());
+        if (drivingId.isEmpty()) {
+            // todo radis pub/sub 연동 후 추가 필요
+            return;
+        }
+
+        try {
+            final Point<C2D> point = drivingService.transForm(drivingData.getLatitude(), drivingData.getLongitude());
+            vehiclePositionIndex.update(drivingData.getUserId(), point);
+            drivingService.update(drivingId.getAsLong(), point);
+        } catch (Exception exception) {
+            // todo radis pub/sub 연동 후 추가 필요
+        }
+    }
+
+    /**
+     * GetRecords 한 번에 수신한 레코드를 드라이버별로 묶어서 처리한다
+     * 드라이버별 위치 정보는 운행 상태가 바뀔 때까지 모아서 한 번의 쿼리로 저장한다
+     * 서버에서 여러 메시지를 묶어서 전송한 레코드는 ProtobufMessageConverter가 풀어서 전달한다
+     * kinesis.producer.aggregation을 true로 설정한 서버의 레코드는 이 Consumer로만 처리할 수 있다
+     * 처리를 마치면 처리한 sequence를 저장하므로 체크포인트 이전의 레코드는 샤드를 넘겨받은 인스턴스에서도 걸러진다
+     *
+     * spring.cloud.function.definition을 processDrivingBatch로 설정하고,
+     * spring.cloud.stream.bindings.processDrivingBatch-in-0.consumer.batch-mode,
+     * spring.cloud.stream.kinesis.bindings.processDrivingBatch-in-0.consumer.listenerMode=batch 설정하여 사용한다
+     *
+     * @return Kinesis Batch Consumer
+     */
+    @Bean
+    public Consumer<List<DrivingDataProto.DrivingData>> processDrivingBatch() {
+        return drivingDataList -> {
+            drivingDataList.stream()
+                .filter(drivingSequenceFilter::accept)
+                .collect(Collectors.groupingBy(DrivingDataProto.DrivingData::getUserId, LinkedHashMap::new, Collectors.toList()))
+                .forEach(this::processDrivings);
+            // 체크포인트를 저장하기 전에 처리한 sequence를 저장하여 샤드를 넘겨받은 인스턴스가 같은 레코드를 다시 처리하지 않게 한다
+            drivingSequenceFilter.flush();
+        };
+    }
+
+    private void processDrivings(final Long userId, final List<DrivingDataProto.DrivingData> drivingDataList) {
+        // 위치를 이어 붙이는 데에는 아이디만 필요하므로 경로를 조회하지 않는다
+        OptionalLong drivingId = drivingService.getId(userId);
+        final List<Point<C2D>> points = new ArrayList<>();
+
+        for (final DrivingDataProto.DrivingData drivingData : drivingDataList) {
+            try {
+                final Point<C2D> point = drivingService.transForm(drivingData.getLatitude(), drivingData.getLongitude());
+
+                switch (drivingData.getDrivingStatus()) {
+                    case START -> {
+                        if (drivingId.isEmpty()) {
+                            drivingId = OptionalLong.of(drivingService.start(new Driving(userId, point)).getId());
+                        }
+                        vehiclePositionIndex.update(userId, point);
+                    }
+                    case DRIVING -> {
+                        points.add(point);
+                        vehiclePositionIndex.update(userId, point);
+                    }
+                    case STOP -> {
+                        points.add(point);
+                        flush(userId, drivingId, points, false);
+                        drivingId = OptionalLong.empty();
+                        vehiclePositionIndex.remove(userId);
+                    }
+                }
+            } catch (Exception exception) {
+                // todo radis pub/sub 연동 후 추가 필요
+            }
+        }
+        flush(userId, drivingId, points, true);
+    }
+
+    private void flush(final Long userId, final OptionalLong drivingId, final List<Point<C2D>> points, final boolean isDriving) {
+        drivingId.ifPresent(id -> drivingService.append(userId, id, points, isDriving));
+        points.clear();
+    }
 }
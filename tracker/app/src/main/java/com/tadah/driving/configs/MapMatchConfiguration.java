@@ -0,0 +1,32 @@
+package com.tadah.driving.configs;
+
+import com.tadah.driving.domains.repositories.DrivingRepository;
+import com.tadah.driving.utils.MapMatcher;
+import com.tadah.driving.utils.RoadNetworkIndex;
+import com.tadah.driving.utils.SqlMapMatcher;
+import org.locationtech.jts.io.ParseException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 맵매칭 방식을 등록한다
+ * tracker.map-match.mode 설정값이 MEMORY인 경우 도로 정보를 메모리에 적재하고, 그 외에는 데이터베이스에 질의한다
+ */
+@Configuration
+public class MapMatchConfiguration {
+    public enum Mode {
+        SQL, MEMORY
+    }
+
+    @Bean
+    public MapMatcher mapMatcher(
+        @Value("${tracker.map-match.mode:SQL}") final Mode mode,
+        final DrivingRepository drivingRepository
+    ) throws ParseException {
+        if (mode == Mode.MEMORY) {
+            return RoadNetworkIndex.fromWkt(drivingRepository.findAllEdges());
+        }
+        return new SqlMapMatcher(drivingRepository);
+    }
+}
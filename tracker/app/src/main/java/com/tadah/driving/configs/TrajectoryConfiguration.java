@@ -0,0 +1,22 @@
+package com.tadah.driving.configs;
+
+import com.tadah.driving.utils.TrajectorySimplifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 경로 단순화 방식을 등록한다
+ * tracker.driving.tolerance-meters 설정값이 0보다 큰 경우 허용 오차를 넘는 위치만 저장한다
+ * tracker.driving.max-window-size는 1 이상이어야 하며, 그렇지 않으면 애플리케이션을 시작하지 않는다
+ */
+@Configuration
+public class TrajectoryConfiguration {
+    @Bean
+    public TrajectorySimplifier trajectorySimplifier(
+        @Value("${tracker.driving.tolerance-meters:0}") final double toleranceMeters,
+        @Value("${tracker.driving.max-window-size:60}") final int maxWindowSize
+    ) {
+        return new TrajectorySimplifier(toleranceMeters, maxWindowSize);
+    }
+}
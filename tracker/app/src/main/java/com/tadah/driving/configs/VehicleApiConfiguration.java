@@ -0,0 +1,26 @@
+package com.tadah.driving.configs;
+
+import com.tadah.driving.controllers.VehicleApiKeyInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 드라이버의 위치를 조회하는 API에 인증을 적용한다
+ * /vehicles 하위 요청은 tracker.vehicle-api.key로 설정한 API 키를 가진 경우에만 허용한다
+ */
+@Configuration
+public class VehicleApiConfiguration implements WebMvcConfigurer {
+    private final String apiKey;
+
+    public VehicleApiConfiguration(@Value("${tracker.vehicle-api.key:}") final String apiKey) {
+        this.apiKey = apiKey;
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new VehicleApiKeyInterceptor(apiKey))
+            .addPathPatterns("/vehicles/**");
+    }
+}
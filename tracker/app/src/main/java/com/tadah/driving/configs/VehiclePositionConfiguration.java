@@ -0,0 +1,23 @@
+package com.tadah.driving.configs;
+
+import com.tadah.driving.utils.VehiclePositionIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 운행중인 드라이버의 위치 인덱스를 등록한다
+ * 위치를 tracker.vehicle-index.cell-size-meters 크기의 격자로 나누고, tracker.vehicle-index.stripes개의 잠금으로 갱신을 나눈다
+ * tracker.vehicle-index.ttl-millis 동안 갱신되지 않은 위치는 만료된다
+ */
+@Configuration
+public class VehiclePositionConfiguration {
+    @Bean
+    public VehiclePositionIndex vehiclePositionIndex(
+        @Value("${tracker.vehicle-index.cell-size-meters:500}") final double cellSizeMeters,
+        @Value("${tracker.vehicle-index.stripes:64}") final int stripes,
+        @Value("${tracker.vehicle-index.ttl-millis:60000}") final long ttlMillis
+    ) {
+        return new VehiclePositionIndex(cellSizeMeters, stripes, ttlMillis);
+    }
+}
@@ -0,0 +1,22 @@
+package com.tadah.driving.configs;
+
+import com.tadah.driving.utils.WriteBehindBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 위치 정보 저장 정책을 등록한다
+ * 운행정보별로 tracker.driving.write-behind.max-size개의 위치를 모아서 저장하며,
+ * tracker.driving.write-behind.flush-interval-millis가 0보다 큰 경우 그 간격마다 모아둔 위치를 저장한다
+ */
+@Configuration
+public class WriteBehindConfiguration {
+    @Bean
+    public WriteBehindBuffer.Policy writeBehindPolicy(
+        @Value("${tracker.driving.write-behind.max-size:1}") final int maxSize,
+        @Value("${tracker.driving.write-behind.flush-interval-millis:0}") final long flushIntervalMillis
+    ) {
+        return new WriteBehindBuffer.Policy(maxSize, flushIntervalMillis);
+    }
+}
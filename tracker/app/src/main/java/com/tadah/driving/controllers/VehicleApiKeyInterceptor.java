@@ -0,0 +1,39 @@
+package com.tadah.driving.controllers;
+
+import com.tadah.driving.exceptions.InvalidApiKeyException;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 드라이버의 위치를 조회하는 요청의 API 키를 확인한다.
+ * Authorization 헤더에 Bearer 형식으로 전달된 키가 설정된 키와 같은 경우에만 허용하며,
+ * 키가 설정되지 않은 경우 모든 요청을 거절한다.
+ */
+public final class VehicleApiKeyInterceptor implements HandlerInterceptor {
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String TOKEN_PREFIX = "Bearer ";
+
+    private final byte[] apiKey;
+
+    public VehicleApiKeyInterceptor(final String apiKey) {
+        this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        final String authorizationHeader = request.getHeader(AUTHORIZATION_HEADER);
+        if (apiKey.length == 0 || authorizationHeader == null || !authorizationHeader.startsWith(TOKEN_PREFIX)) {
+            throw new InvalidApiKeyException();
+        }
+
+        final byte[] token = authorizationHeader.substring(TOKEN_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(apiKey, token)) {
+            throw new InvalidApiKeyException();
+        }
+        return true;
+    }
+}
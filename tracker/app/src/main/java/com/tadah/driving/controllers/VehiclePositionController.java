@@ -0,0 +1,82 @@
+package com.tadah.driving.controllers;
+
+import com.tadah.driving.applications.VehiclePositionService;
+import com.tadah.driving.applications.VehicleTileService;
+import com.tadah.driving.dtos.VehiclePositionData;
+import com.tadah.driving.exceptions.InvalidTileException;
+import org.opengis.referencing.operation.TransformException;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.util.List;
+
+/**
+ * 운행중인 드라이버의 현재 위치 조회를 담당한다.
+ * 요청은 VehicleApiKeyInterceptor로 인증한다.
+ */
+@Validated
+@RestController
+@RequestMapping("/vehicles")
+public class VehiclePositionController {
+    public static final String MVT_VALUE = "application/vnd.mapbox-vector-tile";
+    private static final int MAX_COUNT = 100;
+    private static final int MAX_DISTANCE_METERS = 20000;
+
+    private final VehiclePositionService vehiclePositionService;
+    private final VehicleTileService vehicleTileService;
+
+    public VehiclePositionController(
+        final VehiclePositionService vehiclePositionService,
+        final VehicleTileService vehicleTileService
+    ) {
+        this.vehiclePositionService = vehiclePositionService;
+        this.vehicleTileService = vehicleTileService;
+    }
+
+    /**
+     * 질의 위치에서 가까운 운행중인 드라이버를 찾는다.
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param count 찾을 드라이버의 최대 수
+     * @param distance 찾을 최대 거리(m)
+     * @return 거리가 가까운 순서로 정렬한 드라이버의 위치
+     * @throws TransformException 좌표계 변환에 실패한 경우
+     */
+    @GetMapping("/nearest")
+    public List<VehiclePositionData> nearest(
+        @RequestParam @DecimalMin("-90") @DecimalMax("90") final Double latitude,
+        @RequestParam @DecimalMin("-180") @DecimalMax("180") final Double longitude,
+        @RequestParam(defaultValue = "10") @Min(1) @Max(MAX_COUNT) final int count,
+        @RequestParam(defaultValue = "3000") @Min(0) @Max(MAX_DISTANCE_METERS) final int distance
+    ) throws TransformException {
+        return vehiclePositionService.nearest(latitude, longitude, count, distance);
+    }
+
+    /**
+     * 타일 안에 있는 운행중인 드라이버의 위치를 Mapbox Vector Tile로 조회한다.
+     *
+     * @param z 줌 레벨
+     * @param x 타일의 x 좌표
+     * @param y 타일의 y 좌표
+     * @return 인코딩한 타일
+     * @throws InvalidTileException 타일 좌표가 유효하지 않은 경우
+     * @throws TransformException 좌표계 변환에 실패한 경우
+     */
+    @GetMapping(value = "/tiles/{z}/{x}/{y}.mvt", produces = MVT_VALUE)
+    public byte[] tile(
+        @PathVariable final int z,
+        @PathVariable final int x,
+        @PathVariable final int y
+    ) throws TransformException {
+        return vehicleTileService.getTile(z, x, y);
+    }
+}
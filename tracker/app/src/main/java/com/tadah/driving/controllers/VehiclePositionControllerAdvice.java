@@ -0,0 +1,52 @@
+package com.tadah.driving.controllers;
+
+import com.tadah.driving.exceptions.InvalidApiKeyException;
+import com.tadah.driving.exceptions.InvalidTileException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import javax.validation.ConstraintViolationException;
+
+/**
+ * VehiclePosition 컨트롤러에서 던져진 예외를 처리한다.
+ */
+@RestControllerAdvice
+public final class VehiclePositionControllerAdvice {
+    /**
+     * 조회 조건이 유효하지 않은 경우
+     *
+     * @param exception 컨트롤러에서 던져진 예외
+     * @return 던져진 예외의 내용
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public String handleConstraintViolationException(final ConstraintViolationException exception) {
+        return exception.getMessage();
+    }
+
+    /**
+     * 타일 좌표가 유효하지 않은 경우
+     *
+     * @param exception 컨트롤러에서 던져진 예외
+     * @return 던져진 예외의 내용
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidTileException.class)
+    public String handleInvalidTileException(final InvalidTileException exception) {
+        return exception.getMessage();
+    }
+
+    /**
+     * API 키가 유효하지 않은 경우
+     *
+     * @param exception 인터셉터에서 던져진 예외
+     * @return 던져진 예외의 내용
+     */
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    @ExceptionHandler(InvalidApiKeyException.class)
+    public String handleInvalidApiKeyException(final InvalidApiKeyException exception) {
+        return exception.getMessage();
+    }
+}
@@ -1,6 +1,7 @@
 package com.tadah.driving.domains.entities;
 
 import com.tadah.driving.dtos.PointData;
+import com.tadah.driving.utils.TrajectoryCodec;
 import lombok.Generated;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -61,6 +62,9 @@ public final class Driving {
   @Column(columnDefinition = "geometry(LineString,5179)")
   private LineString<C2D> path;
 
+  @Column(columnDefinition = "bytea")
+  private byte[] encodedPath;
+
   private static LineString<C2D> getLineString(final C2D point) {
       final PositionSequenceBuilder<C2D> positionSequenceBuilder = PositionSequenceBuilders.fixedSized(2, C2D.class);
       positionSequenceBuilder.add(point);
@@ -75,6 +79,19 @@ public final class Driving {
     this.path = getLineString(point.getPosition());
   }
 
+  /**
+   * 경로를 리턴한다.
+   * 압축 보관된 운행정보는 압축된 경로를 복원하여 리턴한다.
+   *
+   * @return 경로(EPSG 5179)
+   */
+  public LineString<C2D> getPath() {
+      if (path == null && encodedPath != null) {
+          return TrajectoryCodec.decode(encodedPath);
+      }
+      return path;
+  }
+
   public void stopDriving() {
       isDriving = false;
   }
@@ -0,0 +1,42 @@
+package com.tadah.driving.domains.entities;
+
+import lombok.Generated;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 운행 중 수신한 위치 정보를 정의한다.
+ * 운행이 종료되면 순서대로 이어서 운행정보의 경로로 저장한 후 삭제한다.
+ * 순번은 driving_point_seq 시퀀스로 발급하므로 운행정보별로 최댓값을 조회하지 않으며,
+ * 여러 인스턴스가 같은 운행정보의 위치를 동시에 저장해도 충돌하지 않고 저장한 순서대로 증가한다.
+ */
+@Generated
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(columnList = "drivingId, seq"))
+public final class DrivingPoint {
+    public static final String SEQUENCE_NAME = "driving_point_seq";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE_NAME)
+    @SequenceGenerator(name = SEQUENCE_NAME, sequenceName = SEQUENCE_NAME, allocationSize = 1)
+    private Long seq;
+
+    private Long drivingId;
+
+    private double x;
+
+    private double y;
+
+    private LocalDateTime ts;
+}
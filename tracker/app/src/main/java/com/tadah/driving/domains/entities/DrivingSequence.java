@@ -0,0 +1,23 @@
+package com.tadah.driving.domains.entities;
+
+import lombok.Generated;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 드라이버별로 처리한 가장 큰 메시지 sequence를 정의한다.
+ * 다시 시작하거나 샤드를 넘겨받은 인스턴스가 이미 처리한 메시지를 걸러낼 수 있도록 저장한다.
+ */
+@Generated
+@Entity
+@Getter
+@NoArgsConstructor
+public final class DrivingSequence {
+    @Id
+    private Long userId;
+
+    private long lastSequence;
+}
@@ -1,14 +1,17 @@
 package com.tadah.driving.domains.repositories;
 
 import com.tadah.driving.domains.entities.Driving;
+import com.tadah.driving.domains.entities.DrivingPoint;
 import com.tadah.driving.dtos.PointData;
 import org.geolatte.geom.C2D;
+import org.geolatte.geom.MultiPoint;
 import org.geolatte.geom.Point;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import javax.transaction.Transactional;
+import java.util.List;
 import java.util.Optional;
 
 public interface DrivingRepository {
@@ -29,12 +32,55 @@ public interface DrivingRepository {
     @Query(value = "select * from driving where user_id = :userId and is_driving = true", nativeQuery = true)
     Optional<Driving> find(final Long userId);
 
+    /**
+     * 드라이버 아이디를 이용하여 별도로 저장한 위치까지 포함한 운행정보를 조회한다.
+     * 별도로 저장한 위치를 순서대로 경로에 이어 붙여서 리턴하며, 저장된 경로는 바꾸지 않는다.
+     *
+     * @param userId 드라이버 아이디
+     * @return 운행 정보
+     */
+    @Query(
+        nativeQuery = true,
+        value = "select d.id, d.user_id, d.is_driving, d.encoded_path, " +
+            "coalesce(st_makeline(d.path, (select st_collect(st_setsrid(st_makepoint(p.x, p.y), 5179) order by p.seq) " +
+            "from driving_point p where p.driving_id = d.id)), d.path) as path " +
+            "from driving d where d.user_id = :userId and d.is_driving = true"
+    )
+    Optional<Driving> findWithPoints(@Param(value = "userId") final Long userId);
+
+    /**
+     * 압축 보관되지 않은 종료된 운행정보를 조회한다.
+     *
+     * @param id 운행 정보 아이디
+     * @return 운행 정보
+     */
+    @Query(value = "select * from driving where id = :id and is_driving = false and path is not null", nativeQuery = true)
+    Optional<Driving> findStopped(final Long id);
+
+    /**
+     * 경로를 압축된 형식으로 보관하고 기존 경로를 삭제한다.
+     *
+     * @param id 운행 정보 아이디
+     * @param encodedPath 압축된 경로
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        nativeQuery = true,
+        value = "update driving set encoded_path = :encodedPath, path = null where id = :id"
+    )
+    void archive(
+        @Param(value = "id") final Long id,
+        @Param(value = "encodedPath") final byte[] encodedPath);
+
     /**
      * 운행정보를 업데이트한다.
+     * 다른 인스턴스에서 이미 종료한 운행정보는 업데이트하지 않는다.
      *
      * @param id 업데이트할 운행 정보 아이디
      * @param point 현재 위치
      * @param isDriving 운행 상태
+     * @return 업데이트한 운행정보의 개수
      */
     @Modifying
     @Transactional
@@ -42,13 +88,99 @@ public interface DrivingRepository {
         nativeQuery = true,
         value = "update driving " +
             "set path = st_addpoint((case when st_isempty(path) then st_addpoint(path, :point) else path end), :point), is_driving = :isDriving " +
-            "where id = :id"
+            "where id = :id and is_driving = true"
     )
-    void update(
+    int update(
         @Param(value = "id") final Long id,
         @Param(value = "point") final Point<C2D> point,
         @Param(value = "isDriving") final boolean isDriving);
 
+    /**
+     * 여러 위치를 한 번에 추가하여 운행정보를 업데이트한다.
+     * 다른 인스턴스에서 이미 종료한 운행정보는 업데이트하지 않는다.
+     *
+     * @param id 업데이트할 운행 정보 아이디
+     * @param points 추가할 위치 목록
+     * @param isDriving 운행 상태
+     * @return 업데이트한 운행정보의 개수
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        nativeQuery = true,
+        value = "update driving " +
+            "set path = st_makeline(path, :points), is_driving = :isDriving " +
+            "where id = :id and is_driving = true"
+    )
+    int appendAll(
+        @Param(value = "id") final Long id,
+        @Param(value = "points") final MultiPoint<C2D> points,
+        @Param(value = "isDriving") final boolean isDriving);
+
+    /**
+     * 위치를 운행정보의 경로와 별도로 저장한다.
+     * 경로 전체를 다시 쓰지 않으므로 위치의 개수와 관계없이 일정한 비용으로 저장한다.
+     * 순번은 시퀀스로 발급하므로 기존 위치를 조회하지 않는다.
+     * 다른 인스턴스에서 이미 종료한 운행정보의 위치는 저장하지 않는다.
+     *
+     * @param id 운행 정보 아이디
+     * @param point 현재 위치
+     * @return 저장한 위치의 개수
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        nativeQuery = true,
+        value = "insert into driving_point (seq, driving_id, x, y, ts) " +
+            "select nextval('" + DrivingPoint.SEQUENCE_NAME + "'), :id, st_x(:point), st_y(:point), now() " +
+            "where exists (select 1 from driving where id = :id and is_driving = true)"
+    )
+    int insertPoint(
+        @Param(value = "id") final Long id,
+        @Param(value = "point") final Point<C2D> point);
+
+    /**
+     * 여러 위치를 운행정보의 경로와 별도로 한 번에 저장한다.
+     * 순번은 목록의 순서대로 시퀀스로 발급한다.
+     * 다른 인스턴스에서 이미 종료한 운행정보의 위치는 저장하지 않는다.
+     *
+     * @param id 운행 정보 아이디
+     * @param points 저장할 위치 목록
+     * @return 저장한 위치의 개수
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        nativeQuery = true,
+        value = "insert into driving_point (seq, driving_id, x, y, ts) " +
+            "select nextval('" + DrivingPoint.SEQUENCE_NAME + "'), :id, st_x(dump.geom), st_y(dump.geom), now() " +
+            "from (select geom from st_dump(:points) order by path[1]) as dump " +
+            "where exists (select 1 from driving where id = :id and is_driving = true)"
+    )
+    int insertPoints(
+        @Param(value = "id") final Long id,
+        @Param(value = "points") final MultiPoint<C2D> points);
+
+    /**
+     * 별도로 저장한 위치를 순서대로 경로에 이어 붙이고 삭제한다.
+     *
+     * @param id 운행 정보 아이디
+     * @param isDriving 운행 상태
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        nativeQuery = true,
+        value = "with points as (delete from driving_point where driving_id = :id returning seq, x, y) " +
+            "update driving " +
+            "set path = coalesce(st_makeline(path, (select st_collect(st_setsrid(st_makepoint(x, y), 5179) order by seq) from points)), path), " +
+            "is_driving = :isDriving " +
+            "where id = :id"
+    )
+    void materialize(
+        @Param(value = "id") final Long id,
+        @Param(value = "isDriving") final boolean isDriving);
+
     /**
      * 맵매칭을 수행한다
      *
@@ -57,4 +189,12 @@ public interface DrivingRepository {
      */
     @Query(nativeQuery = true)
     PointData mapMatch(@Param("point") final Point<C2D> point);
+
+    /**
+     * 맵매칭에 사용할 도로 정보를 모두 조회한다
+     *
+     * @return 도로 정보(WKT, EPSG5179) 목록
+     */
+    @Query(value = "select st_astext(geom) from ad0022", nativeQuery = true)
+    List<String> findAllEdges();
 }
@@ -0,0 +1,37 @@
+package com.tadah.driving.domains.repositories;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.transaction.Transactional;
+import java.util.Optional;
+
+public interface DrivingSequenceRepository {
+    /**
+     * 드라이버가 처리한 가장 큰 sequence를 조회한다.
+     *
+     * @param userId 드라이버 아이디
+     * @return 처리한 가장 큰 sequence
+     */
+    @Query(value = "select last_sequence from driving_sequence where user_id = :userId", nativeQuery = true)
+    Optional<Long> findLastSequence(@Param(value = "userId") final Long userId);
+
+    /**
+     * 드라이버가 처리한 가장 큰 sequence를 저장한다.
+     * 저장된 sequence가 더 큰 경우 바꾸지 않는다.
+     *
+     * @param userId 드라이버 아이디
+     * @param sequence 처리한 가장 큰 sequence
+     */
+    @Modifying
+    @Transactional
+    @Query(
+        nativeQuery = true,
+        value = "insert into driving_sequence (user_id, last_sequence) values (:userId, :sequence) " +
+            "on conflict (user_id) do update set last_sequence = greatest(driving_sequence.last_sequence, excluded.last_sequence)"
+    )
+    void saveLastSequence(
+        @Param(value = "userId") final Long userId,
+        @Param(value = "sequence") final long sequence);
+}
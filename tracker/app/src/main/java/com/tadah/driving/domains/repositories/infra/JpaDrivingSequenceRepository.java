@@ -0,0 +1,8 @@
+package com.tadah.driving.domains.repositories.infra;
+
+import com.tadah.driving.domains.entities.DrivingSequence;
+import com.tadah.driving.domains.repositories.DrivingSequenceRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaDrivingSequenceRepository extends DrivingSequenceRepository, JpaRepository<DrivingSequence, Long> {
+}
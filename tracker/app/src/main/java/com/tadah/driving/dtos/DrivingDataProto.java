@@ -166,6 +166,17 @@ public final class DrivingDataProto {
      * @return The drivingStatus.
      */
     com.tadah.driving.dtos.DrivingDataProto.DrivingStatus getDrivingStatus();
+
+    /**
+     * <code>optional int64 sequence = 5;</code>
+     * @return Whether the sequence field is set.
+     */
+    boolean hasSequence();
+    /**
+     * <code>optional int64 sequence = 5;</code>
+     * @return The sequence.
+     */
+    long getSequence();
   }
   /**
    * Protobuf type {@code DrivingData}
@@ -241,6 +252,11 @@ public final class DrivingDataProto {
               }
               break;
             }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              sequence_ = input.readInt64();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -350,6 +366,25 @@ public final class DrivingDataProto {
       return result == null ? com.tadah.driving.dtos.DrivingDataProto.DrivingStatus.START : result;
     }
 
+    public static final int SEQUENCE_FIELD_NUMBER = 5;
+    private long sequence_;
+    /**
+     * <code>optional int64 sequence = 5;</code>
+     * @return Whether the sequence field is set.
+     */
+    @java.lang.Override
+    public boolean hasSequence() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional int64 sequence = 5;</code>
+     * @return The sequence.
+     */
+    @java.lang.Override
+    public long getSequence() {
+      return sequence_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -392,6 +427,9 @@ public final class DrivingDataProto {
       if (((bitField0_ & 0x00000008) != 0)) {
         output.writeEnum(4, drivingStatus_);
       }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeInt64(5, sequence_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -417,6 +455,10 @@ public final class DrivingDataProto {
         size += com.google.protobuf.CodedOutputStream
             .computeEnumSize(4, drivingStatus_);
       }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, sequence_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -453,6 +495,11 @@ public final class DrivingDataProto {
       if (hasDrivingStatus()) {
         if (drivingStatus_ != other.drivingStatus_) return false;
       }
+      if (hasSequence() != other.hasSequence()) return false;
+      if (hasSequence()) {
+        if (getSequence()
+            != other.getSequence()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -483,6 +530,11 @@ public final class DrivingDataProto {
         hash = (37 * hash) + DRIVINGSTATUS_FIELD_NUMBER;
         hash = (53 * hash) + drivingStatus_;
       }
+      if (hasSequence()) {
+        hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSequence());
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -624,6 +676,8 @@ public final class DrivingDataProto {
         bitField0_ = (bitField0_ & ~0x00000004);
         drivingStatus_ = 0;
         bitField0_ = (bitField0_ & ~0x00000008);
+        sequence_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -668,6 +722,10 @@ public final class DrivingDataProto {
           to_bitField0_ |= 0x00000008;
         }
         result.drivingStatus_ = drivingStatus_;
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.sequence_ = sequence_;
+          to_bitField0_ |= 0x00000010;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -729,6 +787,9 @@ public final class DrivingDataProto {
         if (other.hasDrivingStatus()) {
           setDrivingStatus(other.getDrivingStatus());
         }
+        if (other.hasSequence()) {
+          setSequence(other.getSequence());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -930,6 +991,45 @@ public final class DrivingDataProto {
         onChanged();
         return this;
       }
+
+      private long sequence_ ;
+      /**
+       * <code>optional int64 sequence = 5;</code>
+       * @return Whether the sequence field is set.
+       */
+      @java.lang.Override
+      public boolean hasSequence() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int64 sequence = 5;</code>
+       * @return The sequence.
+       */
+      @java.lang.Override
+      public long getSequence() {
+        return sequence_;
+      }
+      /**
+       * <code>optional int64 sequence = 5;</code>
+       * @param value The sequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSequence(long value) {
+        bitField0_ |= 0x00000010;
+        sequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 sequence = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSequence() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        sequence_ = 0L;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -997,10 +1097,11 @@ public final class DrivingDataProto {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-        "\n\021DrivingData.proto\"p\n\013DrivingData\022\016\n\006us" +
-            "erId\030\001 \002(\003\022\020\n\010latitude\030\002 \002(\001\022\021\n\tlongitud" +
-            "e\030\003 \002(\001\022,\n\rdrivingStatus\030\004 \002(\0162\016.Driving" +
-            "Status:\005START*1\n\rDrivingStatus\022\t\n\005START\020" +
+        "\n\021DrivingData.proto\"\202\001\n\013DrivingData\022\016\n\006" +
+            "userId\030\001 \002(\003\022\020\n\010latitude\030\002 \002(\001\022\021\n\tlon" +
+            "gitude\030\003 \002(\001\022,\n\rdrivingStatus\030\004 \002(\0162\016." +
+            "DrivingStatus:\005START\022\020\n\010sequence\030\005 \001(\003*1\n\rDr" +
+            "ivingStatus\022\t\n\005START\020" +
             "\000\022\013\n\007DRIVING\020\001\022\010\n\004STOP\020\002B*\n\026com.tadah.dr" +
             "iving.dtosB\020DrivingDataProto"
     };
@@ -1013,7 +1114,7 @@ public final class DrivingDataProto {
     internal_static_DrivingData_fieldAccessorTable = new
         com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_DrivingData_descriptor,
-        new java.lang.String[] { "UserId", "Latitude", "Longitude", "DrivingStatus", });
+        new java.lang.String[] { "UserId", "Latitude", "Longitude", "DrivingStatus", "Sequence", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -23,4 +23,8 @@ public class PointData {
             Wkt.fromWkt(point, CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(5179)).getPositionN(0),
             CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(5179));
     }
+
+    public PointData(final Point<C2D> point) {
+        this.point = point;
+    }
 }
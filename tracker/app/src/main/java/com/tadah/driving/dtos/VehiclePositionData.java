@@ -0,0 +1,18 @@
+package com.tadah.driving.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Generated;
+import lombok.Getter;
+
+/**
+ * 드라이버의 현재 위치와 질의 위치까지의 거리를 저장한다
+ */
+@Generated
+@Getter
+@AllArgsConstructor
+public final class VehiclePositionData {
+    private final Long userId;
+    private final Double latitude;
+    private final Double longitude;
+    private final Double distance;
+}
@@ -0,0 +1,10 @@
+package com.tadah.driving.exceptions;
+
+/**
+ * 요청의 API 키가 유효하지 않은 경우 던져진다.
+ */
+public class InvalidApiKeyException extends RuntimeException {
+    public InvalidApiKeyException() {
+        super("유효하지 않은 API 키입니다.");
+    }
+}
@@ -0,0 +1,10 @@
+package com.tadah.driving.exceptions;
+
+/**
+ * 요청한 타일 좌표가 유효하지 않은 경우 던져진다.
+ */
+public class InvalidTileException extends RuntimeException {
+    public InvalidTileException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,82 @@
+package com.tadah.driving.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * 순서대로 수신한 레코드 중 처리가 끝난 레코드까지만 체크포인트를 전진시킨다
+ * 레코드는 수신한 순서와 다르게 처리될 수 있으므로, 앞선 레코드가 모두 처리된 경우에만 체크포인트를 저장한다
+ * 샤드마다 하나씩 사용한다
+ */
+public final class CheckpointTracker {
+    /**
+     * 수신한 레코드
+     */
+    public static final class Record {
+        private final String sequenceNumber;
+        private boolean isCompleted;
+
+        private Record(final String sequenceNumber) {
+            this.sequenceNumber = sequenceNumber;
+        }
+    }
+
+    private final Deque<Record> records;
+    private final Consumer<String> checkpointer;
+    private String checkpoint;
+
+    public CheckpointTracker(final Consumer<String> checkpointer) {
+        this.records = new ArrayDeque<>();
+        this.checkpointer = checkpointer;
+    }
+
+    /**
+     * 수신한 레코드를 등록한다
+     *
+     * @param sequenceNumber 레코드의 시퀀스 번호
+     * @return 등록한 레코드
+     */
+    public synchronized Record register(final String sequenceNumber) {
+        final Record record = new Record(sequenceNumber);
+        records.addLast(record);
+        return record;
+    }
+
+    /**
+     * 레코드의 처리가 끝났음을 기록한다
+     * 앞선 레코드가 모두 처리된 경우 처리가 끝난 마지막 레코드까지 체크포인트를 저장한다
+     *
+     * @param record 처리가 끝난 레코드
+     */
+    public synchronized void complete(final Record record) {
+        record.isCompleted = true;
+
+        String sequenceNumber = null;
+        while (!records.isEmpty() && records.peekFirst().isCompleted) {
+            sequenceNumber = records.pollFirst().sequenceNumber;
+        }
+        if (sequenceNumber != null) {
+            checkpoint = sequenceNumber;
+            checkpointer.accept(sequenceNumber);
+        }
+    }
+
+    /**
+     * 마지막으로 저장한 체크포인트를 리턴한다
+     *
+     * @return 시퀀스 번호, 저장한 체크포인트가 없는 경우 null
+     */
+    public synchronized String getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * 처리가 끝나지 않았거나 체크포인트를 저장하지 않은 레코드의 개수를 리턴한다
+     *
+     * @return 레코드의 개수
+     */
+    public synchronized int getPendingCount() {
+        return records.size();
+    }
+}
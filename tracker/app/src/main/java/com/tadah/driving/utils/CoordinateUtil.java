@@ -42,6 +42,14 @@ public final class CoordinateUtil {
         return targetGeometry.getCoordinate();
     }
 
+    private static void swap(final double[] coordinates, final int offset, final int numPoints) {
+        for (int index = offset; index < offset + numPoints * 2; index += 2) {
+            final double temp = coordinates[index];
+            coordinates[index] = coordinates[index + 1];
+            coordinates[index + 1] = temp;
+        }
+    }
+
     /**
      * GPS 데이터의 좌표계를 변환한다
      *
@@ -51,8 +59,39 @@ public final class CoordinateUtil {
      * @throws TransformException 좌표계 변환에 실패한 경우
      */
     public Point<C2D> fromGps(final Double latitude, final Double longitude) throws TransformException {
-        final Coordinate coordinate = transForm(new Coordinate(latitude, longitude), fromGpsTransForm);
-        return Geometries.mkPoint(new C2D(coordinate.y, coordinate.x), CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(5179));
+        final double[] coordinate = new double[2];
+        transform(latitude, longitude, coordinate);
+        return Geometries.mkPoint(new C2D(coordinate[0], coordinate[1]), CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(5179));
+    }
+
+    /**
+     * GPS 데이터의 좌표계를 변환하여 전달받은 배열에 저장한다
+     * 변환 과정에서 개체를 생성하지 않는다
+     *
+     * @param latitude 위도
+     * @param longitude 경도
+     * @param out EPSG 5179 좌표를 저장할 배열(x, y 순서)
+     * @throws TransformException 좌표계 변환에 실패한 경우
+     */
+    public void transform(final double latitude, final double longitude, final double[] out) throws TransformException {
+        out[0] = latitude;
+        out[1] = longitude;
+        fromGpsTransForm.transform(out, 0, out, 0, 1);
+        swap(out, 0, 1);
+    }
+
+    /**
+     * 여러 GPS 데이터의 좌표계를 한 번에 변환한다
+     * 변환 과정에서 개체를 생성하지 않으며, 입력 배열과 출력 배열은 같은 배열이어도 된다
+     *
+     * @param latitudeLongitudes 위도, 경도 순서로 나열한 GPS 좌표 배열
+     * @param out EPSG 5179 좌표를 x, y 순서로 저장할 배열
+     * @param numPoints 변환할 좌표의 개수
+     * @throws TransformException 좌표계 변환에 실패한 경우
+     */
+    public void transform(final double[] latitudeLongitudes, final double[] out, final int numPoints) throws TransformException {
+        fromGpsTransForm.transform(latitudeLongitudes, 0, out, 0, numPoints);
+        swap(out, 0, numPoints);
     }
 
     /**
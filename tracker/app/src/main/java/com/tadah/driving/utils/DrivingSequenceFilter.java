@@ -0,0 +1,201 @@
+package com.tadah.driving.utils;
+
+import com.tadah.driving.dtos.DrivingDataProto;
+
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 드라이버별로 처리한 가장 큰 sequence를 기록하여 중복되거나 순서가 뒤바뀐 메시지를 걸러낸다
+ * 드라이버 아이디로 나눈 구간마다 LongLongHashMap을 두고, 구간 단위로 동기화한다
+ * 구간은 섞은 아이디의 상위 비트로 고르므로 LongLongHashMap이 슬롯을 고르는 하위 비트와 겹치지 않는다
+ * 운행이 끝난 뒤 다시 전달된 메시지도 걸러내야 하므로 드라이버의 기록은 삭제하지 않는다
+ * sequence가 없는 메시지는 걸러내지 않는다
+ *
+ * 저장소를 지정하면 처음 보는 드라이버의 기록을 저장소에서 읽어오고, 바뀐 기록은 flush할 때 저장소에 저장한다
+ * 다시 시작하거나 샤드를 넘겨받은 인스턴스는 이전 인스턴스가 마지막으로 flush한 sequence까지의 메시지를 걸러낸다
+ * 저장소를 지정하지 않으면 한 프로세스 안에서 처리한 메시지의 중복만 걸러낸다
+ */
+public final class DrivingSequenceFilter implements AutoCloseable {
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    /**
+     * 드라이버별로 처리한 가장 큰 sequence를 저장한다
+     */
+    public interface Store {
+        /**
+         * @param userId 드라이버 아이디
+         * @return 저장된 sequence, 없으면 빈 값
+         */
+        OptionalLong find(long userId);
+
+        /**
+         * 저장된 sequence보다 큰 경우에만 저장한다
+         *
+         * @param userId 드라이버 아이디
+         * @param sequence 처리한 가장 큰 sequence
+         */
+        void save(long userId, long sequence);
+    }
+
+    private static final class Segment {
+        private final LongLongHashMap sequences = new LongLongHashMap();
+        private LongLongHashMap changedSequences = new LongLongHashMap();
+    }
+
+    private final Segment[] segments;
+    private final Store store;
+    private final AtomicLong droppedCount;
+    private final AtomicLong failedSaveCount;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 한 프로세스 안에서만 중복을 걸러내는 필터를 만든다
+     *
+     * @param segments 구간의 개수
+     */
+    public DrivingSequenceFilter(final int segments) {
+        this(segments, null, 0L);
+    }
+
+    /**
+     * @param segments 구간의 개수
+     * @param store 처리한 sequence를 저장할 저장소
+     * @param flushIntervalMillis 0보다 큰 경우 그 간격마다 바뀐 기록을 저장한다
+     */
+    public DrivingSequenceFilter(final int segments, final Store store, final long flushIntervalMillis) {
+        this.segments = new Segment[segments];
+        for (int i = 0; i < segments; i++) {
+            this.segments[i] = new Segment();
+        }
+        this.store = store;
+        this.droppedCount = new AtomicLong();
+        this.failedSaveCount = new AtomicLong();
+
+        if (store != null && flushIntervalMillis > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "sequence-filter-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    private Segment getSegment(final long userId) {
+        final long mixed = (userId * GOLDEN_RATIO) >>> Integer.SIZE;
+        return segments[(int) ((mixed * segments.length) >>> Integer.SIZE)];
+    }
+
+    /**
+     * 메시지를 처리해야 하는지 확인한다
+     *
+     * @param drivingData 수신한 메시지
+     * @return sequence가 없거나 드라이버의 이전 sequence보다 크면 true
+     */
+    public boolean accept(final DrivingDataProto.DrivingData drivingData) {
+        return !drivingData.hasSequence() || accept(drivingData.getUserId(), drivingData.getSequence());
+    }
+
+    /**
+     * 드라이버의 sequence가 이전에 처리한 sequence보다 크면 기록한다
+     * 처음 보는 드라이버는 저장소에 저장된 sequence와 비교한다
+     *
+     * @param userId 드라이버 아이디
+     * @param sequence 메시지의 sequence
+     * @return 이전에 처리한 sequence보다 크면 true
+     */
+    public boolean accept(final long userId, final long sequence) {
+        final Segment segment = getSegment(userId);
+        synchronized (segment) {
+            if (store == null || segment.sequences.containsKey(userId)) {
+                return accept(segment, userId, sequence);
+            }
+        }
+
+        // 저장소를 조회하는 동안 같은 구간의 다른 드라이버를 막지 않도록 잠금 밖에서 조회한다
+        final OptionalLong storedSequence = store.find(userId);
+        synchronized (segment) {
+            if (storedSequence.isPresent() && !segment.sequences.containsKey(userId)) {
+                segment.sequences.put(userId, storedSequence.getAsLong());
+            }
+            return accept(segment, userId, sequence);
+        }
+    }
+
+    private boolean accept(final Segment segment, final long userId, final long sequence) {
+        if (segment.sequences.containsKey(userId) && segment.sequences.get(userId, sequence) >= sequence) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        segment.sequences.put(userId, sequence);
+        if (store != null) {
+            segment.changedSequences.put(userId, sequence);
+        }
+        return true;
+    }
+
+    /**
+     * 마지막으로 저장한 뒤 바뀐 기록을 저장소에 저장한다
+     * 저장에 실패한 기록은 다음 flush에서 다시 저장한다
+     */
+    public void flush() {
+        if (store == null) {
+            return;
+        }
+
+        for (final Segment segment : segments) {
+            final LongLongHashMap changedSequences;
+            synchronized (segment) {
+                if (segment.changedSequences.size() == 0) {
+                    continue;
+                }
+                changedSequences = segment.changedSequences;
+                segment.changedSequences = new LongLongHashMap();
+            }
+
+            changedSequences.forEach((userId, sequence) -> {
+                try {
+                    store.save(userId, sequence);
+                } catch (RuntimeException exception) {
+                    failedSaveCount.incrementAndGet();
+                    synchronized (segment) {
+                        if (!segment.changedSequences.containsKey(userId)) {
+                            segment.changedSequences.put(userId, sequence);
+                        }
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * @return 걸러낸 메시지의 개수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return 저장소에 저장하지 못한 횟수
+     */
+    public long getFailedSaveCount() {
+        return failedSaveCount.get();
+    }
+
+    /**
+     * 주기적인 저장을 멈추고 바뀐 기록을 모두 저장한다
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+}
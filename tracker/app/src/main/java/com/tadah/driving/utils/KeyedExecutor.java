@@ -0,0 +1,95 @@
+package com.tadah.driving.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키별로 순서를 지키며 작업을 병렬로 실행한다
+ * 키를 해싱하여 스레드가 하나인 레인에 배정하므로 같은 키의 작업은 제출한 순서대로 실행되고, 다른 레인의 작업은 동시에 실행된다
+ * 레인의 대기열이 가득 찬 경우 공간이 생길 때까지 제출한 스레드를 기다리게 한다
+ */
+public final class KeyedExecutor implements AutoCloseable {
+    private final List<ThreadPoolExecutor> lanes;
+
+    public KeyedExecutor(final int laneCount, final int laneCapacity) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        this.lanes = new ArrayList<>(laneCount);
+        for (int index = 0; index < laneCount; index++) {
+            lanes.add(new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(laneCapacity),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "keyed-executor-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                KeyedExecutor::waitForSpace
+            ));
+        }
+    }
+
+    private static void waitForSpace(final Runnable runnable, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
+        try {
+            executor.getQueue().put(runnable);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for space", exception);
+        }
+    }
+
+    /**
+     * 키에 배정된 레인의 번호를 리턴한다
+     *
+     * @param key 키
+     * @return 레인 번호
+     */
+    public int getLane(final long key) {
+        return Math.floorMod(Long.hashCode(key), lanes.size());
+    }
+
+    /**
+     * 키에 배정된 레인에서 작업을 실행한다
+     *
+     * @param key 키
+     * @param task 작업
+     * @return 작업이 끝나면 완료되는 Future, 작업이 실패한 경우 예외로 완료된다
+     */
+    public CompletableFuture<Void> submit(final long key, final Runnable task) {
+        return CompletableFuture.runAsync(task, lanes.get(getLane(key)));
+    }
+
+    /**
+     * 새로운 작업을 받지 않는다
+     * 대기중인 작업은 모두 실행한 후 레인을 종료한다
+     */
+    @Override
+    public void close() {
+        lanes.forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    /**
+     * 모든 레인이 종료될 때까지 기다린다
+     *
+     * @param timeoutMillis 기다릴 최대 시간
+     * @return 시간 내에 모든 레인이 종료된 경우 true
+     * @throws InterruptedException 기다리는 도중 인터럽트된 경우
+     */
+    public boolean awaitTermination(final long timeoutMillis) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (final ThreadPoolExecutor lane : lanes) {
+            if (!lane.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
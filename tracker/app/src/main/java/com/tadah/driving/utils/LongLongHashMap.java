@@ -0,0 +1,169 @@
+package com.tadah.driving.utils;
+
+/**
+ * long 키와 long 값을 박싱하지 않고 저장하는 해시 맵
+ * 선형 탐사 방식의 개방 주소법을 사용하며, 동기화하지 않는다
+ */
+public final class LongLongHashMap {
+    /**
+     * 키와 값을 박싱하지 않고 전달받는다
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MIN_CAPACITY = 2;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    public LongLongHashMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * @param expectedSize 저장할 것으로 예상되는 키의 개수
+     */
+    public LongLongHashMap(final int expectedSize) {
+        allocate(getCapacity(expectedSize));
+    }
+
+    private static int getCapacity(final int expectedSize) {
+        final int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) * 2;
+        return Math.max(capacity, MIN_CAPACITY);
+    }
+
+    private static int hash(final long key) {
+        final long mixed = key * GOLDEN_RATIO;
+        return (int) (mixed ^ (mixed >>> Integer.SIZE));
+    }
+
+    private void allocate(final int capacity) {
+        this.keys = new long[capacity];
+        this.values = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+    }
+
+    private int indexOf(final long key) {
+        int index = hash(key) & mask;
+        while (used[index] && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * 키에 저장된 값을 리턴한다
+     *
+     * @param key 키
+     * @param defaultValue 키가 없을 때 리턴할 값
+     * @return 저장된 값 또는 defaultValue
+     */
+    public long get(final long key, final long defaultValue) {
+        final int index = indexOf(key);
+        return used[index] ? values[index] : defaultValue;
+    }
+
+    /**
+     * 키가 저장되어 있는지 확인한다
+     *
+     * @param key 키
+     * @return 저장되어 있으면 true
+     */
+    public boolean containsKey(final long key) {
+        return used[indexOf(key)];
+    }
+
+    /**
+     * 키에 값을 저장한다
+     * 저장된 키의 개수가 용량의 절반을 넘으면 용량을 두 배로 늘린다
+     *
+     * @param key 키
+     * @param value 값
+     */
+    public void put(final long key, final long value) {
+        final int index = indexOf(key);
+        if (used[index]) {
+            values[index] = value;
+            return;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        used[index] = true;
+        if (++size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    private void resize() {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        final boolean[] oldUsed = used;
+        allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                final int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                used[index] = true;
+            }
+        }
+    }
+
+    /**
+     * 키를 삭제한다
+     * 뒤따르는 키를 빈 자리로 당겨서 탐사 경로가 끊기지 않게 한다
+     *
+     * @param key 키
+     * @return 삭제했으면 true
+     */
+    public boolean remove(final long key) {
+        int hole = indexOf(key);
+        if (!used[hole]) {
+            return false;
+        }
+
+        int next = (hole + 1) & mask;
+        while (used[next]) {
+            final int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[hole] = false;
+        size--;
+        return true;
+    }
+
+    /**
+     * @return 저장된 키의 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 저장된 모든 키와 값을 순서에 관계없이 전달한다
+     *
+     * @param action 키와 값을 전달받을 함수
+     */
+    public void forEach(final EntryConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (used[i]) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+}
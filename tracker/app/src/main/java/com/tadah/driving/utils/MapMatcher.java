@@ -0,0 +1,18 @@
+package com.tadah.driving.utils;
+
+import com.tadah.driving.dtos.PointData;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Point;
+
+/**
+ * 맵매칭을 수행한다
+ */
+public interface MapMatcher {
+    /**
+     * 가장 가까운 도로 위의 위치를 찾는다
+     *
+     * @param point 맵매칭을 수행할 위치(EPSG5179)
+     * @return 맵매칭을 수행한 위치
+     */
+    PointData match(final Point<C2D> point);
+}
@@ -1,28 +1,118 @@
 package com.tadah.driving.utils;
 
 import com.google.protobuf.AbstractMessageLite;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import com.google.protobuf.WireFormat;
+import com.tadah.driving.dtos.DrivingDataProto;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.converter.AbstractMessageConverter;
 import org.springframework.util.MimeType;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Protobuf Message간 변환을 수행한다
+ * 여러 메시지를 묶은 레코드는 List로 변환할 때 풀어서 변환한다
+ * 묶은 레코드는 매직 넘버 뒤에 repeated 메시지 = 1 필드를 이어 붙인 형식이다
+ * 묶은 레코드는 단건으로 변환할 수 없으므로 서버에서 묶어서 전송하는 경우 processDrivingBatch Consumer를 사용해야 한다
  */
 public final class ProtobufMessageConverter extends AbstractMessageConverter {
+    public static final byte[] AGGREGATION_MAGIC = new byte[] {(byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2};
+    public static final int AGGREGATION_FIELD_NUMBER = 1;
+
+    private static final ClassValue<Parser<? extends MessageLite>> PARSERS = new ClassValue<>() {
+        @Override
+        protected Parser<? extends MessageLite> computeValue(final Class<?> type) {
+            try {
+                return ((MessageLite) type.getMethod("getDefaultInstance").invoke(null)).getParserForType();
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException exception) {
+                throw new IllegalStateException("Unsupported type: " + type, exception);
+            }
+        }
+    };
+
     public ProtobufMessageConverter() {
         super(new MimeType("application", "x-protobuf"));
     }
 
+    /**
+     * 여러 메시지를 묶은 레코드인지 확인한다
+     *
+     * @param bytes 레코드
+     * @return 묶은 레코드인 경우 true
+     */
+    public static boolean isAggregated(final byte[] bytes) {
+        if (bytes.length < AGGREGATION_MAGIC.length) {
+            return false;
+        }
+        for (int index = 0; index < AGGREGATION_MAGIC.length; index++) {
+            if (bytes[index] != AGGREGATION_MAGIC[index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 메시지 타입의 Parser를 리턴한다
+     * Parser는 메시지 타입별로 한 번만 조회하여 캐싱한다
+     *
+     * @param type 메시지 타입
+     * @return Parser
+     */
+    public static Parser<? extends MessageLite> getParser(final Class<?> type) {
+        return PARSERS.get(type);
+    }
+
+    /**
+     * 레코드를 메시지로 변환한다
+     * ByteBuffer, CodedInputStream은 byte[]로 복사하지 않고 변환한다
+     *
+     * @param type 메시지 타입
+     * @param payload byte[], ByteBuffer, CodedInputStream 타입의 레코드
+     * @return 메시지
+     */
+    public static Object parse(final Class<?> type, final Object payload) {
+        final Parser<? extends MessageLite> parser = getParser(type);
+
+        try {
+            if (payload instanceof byte[]) {
+                return parser.parseFrom((byte[]) payload);
+            }
+            if (payload instanceof ByteBuffer) {
+                return parser.parseFrom((ByteBuffer) payload);
+            }
+            if (payload instanceof CodedInputStream) {
+                return parser.parseFrom((CodedInputStream) payload);
+            }
+        } catch (InvalidProtocolBufferException exception) {
+            throw new IllegalStateException("Invalid input: " + payload, exception);
+        }
+        throw new IllegalStateException("Unsupported input: " + payload);
+    }
+
     @Override
     protected boolean supports(final Class<?> clazz) {
-        return AbstractMessageLite.class.isAssignableFrom(clazz);
+        return AbstractMessageLite.class.isAssignableFrom(clazz) || List.class.isAssignableFrom(clazz);
     }
 
     @Override
     protected Object convertToInternal(final Object payload, final MessageHeaders headers, final Object conversionHint) {
+        if (!(payload instanceof AbstractMessageLite)) {
+            return null;
+        }
         return ((AbstractMessageLite) payload).toByteArray();
     }
 
@@ -30,11 +120,71 @@ public final class ProtobufMessageConverter extends AbstractMessageConverter {
     protected Object convertFromInternal(final Message<?> message, final Class<?> targetClass, final Object conversionHint) {
         final Object payload = message.getPayload();
 
+        if (List.class.isAssignableFrom(targetClass)) {
+            final Class<?> elementClass = getElementClass(conversionHint);
+            final List<Object> messages = new ArrayList<>();
+            if (payload instanceof List) {
+                for (final Object record : (List<?>) payload) {
+                    addAll(messages, elementClass, record);
+                }
+            } else {
+                addAll(messages, elementClass, payload);
+            }
+            return messages;
+        }
+
+        if (payload instanceof byte[] && isAggregated((byte[]) payload)) {
+            throw new IllegalStateException("Aggregated record requires a List target such as processDrivingBatch: " + targetClass);
+        }
+        return parse(targetClass, payload);
+    }
+
+    private static Class<?> getElementClass(final Object conversionHint) {
+        final ResolvableType resolvableType;
+        if (conversionHint instanceof MethodParameter) {
+            resolvableType = ResolvableType.forMethodParameter((MethodParameter) conversionHint);
+        } else if (conversionHint instanceof Type) {
+            resolvableType = ResolvableType.forType((Type) conversionHint);
+        } else {
+            resolvableType = ResolvableType.NONE;
+        }
+
+        final Class<?> elementClass = resolvableType.asCollection().resolveGeneric(0);
+        if (elementClass == null || !AbstractMessageLite.class.isAssignableFrom(elementClass)) {
+            return DrivingDataProto.DrivingData.class;
+        }
+        return elementClass;
+    }
+
+    private static void addAll(final List<Object> messages, final Class<?> elementClass, final Object record) {
+        if (record instanceof byte[] && isAggregated((byte[]) record)) {
+            deaggregate(messages, elementClass, (byte[]) record);
+        } else {
+            messages.add(parse(elementClass, record));
+        }
+    }
+
+    private static void deaggregate(final List<Object> messages, final Class<?> elementClass, final byte[] record) {
+        final Parser<? extends MessageLite> parser = getParser(elementClass);
+        final CodedInputStream inputStream = CodedInputStream.newInstance(
+            record, AGGREGATION_MAGIC.length, record.length - AGGREGATION_MAGIC.length
+        );
+
         try {
-            return targetClass.getMethod("parseFrom", byte[].class)
-                    .invoke(null, payload);
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException exception) {
-            throw new IllegalStateException("Unsupported input: " + payload, exception);
+            while (!inputStream.isAtEnd()) {
+                final int tag = inputStream.readTag();
+                if (WireFormat.getTagFieldNumber(tag) == AGGREGATION_FIELD_NUMBER) {
+                    final MessageLite message = inputStream.readMessage(parser, ExtensionRegistryLite.getEmptyRegistry());
+                    if (!message.isInitialized()) {
+                        throw new IllegalStateException("Invalid aggregated record: " + message);
+                    }
+                    messages.add(message);
+                } else {
+                    inputStream.skipField(tag);
+                }
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("Invalid aggregated record", exception);
         }
     }
 }
@@ -0,0 +1,105 @@
+package com.tadah.driving.utils;
+
+import com.tadah.driving.dtos.PointData;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Geometries;
+import org.geolatte.geom.Point;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CrsRegistry;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.index.strtree.GeometryItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.operation.distance.DistanceOp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 도로 정보를 메모리에 적재하여 맵매칭을 수행한다
+ * 도로 정보는 STR-tree로 색인하며, 생성 이후에는 변경하지 않는다
+ */
+public final class RoadNetworkIndex implements MapMatcher {
+    private static final int SRID = 5179;
+    private static final CoordinateReferenceSystem<C2D> COORDINATE_REFERENCE_SYSTEM = CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(SRID);
+    private static final GeometryItemDistance ITEM_DISTANCE = new GeometryItemDistance();
+
+    private final STRtree tree;
+    private final GeometryFactory geometryFactory;
+
+    public RoadNetworkIndex(final List<Geometry> edges) {
+        this.geometryFactory = new GeometryFactory(new PrecisionModel(), SRID);
+        this.tree = new STRtree();
+        edges.forEach(edge -> tree.insert(edge.getEnvelopeInternal(), edge));
+        this.tree.build();
+    }
+
+    /**
+     * WKT로 표현된 도로 정보를 색인한다
+     *
+     * @param edges 도로 정보(WKT, EPSG5179) 목록
+     * @return 도로 정보 색인
+     * @throws ParseException WKT 해석에 실패한 경우
+     */
+    public static RoadNetworkIndex fromWkt(final List<String> edges) throws ParseException {
+        final WKTReader wktReader = new WKTReader(new GeometryFactory(new PrecisionModel(), SRID));
+        final List<Geometry> geometries = new ArrayList<>(edges.size());
+        for (final String edge : edges) {
+            geometries.add(wktReader.read(edge));
+        }
+        return new RoadNetworkIndex(geometries);
+    }
+
+    /**
+     * 색인된 도로의 개수를 리턴한다
+     *
+     * @return 도로의 개수
+     */
+    public int size() {
+        return tree.size();
+    }
+
+    /**
+     * 가장 가까운 도로를 찾는다
+     *
+     * @param x x
+     * @param y y
+     * @return 가장 가까운 도로, 색인된 도로가 없는 경우 빈 값
+     */
+    public Optional<Geometry> nearestEdge(final double x, final double y) {
+        if (tree.isEmpty()) {
+            return Optional.empty();
+        }
+        final Geometry target = geometryFactory.createPoint(new Coordinate(x, y));
+        return Optional.of((Geometry) tree.nearestNeighbour(target.getEnvelopeInternal(), target, ITEM_DISTANCE));
+    }
+
+    /**
+     * 가장 가까운 도로 위의 위치를 찾는다
+     *
+     * @param x x
+     * @param y y
+     * @return 도로 위의 위치, 색인된 도로가 없는 경우 빈 값
+     */
+    public Optional<Coordinate> closestPoint(final double x, final double y) {
+        return nearestEdge(x, y)
+            .map(edge -> DistanceOp.nearestPoints(edge, geometryFactory.createPoint(new Coordinate(x, y)))[0]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException 색인된 도로가 없는 경우
+     */
+    @Override
+    public PointData match(final Point<C2D> point) {
+        final Coordinate coordinate = closestPoint(point.getPosition().getX(), point.getPosition().getY())
+            .orElseThrow(() -> new IllegalStateException("Empty road network"));
+        return new PointData(Geometries.mkPoint(new C2D(coordinate.x, coordinate.y), COORDINATE_REFERENCE_SYSTEM));
+    }
+}
@@ -0,0 +1,22 @@
+package com.tadah.driving.utils;
+
+import com.tadah.driving.domains.repositories.DrivingRepository;
+import com.tadah.driving.dtos.PointData;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Point;
+
+/**
+ * 데이터베이스에 질의하여 맵매칭을 수행한다
+ */
+public final class SqlMapMatcher implements MapMatcher {
+    private final DrivingRepository drivingRepository;
+
+    public SqlMapMatcher(final DrivingRepository drivingRepository) {
+        this.drivingRepository = drivingRepository;
+    }
+
+    @Override
+    public PointData match(final Point<C2D> point) {
+        return drivingRepository.mapMatch(point);
+    }
+}
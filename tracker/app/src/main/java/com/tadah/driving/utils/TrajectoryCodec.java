@@ -0,0 +1,190 @@
+package com.tadah.driving.utils;
+
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Geometries;
+import org.geolatte.geom.LineString;
+import org.geolatte.geom.PositionSequence;
+import org.geolatte.geom.PositionSequenceBuilder;
+import org.geolatte.geom.PositionSequenceBuilders;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CrsRegistry;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 경로를 압축된 바이너리로 변환한다
+ * 좌표는 cm 단위 정수로 양자화한 후 직전 좌표와의 차이를 zig-zag varint로 저장한다
+ * 형식은 플래그(varint), 좌표 개수(varint), x, y 차이 목록, 측정 시각(ms) 차이 목록(플래그에 포함된 경우) 순서이다
+ */
+public final class TrajectoryCodec {
+    private static final int SRID = 5179;
+    private static final CoordinateReferenceSystem<C2D> COORDINATE_REFERENCE_SYSTEM = CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(SRID);
+    private static final double SCALE = 100D;
+    private static final int FLAG_TIMESTAMPS = 1;
+    private static final int MIN_BYTES_PER_POSITION = 2;
+
+    private TrajectoryCodec() {
+    }
+
+    /**
+     * 압축된 경로를 읽는다
+     */
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalArgumentException("Truncated trajectory");
+                }
+                final byte current = bytes[position++];
+                value |= (long) (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        /**
+         * 좌표 개수를 읽는다
+         * 좌표마다 최소 MIN_BYTES_PER_POSITION 바이트가 필요하므로 남은 길이로 담을 수 없는 개수는 거절한다
+         */
+        private int readCount() {
+            final long count = readVarint();
+            if (count < 0 || count > (bytes.length - position) / MIN_BYTES_PER_POSITION) {
+                throw new IllegalArgumentException("Invalid position count");
+            }
+            return (int) count;
+        }
+
+        private long readZigZag() {
+            final long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+
+    private static void writeVarint(final ByteArrayOutputStream outputStream, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            outputStream.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        outputStream.write((int) remaining);
+    }
+
+    private static void writeZigZag(final ByteArrayOutputStream outputStream, final long value) {
+        writeVarint(outputStream, (value << 1) ^ (value >> 63));
+    }
+
+    private static long quantize(final double coordinate) {
+        return Math.round(coordinate * SCALE);
+    }
+
+    /**
+     * 경로를 압축한다
+     *
+     * @param path 경로(EPSG 5179)
+     * @return 압축된 경로
+     */
+    public static byte[] encode(final LineString<C2D> path) {
+        return encode(path, null);
+    }
+
+    /**
+     * 측정 시각을 포함하여 경로를 압축한다
+     *
+     * @param path 경로(EPSG 5179)
+     * @param timestamps 좌표별 측정 시각(ms), 측정 시각을 저장하지 않는 경우 null
+     * @return 압축된 경로
+     * @throws IllegalArgumentException 측정 시각의 개수가 좌표의 개수와 다른 경우
+     */
+    public static byte[] encode(final LineString<C2D> path, final long[] timestamps) {
+        final int numPositions = path.getNumPositions();
+        if (timestamps != null && timestamps.length != numPositions) {
+            throw new IllegalArgumentException("Timestamp count mismatch");
+        }
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(numPositions * 4 + 2);
+        writeVarint(outputStream, timestamps == null ? 0 : FLAG_TIMESTAMPS);
+        writeVarint(outputStream, numPositions);
+
+        final PositionSequence<C2D> positions = path.getPositions();
+        long previousX = 0;
+        long previousY = 0;
+        for (final C2D position : positions) {
+            final long x = quantize(position.getX());
+            final long y = quantize(position.getY());
+            writeZigZag(outputStream, x - previousX);
+            writeZigZag(outputStream, y - previousY);
+            previousX = x;
+            previousY = y;
+        }
+
+        if (timestamps != null) {
+            long previousTimestamp = 0;
+            for (final long timestamp : timestamps) {
+                writeZigZag(outputStream, timestamp - previousTimestamp);
+                previousTimestamp = timestamp;
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 압축된 경로를 복원한다
+     *
+     * @param bytes 압축된 경로
+     * @return 경로(EPSG 5179)
+     * @throws IllegalArgumentException 압축된 경로가 잘못된 경우
+     */
+    public static LineString<C2D> decode(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        reader.readVarint();
+        final int numPositions = reader.readCount();
+
+        final PositionSequenceBuilder<C2D> builder = PositionSequenceBuilders.fixedSized(numPositions, C2D.class);
+        long x = 0;
+        long y = 0;
+        for (int index = 0; index < numPositions; index++) {
+            x += reader.readZigZag();
+            y += reader.readZigZag();
+            builder.add(x / SCALE, y / SCALE);
+        }
+        return Geometries.mkLineString(builder.toPositionSequence(), COORDINATE_REFERENCE_SYSTEM);
+    }
+
+    /**
+     * 압축된 경로의 측정 시각을 복원한다
+     *
+     * @param bytes 압축된 경로
+     * @return 좌표별 측정 시각(ms), 측정 시각을 저장하지 않은 경우 빈 배열
+     * @throws IllegalArgumentException 압축된 경로가 잘못된 경우
+     */
+    public static long[] decodeTimestamps(final byte[] bytes) {
+        final Reader reader = new Reader(bytes);
+        final long flags = reader.readVarint();
+        final int numPositions = reader.readCount();
+        if ((flags & FLAG_TIMESTAMPS) == 0) {
+            return new long[0];
+        }
+
+        for (int index = 0; index < numPositions * 2; index++) {
+            reader.readVarint();
+        }
+
+        final long[] timestamps = new long[numPositions];
+        long timestamp = 0;
+        for (int index = 0; index < numPositions; index++) {
+            timestamp += reader.readZigZag();
+            timestamps[index] = timestamp;
+        }
+        return timestamps;
+    }
+}
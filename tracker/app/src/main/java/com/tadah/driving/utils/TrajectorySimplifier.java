@@ -0,0 +1,154 @@
+package com.tadah.driving.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Point;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Opening Window 방식으로 경로를 실시간으로 단순화한다
+ * 키별로 마지막으로 저장한 위치(기준점)와 이후 수신한 위치를 보관하며,
+ * 기준점과 새 위치를 잇는 선분에서 보관한 위치까지의 거리가 허용 오차(m, EPSG:5179)를 넘는 경우에만 직전 위치를 저장 대상으로 리턴한다
+ * 허용 오차가 0 이하인 경우 모든 위치를 저장 대상으로 리턴한다
+ */
+public final class TrajectorySimplifier {
+    private static final Duration WINDOW_TTL = Duration.ofHours(1);
+
+    /**
+     * 키별 기준점과 보관한 위치
+     */
+    private static final class Window {
+        private Point<C2D> anchor;
+        private final List<Point<C2D>> points = new ArrayList<>();
+
+        private Window(final Point<C2D> anchor) {
+            this.anchor = anchor;
+        }
+    }
+
+    private final double toleranceMeters;
+    private final int maxWindowSize;
+    private final Cache<Long, Window> windows;
+
+    /**
+     * @param toleranceMeters 허용 오차(m)
+     * @param maxWindowSize 기준점 이후 보관할 위치의 최대 개수, 넘으면 직전 위치를 저장 대상으로 리턴한다
+     * @throws IllegalArgumentException maxWindowSize가 1보다 작은 경우
+     */
+    public TrajectorySimplifier(final double toleranceMeters, final int maxWindowSize) {
+        if (maxWindowSize < 1) {
+            throw new IllegalArgumentException("Invalid max window size: " + maxWindowSize);
+        }
+        this.toleranceMeters = toleranceMeters;
+        this.maxWindowSize = maxWindowSize;
+        this.windows = CacheBuilder.newBuilder()
+            .expireAfterAccess(WINDOW_TTL)
+            .build();
+    }
+
+    /**
+     * 선분에서 위치까지의 거리를 계산한다
+     *
+     * @param start 선분의 시작점
+     * @param end 선분의 끝점
+     * @param point 위치
+     * @return 거리(m)
+     */
+    public static double distance(final C2D start, final C2D end, final C2D point) {
+        final double dx = end.getX() - start.getX();
+        final double dy = end.getY() - start.getY();
+        final double lengthSquared = dx * dx + dy * dy;
+
+        double ratio = 0;
+        if (lengthSquared > 0) {
+            ratio = ((point.getX() - start.getX()) * dx + (point.getY() - start.getY()) * dy) / lengthSquared;
+            ratio = Math.max(0, Math.min(1, ratio));
+        }
+        return Math.hypot(point.getX() - (start.getX() + ratio * dx), point.getY() - (start.getY() + ratio * dy));
+    }
+
+    private boolean isWithinTolerance(final Window window, final Point<C2D> point) {
+        final C2D start = window.anchor.getPosition();
+        final C2D end = point.getPosition();
+        for (final Point<C2D> buffered : window.points) {
+            if (distance(start, end, buffered.getPosition()) > toleranceMeters) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 운행을 시작한 위치를 기준점으로 설정한다
+     *
+     * @param key 키
+     * @param point 운행을 시작한 위치
+     */
+    public void start(final Long key, final Point<C2D> point) {
+        if (toleranceMeters > 0) {
+            windows.put(key, new Window(point));
+        }
+    }
+
+    /**
+     * 수신한 위치를 보관하고, 저장해야 할 위치를 리턴한다
+     * 보관한 위치가 없는 경우 수신한 위치를 기준점으로 설정하고 저장 대상으로 리턴한다
+     *
+     * @param key 키
+     * @param point 수신한 위치
+     * @return 저장해야 할 위치, 저장할 위치가 없는 경우 빈 값
+     */
+    public Optional<Point<C2D>> offer(final Long key, final Point<C2D> point) {
+        if (toleranceMeters <= 0) {
+            return Optional.of(point);
+        }
+
+        final Window window = windows.getIfPresent(key);
+        if (window == null) {
+            windows.put(key, new Window(point));
+            return Optional.of(point);
+        }
+
+        if (window.points.size() < maxWindowSize && isWithinTolerance(window, point)) {
+            window.points.add(point);
+            return Optional.empty();
+        }
+
+        final Point<C2D> floating = window.points.get(window.points.size() - 1);
+        window.anchor = floating;
+        window.points.clear();
+        window.points.add(point);
+        return Optional.of(floating);
+    }
+
+    /**
+     * 운행을 종료한 위치를 포함하여 저장해야 할 위치를 모두 리턴하고, 보관한 위치를 삭제한다
+     *
+     * @param key 키
+     * @param point 운행을 종료한 위치
+     * @return 저장해야 할 위치 목록, 마지막 위치는 운행을 종료한 위치이다
+     */
+    public List<Point<C2D>> stop(final Long key, final Point<C2D> point) {
+        final List<Point<C2D>> points = new ArrayList<>(2);
+        if (toleranceMeters > 0 && windows.getIfPresent(key) != null) {
+            offer(key, point).ifPresent(points::add);
+        }
+        points.add(point);
+        windows.invalidate(key);
+        return points;
+    }
+
+    /**
+     * 위치를 보관중인 키의 개수를 리턴한다
+     *
+     * @return 키의 개수
+     */
+    public long size() {
+        return windows.size();
+    }
+}
@@ -0,0 +1,115 @@
+package com.tadah.driving.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 위치를 Mapbox Vector Tile(2.1) 형식의 점 레이어 하나로 인코딩한다
+ * 타일 좌표는 타일의 왼쪽 위를 원점으로 하고 extent까지의 정수로 표현하며, 드라이버 아이디를 feature id로 저장한다
+ */
+public final class VectorTileEncoder {
+    private static final int VERSION = 2;
+    private static final int GEOMETRY_TYPE_POINT = 1;
+    private static final int COMMAND_MOVE_TO = 1;
+    private static final int WIRE_TYPE_VARINT = 0;
+    private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+
+    private static final int TILE_LAYERS = 3;
+    private static final int LAYER_VERSION = 15;
+    private static final int LAYER_NAME = 1;
+    private static final int LAYER_FEATURES = 2;
+    private static final int LAYER_EXTENT = 5;
+    private static final int FEATURE_ID = 1;
+    private static final int FEATURE_TYPE = 3;
+    private static final int FEATURE_GEOMETRY = 4;
+
+    private final String layerName;
+    private final int extent;
+    private final ByteArrayOutputStream features;
+    private int size;
+
+    /**
+     * @param layerName 레이어 이름
+     * @param extent 타일 한 변의 좌표 범위
+     */
+    public VectorTileEncoder(final String layerName, final int extent) {
+        this.layerName = layerName;
+        this.extent = extent;
+        this.features = new ByteArrayOutputStream();
+    }
+
+    private static void writeVarint(final ByteArrayOutputStream outputStream, final long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            outputStream.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        outputStream.write((int) remaining);
+    }
+
+    private static void writeTag(final ByteArrayOutputStream outputStream, final int fieldNumber, final int wireType) {
+        writeVarint(outputStream, (fieldNumber << 3) | wireType);
+    }
+
+    private static void writeBytes(final ByteArrayOutputStream outputStream, final int fieldNumber, final byte[] bytes) {
+        writeTag(outputStream, fieldNumber, WIRE_TYPE_LENGTH_DELIMITED);
+        writeVarint(outputStream, bytes.length);
+        outputStream.writeBytes(bytes);
+    }
+
+    private static int zigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * 점을 추가한다
+     *
+     * @param id 드라이버 아이디
+     * @param x 타일 안의 x 좌표
+     * @param y 타일 안의 y 좌표
+     */
+    public void addPoint(final long id, final int x, final int y) {
+        final ByteArrayOutputStream geometry = new ByteArrayOutputStream();
+        writeVarint(geometry, (COMMAND_MOVE_TO & 0x7) | (1 << 3));
+        writeVarint(geometry, Integer.toUnsignedLong(zigZag(x)));
+        writeVarint(geometry, Integer.toUnsignedLong(zigZag(y)));
+
+        final ByteArrayOutputStream feature = new ByteArrayOutputStream();
+        writeTag(feature, FEATURE_ID, WIRE_TYPE_VARINT);
+        writeVarint(feature, id);
+        writeTag(feature, FEATURE_TYPE, WIRE_TYPE_VARINT);
+        writeVarint(feature, GEOMETRY_TYPE_POINT);
+        writeBytes(feature, FEATURE_GEOMETRY, geometry.toByteArray());
+
+        writeBytes(features, LAYER_FEATURES, feature.toByteArray());
+        size++;
+    }
+
+    /**
+     * 추가한 점의 개수를 리턴한다
+     *
+     * @return 점의 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 추가한 점을 하나의 레이어로 가진 타일을 인코딩한다
+     *
+     * @return 인코딩한 타일
+     */
+    public byte[] encode() {
+        final ByteArrayOutputStream layer = new ByteArrayOutputStream();
+        writeTag(layer, LAYER_VERSION, WIRE_TYPE_VARINT);
+        writeVarint(layer, VERSION);
+        writeBytes(layer, LAYER_NAME, layerName.getBytes(StandardCharsets.UTF_8));
+        layer.writeBytes(features.toByteArray());
+        writeTag(layer, LAYER_EXTENT, WIRE_TYPE_VARINT);
+        writeVarint(layer, extent);
+
+        final ByteArrayOutputStream tile = new ByteArrayOutputStream();
+        writeBytes(tile, TILE_LAYERS, layer.toByteArray());
+        return tile.toByteArray();
+    }
+}
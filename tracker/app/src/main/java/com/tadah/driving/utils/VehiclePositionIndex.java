@@ -0,0 +1,345 @@
+package com.tadah.driving.utils;
+
+import com.google.common.util.concurrent.Striped;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Point;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.LongSupplier;
+
+/**
+ * 운행중인 드라이버의 최신 위치(EPSG 5179)를 격자로 나누어 메모리에 저장한다
+ * 드라이버별 갱신은 드라이버 아이디로 나눈 잠금으로 직렬화하고, 조회는 잠금 없이 수행한다
+ * 가까운 드라이버는 질의 위치의 격자부터 바깥쪽 격자로 넓혀가며 찾는다
+ * 앱이 종료되거나 운행 종료 메시지가 유실된 드라이버가 남지 않도록 ttl-millis 동안 갱신되지 않은 위치는 조회하지 않고 주기적으로 삭제한다
+ */
+public final class VehiclePositionIndex {
+    /**
+     * 드라이버의 위치
+     */
+    @Getter
+    public static final class Position {
+        private final long userId;
+        private final double x;
+        private final double y;
+        private final double distance;
+        private final long updatedAt;
+        @Getter(AccessLevel.NONE)
+        private final long cell;
+
+        private Position(
+            final long userId,
+            final double x,
+            final double y,
+            final double distance,
+            final long updatedAt,
+            final long cell
+        ) {
+            this.userId = userId;
+            this.x = x;
+            this.y = y;
+            this.distance = distance;
+            this.updatedAt = updatedAt;
+            this.cell = cell;
+        }
+
+        private Position withDistance(final double distance) {
+            return new Position(userId, x, y, distance, updatedAt, cell);
+        }
+    }
+
+    private final double cellSizeMeters;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Striped<Lock> locks;
+    private final ConcurrentMap<Long, Position> positions;
+    private final ConcurrentMap<Long, Set<Long>> cells;
+
+    /**
+     * 위치를 만료시키지 않는다
+     *
+     * @param cellSizeMeters 격자 한 변의 길이(m)
+     * @param stripes 잠금의 개수
+     */
+    public VehiclePositionIndex(final double cellSizeMeters, final int stripes) {
+        this(cellSizeMeters, stripes, 0L, System::currentTimeMillis);
+    }
+
+    /**
+     * ttlMillis가 0보다 큰 경우 그 간격마다 만료된 위치를 삭제한다
+     *
+     * @param cellSizeMeters 격자 한 변의 길이(m)
+     * @param stripes 잠금의 개수
+     * @param ttlMillis 위치가 만료되는 시간
+     */
+    public VehiclePositionIndex(final double cellSizeMeters, final int stripes, final long ttlMillis) {
+        this(cellSizeMeters, stripes, ttlMillis, System::currentTimeMillis);
+        if (ttlMillis > 0) {
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "vehicle-index-evictor");
+                thread.setDaemon(true);
+                return thread;
+            }).scheduleWithFixedDelay(this::evictExpired, ttlMillis, ttlMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    VehiclePositionIndex(final double cellSizeMeters, final int stripes, final long ttlMillis, final LongSupplier clock) {
+        this.cellSizeMeters = cellSizeMeters;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.locks = Striped.lock(stripes);
+        this.positions = new ConcurrentHashMap<>();
+        this.cells = new ConcurrentHashMap<>();
+    }
+
+    private boolean isExpired(final Position position, final long now) {
+        return ttlMillis > 0 && now - position.updatedAt > ttlMillis;
+    }
+
+    private int toCell(final double coordinate) {
+        return (int) Math.floor(coordinate / cellSizeMeters);
+    }
+
+    private static long getCell(final int cellX, final int cellY) {
+        return ((long) cellX << Integer.SIZE) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private void addToCell(final long cell, final long userId) {
+        cells.compute(cell, (key, members) -> {
+            final Set<Long> cellMembers = members == null ? ConcurrentHashMap.newKeySet() : members;
+            cellMembers.add(userId);
+            return cellMembers;
+        });
+    }
+
+    private void removeFromCell(final long cell, final long userId) {
+        cells.computeIfPresent(cell, (key, members) -> {
+            members.remove(userId);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    /**
+     * 드라이버의 위치를 갱신한다
+     *
+     * @param userId 드라이버 아이디
+     * @param point 위치(EPSG 5179)
+     */
+    public void update(final long userId, final Point<C2D> point) {
+        final double x = point.getPosition().getX();
+        final double y = point.getPosition().getY();
+        final Position position = new Position(userId, x, y, 0D, clock.getAsLong(), getCell(toCell(x), toCell(y)));
+
+        final Lock lock = locks.get(userId);
+        lock.lock();
+        try {
+            final Position previous = positions.put(userId, position);
+            if (previous != null && previous.cell == position.cell) {
+                return;
+            }
+            addToCell(position.cell, userId);
+            if (previous != null) {
+                removeFromCell(previous.cell, userId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 드라이버의 위치를 삭제한다
+     *
+     * @param userId 드라이버 아이디
+     */
+    public void remove(final long userId) {
+        final Lock lock = locks.get(userId);
+        lock.lock();
+        try {
+            final Position previous = positions.remove(userId);
+            if (previous != null) {
+                removeFromCell(previous.cell, userId);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만료된 드라이버의 위치를 삭제한다
+     * 잠금을 얻은 뒤 다시 확인하므로 그 사이에 갱신된 위치는 삭제하지 않는다
+     */
+    public void evictExpired() {
+        final long now = clock.getAsLong();
+        positions.forEach((userId, position) -> {
+            if (!isExpired(position, now)) {
+                return;
+            }
+            final Lock lock = locks.get(userId);
+            lock.lock();
+            try {
+                if (positions.remove(userId, position)) {
+                    removeFromCell(position.cell, userId);
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * 가까운 드라이버를 찾는다
+     * 만료된 위치는 찾지 않는다
+     *
+     * @param point 질의 위치(EPSG 5179)
+     * @param count 찾을 드라이버의 최대 수
+     * @param maxDistanceMeters 찾을 최대 거리(m)
+     * @return 거리가 가까운 순서로 정렬한 드라이버의 위치
+     */
+    public List<Position> nearest(final Point<C2D> point, final int count, final double maxDistanceMeters) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        final double x = point.getPosition().getX();
+        final double y = point.getPosition().getY();
+        final int cellX = toCell(x);
+        final int cellY = toCell(y);
+        final long now = clock.getAsLong();
+        final int maxRing = (int) Math.ceil(maxDistanceMeters / cellSizeMeters);
+        final PriorityQueue<Position> candidates = new PriorityQueue<>(
+            count, Comparator.comparingDouble(Position::getDistance).reversed()
+        );
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (candidates.size() == count && (ring - 1) * cellSizeMeters > candidates.peek().getDistance()) {
+                break;
+            }
+            for (int dy = -ring; dy <= ring; dy++) {
+                final int step = Math.abs(dy) == ring ? 1 : 2 * ring;
+                for (int dx = -ring; dx <= ring; dx += step) {
+                    collect(getCell(cellX + dx, cellY + dy), x, y, count, maxDistanceMeters, now, candidates);
+                }
+            }
+        }
+
+        final List<Position> result = new ArrayList<>(candidates);
+        result.sort(Comparator.comparingDouble(Position::getDistance));
+        return result;
+    }
+
+    private void collect(
+        final long cell,
+        final double x,
+        final double y,
+        final int count,
+        final double maxDistanceMeters,
+        final long now,
+        final PriorityQueue<Position> candidates
+    ) {
+        final Set<Long> members = cells.get(cell);
+        if (members == null) {
+            return;
+        }
+
+        for (final Long userId : members) {
+            final Position position = positions.get(userId);
+            if (position == null || position.cell != cell || isExpired(position, now)) {
+                continue;
+            }
+            final double distance = Math.hypot(position.x - x, position.y - y);
+            if (distance > maxDistanceMeters) {
+                continue;
+            }
+            if (candidates.size() < count) {
+                candidates.add(position.withDistance(distance));
+            } else if (distance < candidates.peek().getDistance()) {
+                candidates.poll();
+                candidates.add(position.withDistance(distance));
+            }
+        }
+    }
+
+    /**
+     * 영역 안의 드라이버를 찾는다
+     * 영역에 포함된 격자가 드라이버가 있는 격자보다 많은 경우 드라이버가 있는 격자만 확인한다
+     * 만료된 위치는 찾지 않는다
+     *
+     * @param minX 영역의 최소 x(EPSG 5179)
+     * @param minY 영역의 최소 y(EPSG 5179)
+     * @param maxX 영역의 최대 x(EPSG 5179)
+     * @param maxY 영역의 최대 y(EPSG 5179)
+     * @return 영역 안의 드라이버의 위치
+     */
+    public List<Position> within(final double minX, final double minY, final double maxX, final double maxY) {
+        final int minCellX = toCell(minX);
+        final int minCellY = toCell(minY);
+        final int maxCellX = toCell(maxX);
+        final int maxCellY = toCell(maxY);
+        final long now = clock.getAsLong();
+        final List<Position> result = new ArrayList<>();
+
+        final long numCells = ((long) maxCellX - minCellX + 1) * ((long) maxCellY - minCellY + 1);
+        if (numCells > cells.size()) {
+            cells.forEach((cell, members) -> {
+                final int cellX = (int) (cell >> Integer.SIZE);
+                final int cellY = (int) (long) cell;
+                if (cellX >= minCellX && cellX <= maxCellX && cellY >= minCellY && cellY <= maxCellY) {
+                    collect(cell, members, minX, minY, maxX, maxY, now, result);
+                }
+            });
+            return result;
+        }
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                final long cell = getCell(cellX, cellY);
+                final Set<Long> members = cells.get(cell);
+                if (members != null) {
+                    collect(cell, members, minX, minY, maxX, maxY, now, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void collect(
+        final long cell,
+        final Set<Long> members,
+        final double minX,
+        final double minY,
+        final double maxX,
+        final double maxY,
+        final long now,
+        final List<Position> result
+    ) {
+        for (final Long userId : members) {
+            final Position position = positions.get(userId);
+            if (position == null || position.cell != cell || isExpired(position, now)) {
+                continue;
+            }
+            if (position.x >= minX && position.x <= maxX && position.y >= minY && position.y <= maxY) {
+                result.add(position);
+            }
+        }
+    }
+
+    /**
+     * 위치를 저장한 드라이버의 수를 리턴한다
+     *
+     * @return 드라이버의 수
+     */
+    public int size() {
+        return positions.size();
+    }
+}
@@ -0,0 +1,191 @@
+package com.tadah.driving.utils;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * 값을 키별로 모아두었다가 한 번에 저장한다
+ * 키별로 모인 값이 max-size개가 되면 값을 추가한 스레드에서 바로 저장하고,
+ * flush-interval-millis가 0보다 큰 경우 주기적으로 모든 키의 값을 저장한다
+ * 같은 키의 값은 추가한 순서대로 저장하며, 저장이 끝날 때까지 같은 키의 다른 저장은 기다린다
+ * 저장에 실패한 값은 버리지 않고 남겨두었다가 다음 저장 때 다시 저장한다
+ *
+ * @param <K> 키
+ * @param <V> 값
+ */
+public final class WriteBehindBuffer<K, V> implements AutoCloseable {
+    /**
+     * 저장 정책
+     */
+    @Getter
+    public static final class Policy {
+        private final int maxSize;
+        private final long flushIntervalMillis;
+
+        /**
+         * @param maxSize 키별로 모아둘 최대 개수, 1 이하인 경우 값을 추가할 때마다 저장한다
+         * @param flushIntervalMillis 주기적으로 저장할 간격, 0 이하인 경우 주기적으로 저장하지 않는다
+         */
+        public Policy(final int maxSize, final long flushIntervalMillis) {
+            this.maxSize = Math.max(maxSize, 1);
+            this.flushIntervalMillis = flushIntervalMillis;
+        }
+    }
+
+    private static final class Entry<V> {
+        private List<V> values = new ArrayList<>();
+        private boolean removed;
+    }
+
+    private final Policy policy;
+    private final BiConsumer<K, List<V>> flusher;
+    private final ConcurrentMap<K, Entry<V>> entries;
+    private final AtomicInteger depth;
+    private final AtomicLong failedFlushCount;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param policy 저장 정책
+     * @param flusher 키와 모아둔 값 목록을 저장한다
+     */
+    public WriteBehindBuffer(final Policy policy, final BiConsumer<K, List<V>> flusher) {
+        this.policy = policy;
+        this.flusher = flusher;
+        this.entries = new ConcurrentHashMap<>();
+        this.depth = new AtomicInteger();
+        this.failedFlushCount = new AtomicLong();
+
+        if (policy.getFlushIntervalMillis() > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "write-behind-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(
+                this::flushAll, policy.getFlushIntervalMillis(), policy.getFlushIntervalMillis(), TimeUnit.MILLISECONDS
+            );
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * 값을 추가한다
+     * 키별로 모인 값이 최대 개수가 되면 모두 저장한다
+     *
+     * @param key 키
+     * @param value 값
+     */
+    public void add(final K key, final V value) {
+        while (true) {
+            final Entry<V> entry = entries.computeIfAbsent(key, ignored -> new Entry<>());
+            synchronized (entry) {
+                if (entry.removed) {
+                    continue;
+                }
+                entry.values.add(value);
+                depth.incrementAndGet();
+                if (entry.values.size() >= policy.getMaxSize()) {
+                    drain(key, entry);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 키에 모아둔 값을 모두 저장하고 키를 제거한다
+     * 저장에 실패한 경우 값과 키를 남겨둔다
+     *
+     * @param key 키
+     */
+    public void flush(final K key) {
+        final Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            flush(key, entry, true);
+        }
+    }
+
+    /**
+     * 모든 키에 모아둔 값을 저장한다
+     * 마지막 저장 이후 값이 추가되지 않은 키는 제거한다
+     * 저장에 실패한 키는 값을 남겨두고 다른 키의 저장을 계속한다
+     */
+    public void flushAll() {
+        entries.forEach((key, entry) -> {
+            try {
+                flush(key, entry, false);
+            } catch (RuntimeException exception) {
+                // 실패한 값은 drain에서 남겨두었으므로 다음 주기에 다시 저장한다
+            }
+        });
+    }
+
+    private void flush(final K key, final Entry<V> entry, final boolean remove) {
+        synchronized (entry) {
+            if (entry.removed) {
+                return;
+            }
+            final boolean isIdle = entry.values.isEmpty();
+            drain(key, entry);
+            if (remove || isIdle) {
+                entry.removed = true;
+                entries.remove(key, entry);
+            }
+        }
+    }
+
+    private void drain(final K key, final Entry<V> entry) {
+        if (entry.values.isEmpty()) {
+            return;
+        }
+        final List<V> values = entry.values;
+        try {
+            flusher.accept(key, values);
+        } catch (RuntimeException exception) {
+            failedFlushCount.incrementAndGet();
+            throw exception;
+        }
+        entry.values = new ArrayList<>();
+        depth.addAndGet(-values.size());
+    }
+
+    /**
+     * 저장되지 않은 값의 개수를 리턴한다
+     *
+     * @return 저장되지 않은 값의 개수
+     */
+    public int getDepth() {
+        return depth.get();
+    }
+
+    /**
+     * 저장에 실패한 횟수를 리턴한다
+     *
+     * @return 저장에 실패한 횟수
+     */
+    public long getFailedFlushCount() {
+        return failedFlushCount.get();
+    }
+
+    /**
+     * 주기적인 저장을 멈추고 모아둔 값을 모두 저장한다
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flushAll();
+    }
+}
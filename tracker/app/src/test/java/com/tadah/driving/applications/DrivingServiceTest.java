@@ -4,7 +4,11 @@ import com.tadah.driving.domains.entities.Driving;
 import com.tadah.driving.domains.repositories.DrivingRepository;
 import com.tadah.driving.domains.repositories.infra.JpaDrivingRepository;
 import com.tadah.driving.utils.CoordinateUtil;
+import com.tadah.driving.utils.SqlMapMatcher;
+import com.tadah.driving.utils.TrajectorySimplifier;
+import com.tadah.driving.utils.WriteBehindBuffer;
 import org.geolatte.geom.C2D;
+import org.geolatte.geom.Geometries;
 import org.geolatte.geom.Point;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -18,9 +22,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static com.tadah.driving.domains.entities.DrivingTest.AFTER_MAP_MATCH;
+import static com.tadah.driving.domains.entities.DrivingTest.BEFORE_MAP_MATCH;
 import static com.tadah.driving.domains.entities.DrivingTest.DRIVING;
 import static com.tadah.driving.domains.entities.DrivingTest.LATITUDE;
 import static com.tadah.driving.domains.entities.DrivingTest.LONGITUDE;
@@ -32,7 +40,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("DrivingService 클래스")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public class DrivingServiceTest {
+    private static final double TOLERANCE_METERS = 10D;
+    private static final WriteBehindBuffer.Policy NO_WRITE_BEHIND = new WriteBehindBuffer.Policy(1, 0);
+    private static final int WRITE_BEHIND_SIZE = 3;
+
     private final DrivingService drivingService;
+    private final DrivingService pointsDrivingService;
+    private final DrivingService simplifyingDrivingService;
+    private final DrivingService archivingDrivingService;
+    private final DrivingService bufferingDrivingService;
+    private final DrivingService bufferingPointsDrivingService;
     private final DrivingRepository drivingRepository;
     private final JpaDrivingRepository jpaDrivingRepository;
 
@@ -41,7 +58,32 @@ public class DrivingServiceTest {
         @Autowired final JpaDrivingRepository jpaDrivingRepository) throws FactoryException {
         this.drivingRepository = drivingRepository;
         this.jpaDrivingRepository = jpaDrivingRepository;
-        this.drivingService = new DrivingService(new CoordinateUtil(), drivingRepository);
+        this.drivingService = new DrivingService(
+            new CoordinateUtil(), drivingRepository, new SqlMapMatcher(drivingRepository),
+            new TrajectorySimplifier(0, 1), DrivingService.StorageMode.PATH, false, NO_WRITE_BEHIND
+        );
+        this.pointsDrivingService = new DrivingService(
+            new CoordinateUtil(), drivingRepository, new SqlMapMatcher(drivingRepository),
+            new TrajectorySimplifier(0, 1), DrivingService.StorageMode.POINTS, false, NO_WRITE_BEHIND
+        );
+        this.simplifyingDrivingService = new DrivingService(
+            new CoordinateUtil(), drivingRepository, new SqlMapMatcher(drivingRepository),
+            new TrajectorySimplifier(TOLERANCE_METERS, 60), DrivingService.StorageMode.PATH, false, NO_WRITE_BEHIND
+        );
+        this.archivingDrivingService = new DrivingService(
+            new CoordinateUtil(), drivingRepository, new SqlMapMatcher(drivingRepository),
+            new TrajectorySimplifier(0, 1), DrivingService.StorageMode.PATH, true, NO_WRITE_BEHIND
+        );
+        this.bufferingDrivingService = new DrivingService(
+            new CoordinateUtil(), drivingRepository, new SqlMapMatcher(drivingRepository),
+            new TrajectorySimplifier(0, 1), DrivingService.StorageMode.PATH, false,
+            new WriteBehindBuffer.Policy(WRITE_BEHIND_SIZE, 0)
+        );
+        this.bufferingPointsDrivingService = new DrivingService(
+            new CoordinateUtil(), drivingRepository, new SqlMapMatcher(drivingRepository),
+            new TrajectorySimplifier(0, 1), DrivingService.StorageMode.POINTS, false,
+            new WriteBehindBuffer.Policy(WRITE_BEHIND_SIZE, 0)
+        );
     }
 
     @Nested
@@ -93,6 +135,8 @@ public class DrivingServiceTest {
         public final class Context_stopDriving {
             @BeforeAll
             private void beforeAll() {
+                // 공유하는 DRIVING 인스턴스의 운행 상태가 바뀌지 않도록 저장된 운행정보를 다시 조회하여 종료한다
+                driving = jpaDrivingRepository.findById(driving.getId()).orElseThrow();
                 driving.stopDriving();
                 drivingRepository.save(driving);
             }
@@ -106,6 +150,59 @@ public class DrivingServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getId 메서드는")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    public final class Describe_getId {
+        private Driving driving;
+
+        private OptionalLong subject() {
+            return drivingService.getId(USER_ID);
+        }
+
+        @BeforeAll
+        private void beforeAll() {
+            driving = drivingService.start(DRIVING);
+        }
+
+        @AfterAll
+        private void afterAll() {
+            jpaDrivingRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("운행을 시작할 때 저장해둔 운행정보 아이디를 리턴한다")
+        public void it_returns_the_cached_driving_id() {
+            final long hitCount = drivingService.getActiveDrivingStats().hitCount();
+
+            assertThat(subject())
+                .hasValue(driving.getId());
+            assertThat(drivingService.getActiveDrivingStats().hitCount())
+                .isEqualTo(hitCount + 1);
+        }
+
+        @Nested
+        @DisplayName("운행이 종료된 경우")
+        @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+        public final class Context_stopDriving {
+            @BeforeAll
+            private void beforeAll() {
+                drivingService.stop(driving, POINT);
+            }
+
+            @Test
+            @DisplayName("운행이 종료되었음을 알려준다")
+            public void it_notifies_that_driving_is_finished() {
+                final long missCount = drivingService.getActiveDrivingStats().missCount();
+
+                assertThat(subject())
+                    .isEmpty();
+                assertThat(drivingService.getActiveDrivingStats().missCount())
+                    .isEqualTo(missCount + 1);
+            }
+        }
+    }
+
     @Nested
     @DisplayName("start 메서드는")
     @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -189,5 +286,372 @@ public class DrivingServiceTest {
                 .get()
                 .matches(driving -> driving.getPath().getEndPosition().equals(POINT.getPosition()));
         }
+
+        @Nested
+        @DisplayName("다른 인스턴스에서 운행을 종료한 경우")
+        @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+        public final class Context_stoppedElsewhere {
+            private final Long userId = USER_ID + 1;
+            private Driving startedDriving;
+
+            @BeforeAll
+            private void beforeAll() {
+                startedDriving = drivingService.start(new Driving(userId, AFTER_MAP_MATCH));
+                final Driving stoppedDriving = jpaDrivingRepository.findById(startedDriving.getId()).orElseThrow();
+                stoppedDriving.stopDriving();
+                drivingRepository.save(stoppedDriving);
+            }
+
+            @Test
+            @DisplayName("운행을 다시 시작하지 않고 저장해둔 운행정보 아이디를 지운다")
+            public void it_invalidates_the_cached_driving_id() {
+                drivingService.update(startedDriving, POINT);
+
+                assertThat(jpaDrivingRepository.findById(startedDriving.getId()))
+                    .isPresent()
+                    .get()
+                    .matches(driving -> !driving.isDriving());
+                assertThat(drivingService.getId(userId))
+                    .isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("append 메서드는")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    public final class Describe_append {
+        private Driving driving;
+
+        private void subject(final List<Point<C2D>> points) {
+            drivingService.append(driving, points, true);
+        }
+
+        @BeforeAll
+        private void beforeAll() {
+            driving = drivingRepository.save(DRIVING);
+        }
+
+        @AfterAll
+        private void afterAll() {
+            jpaDrivingRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("여러 위치정보를 한 번에 업데이트한다")
+        public void it_appends_the_location_data() {
+            subject(List.of(BEFORE_MAP_MATCH, POINT));
+
+            assertThat(jpaDrivingRepository.findById(driving.getId()))
+                .isPresent()
+                .get()
+                .matches(driving -> driving.getPath().getEndPosition().equals(POINT.getPosition()));
+        }
+
+        @Test
+        @DisplayName("위치정보가 없는 경우 아무것도 하지 않는다")
+        public void it_does_nothing_if_points_are_empty() {
+            final int numPositions = jpaDrivingRepository.findById(driving.getId()).orElseThrow().getPath().getNumPositions();
+
+            subject(Collections.emptyList());
+
+            assertThat(jpaDrivingRepository.findById(driving.getId()))
+                .isPresent()
+                .get()
+                .matches(driving -> driving.getPath().getNumPositions() == numPositions);
+        }
+    }
+
+    @Nested
+    @DisplayName("위치를 별도로 저장하는 경우")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    public final class Describe_pointsStorage {
+        private Driving driving;
+        private int numPositions;
+
+        @BeforeAll
+        private void beforeAll() {
+            driving = pointsDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+            numPositions = driving.getPath().getNumPositions();
+        }
+
+        @AfterAll
+        private void afterAll() {
+            jpaDrivingRepository.deleteAll();
+        }
+
+        private Driving find() {
+            return jpaDrivingRepository.findById(driving.getId()).orElseThrow();
+        }
+
+        @Test
+        @DisplayName("운행 중에는 경로를 다시 쓰지 않고 조회할 때 이어 붙이며, 운행이 종료되면 저장한 위치를 경로에 이어 붙인다")
+        public void it_materializes_the_path_when_stopped() {
+            pointsDrivingService.update(driving, BEFORE_MAP_MATCH);
+            pointsDrivingService.append(driving, List.of(POINT, BEFORE_MAP_MATCH), true);
+
+            assertThat(find().getPath().getNumPositions())
+                .isEqualTo(numPositions);
+            assertThat(pointsDrivingService.get(USER_ID))
+                .isPresent()
+                .get()
+                .matches(found -> found.getPath().getNumPositions() == numPositions + 3)
+                .matches(found -> found.getPath().getEndPosition().equals(BEFORE_MAP_MATCH.getPosition()));
+
+            pointsDrivingService.stop(driving, POINT);
+
+            assertThat(find())
+                .matches(driving -> !driving.isDriving())
+                .matches(driving -> driving.getPath().getNumPositions() == numPositions + 4)
+                .matches(driving -> driving.getPath().getEndPosition().equals(POINT.getPosition()));
+        }
+
+        @Test
+        @DisplayName("여러 위치와 함께 운행이 종료되면 경로에 이어 붙인다")
+        public void it_materializes_the_path_when_appended_with_stop() {
+            final Driving appended = pointsDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+
+            pointsDrivingService.append(appended, List.of(BEFORE_MAP_MATCH, POINT), false);
+
+            assertThat(jpaDrivingRepository.findById(appended.getId()))
+                .isPresent()
+                .get()
+                .matches(driving -> !driving.isDriving())
+                .matches(driving -> driving.getPath().getNumPositions() == numPositions + 2)
+                .matches(driving -> driving.getPath().getEndPosition().equals(POINT.getPosition()));
+        }
+
+        @Test
+        @DisplayName("getId로 가져온 아이디만으로 여러 위치를 저장한다")
+        public void it_appends_the_points_with_the_driving_id() {
+            final Driving appended = pointsDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+            final long drivingId = pointsDrivingService.getId(USER_ID).orElseThrow();
+
+            pointsDrivingService.append(USER_ID, drivingId, List.of(BEFORE_MAP_MATCH, POINT), false);
+
+            assertThat(jpaDrivingRepository.findById(appended.getId()))
+                .isPresent()
+                .get()
+                .matches(driving -> !driving.isDriving())
+                .matches(driving -> driving.getPath().getNumPositions() == numPositions + 2);
+            assertThat(pointsDrivingService.getId(USER_ID))
+                .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("경로를 단순화하는 경우")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    public final class Describe_simplify {
+        @AfterAll
+        private void afterAll() {
+            jpaDrivingRepository.deleteAll();
+        }
+
+        private Point<C2D> getPoint(final double dx, final double dy) {
+            return Geometries.mkPoint(
+                new C2D(AFTER_MAP_MATCH.getPosition().getX() + dx, AFTER_MAP_MATCH.getPosition().getY() + dy),
+                AFTER_MAP_MATCH.getCoordinateReferenceSystem()
+            );
+        }
+
+        private int getNumPositions(final Driving driving) {
+            return jpaDrivingRepository.findById(driving.getId()).orElseThrow().getPath().getNumPositions();
+        }
+
+        @Test
+        @DisplayName("직선 위의 위치는 저장하지 않고, 운행이 종료되면 마지막 위치를 저장한다")
+        public void it_skips_collinear_points_and_flushes_on_stop() {
+            final Driving driving = simplifyingDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+            final int numPositions = getNumPositions(driving);
+
+            simplifyingDrivingService.update(driving, getPoint(100, 0));
+            simplifyingDrivingService.update(driving, getPoint(200, 0));
+            simplifyingDrivingService.update(driving, getPoint(300, 0));
+
+            assertThat(getNumPositions(driving))
+                .isEqualTo(numPositions);
+
+            simplifyingDrivingService.stop(driving, getPoint(400, 0));
+
+            assertThat(getNumPositions(driving))
+                .isEqualTo(numPositions + 1);
+        }
+
+        @Test
+        @DisplayName("허용 오차를 넘는 경우 직전 위치를 저장한다")
+        public void it_saves_the_previous_point_when_the_tolerance_is_exceeded() {
+            final Driving driving = simplifyingDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+            final int numPositions = getNumPositions(driving);
+
+            simplifyingDrivingService.append(driving, List.of(getPoint(100, 0), getPoint(200, 0), getPoint(200, 100)), true);
+
+            assertThat(jpaDrivingRepository.findById(driving.getId()))
+                .isPresent()
+                .get()
+                .matches(saved -> saved.getPath().getNumPositions() == numPositions + 1)
+                .matches(saved -> saved.getPath().getEndPosition().equals(getPoint(200, 0).getPosition()));
+
+            simplifyingDrivingService.append(driving, List.of(getPoint(200, 200)), false);
+
+            assertThat(jpaDrivingRepository.findById(driving.getId()))
+                .isPresent()
+                .get()
+                .matches(saved -> !saved.isDriving())
+                .matches(saved -> saved.getPath().getNumPositions() == numPositions + 2)
+                .matches(saved -> saved.getPath().getEndPosition().equals(getPoint(200, 200).getPosition()));
+        }
+
+        @Test
+        @DisplayName("저장할 위치가 없는 경우 아무것도 하지 않는다")
+        public void it_does_nothing_if_no_points_are_saved() {
+            final Driving driving = simplifyingDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+            final int numPositions = getNumPositions(driving);
+
+            simplifyingDrivingService.append(driving, List.of(getPoint(100, 0), getPoint(200, 0)), true);
+
+            assertThat(getNumPositions(driving))
+                .isEqualTo(numPositions);
+        }
+    }
+
+    @Nested
+    @DisplayName("archive 메서드는")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    public final class Describe_archive {
+        @AfterAll
+        private void afterAll() {
+            jpaDrivingRepository.deleteAll();
+        }
+
+        private boolean subject(final Driving driving) {
+            return drivingService.archive(driving.getId());
+        }
+
+        @Test
+        @DisplayName("종료된 운행의 경로를 압축하여 보관한다")
+        public void it_archives_the_stopped_driving() {
+            final Driving driving = drivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+            drivingService.stop(driving, POINT);
+
+            assertThat(subject(driving))
+                .isTrue();
+            assertThat(drivingRepository.findStopped(driving.getId()))
+                .isEmpty();
+            assertThat(subject(driving))
+                .isFalse();
+        }
+
+        @Test
+        @DisplayName("운행중인 경우 아무것도 하지 않는다")
+        public void it_does_nothing_if_driving() {
+            final Driving driving = drivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+
+            assertThat(subject(driving))
+                .isFalse();
+        }
+
+        @Test
+        @DisplayName("운행 종료시 보관하도록 설정된 경우 운행을 종료하면서 경로를 보관한다")
+        public void it_archives_on_stop() {
+            final Driving driving = archivingDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+
+            archivingDrivingService.stop(driving, POINT);
+
+            assertThat(drivingRepository.findStopped(driving.getId()))
+                .isEmpty();
+        }
+
+        @Test
+        @DisplayName("운행 종료시 보관하도록 설정된 경우 여러 위치를 저장하면서 운행을 종료해도 경로를 보관한다")
+        public void it_archives_on_append_stop() {
+            final Driving driving = archivingDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+
+            archivingDrivingService.append(driving, List.of(POINT), false);
+
+            assertThat(drivingRepository.findStopped(driving.getId()))
+                .isEmpty();
+            assertThat(subject(driving))
+                .isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("위치를 모아서 저장하는 경우")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    public final class Describe_writeBehind {
+        @AfterAll
+        private void afterAll() {
+            jpaDrivingRepository.deleteAll();
+        }
+
+        private int getNumPositions(final Driving driving) {
+            return jpaDrivingRepository.findById(driving.getId()).orElseThrow().getPath().getNumPositions();
+        }
+
+        @Test
+        @DisplayName("최대 개수만큼 모이면 한 번에 저장하고, 운행이 종료되면 남은 위치를 저장한다")
+        public void it_flushes_when_full_and_on_stop() {
+            final Driving driving = bufferingDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+            final int numPositions = getNumPositions(driving);
+
+            bufferingDrivingService.update(driving, BEFORE_MAP_MATCH);
+            bufferingDrivingService.update(driving, POINT);
+
+            assertThat(bufferingDrivingService.getWriteBehindDepth())
+                .isEqualTo(2);
+            assertThat(getNumPositions(driving))
+                .isEqualTo(numPositions);
+
+            bufferingDrivingService.update(driving, BEFORE_MAP_MATCH);
+
+            assertThat(bufferingDrivingService.getWriteBehindDepth())
+                .isZero();
+            assertThat(getNumPositions(driving))
+                .isEqualTo(numPositions + WRITE_BEHIND_SIZE);
+
+            bufferingDrivingService.update(driving, BEFORE_MAP_MATCH);
+            bufferingDrivingService.stop(driving, POINT);
+
+            assertThat(jpaDrivingRepository.findById(driving.getId()))
+                .isPresent()
+                .get()
+                .matches(saved -> !saved.isDriving())
+                .matches(saved -> saved.getPath().getNumPositions() == numPositions + WRITE_BEHIND_SIZE + 2)
+                .matches(saved -> saved.getPath().getEndPosition().equals(POINT.getPosition()));
+        }
+
+        @Test
+        @DisplayName("여러 위치를 한 번에 업데이트하기 전에 모아둔 위치를 먼저 저장한다")
+        public void it_flushes_before_append() {
+            final Driving driving = bufferingDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+            final int numPositions = getNumPositions(driving);
+
+            bufferingDrivingService.update(driving, BEFORE_MAP_MATCH);
+            bufferingDrivingService.append(driving, List.of(POINT), true);
+
+            assertThat(jpaDrivingRepository.findById(driving.getId()))
+                .isPresent()
+                .get()
+                .matches(saved -> saved.getPath().getNumPositions() == numPositions + 2)
+                .matches(saved -> saved.getPath().getEndPosition().equals(POINT.getPosition()));
+        }
+
+        @Test
+        @DisplayName("위치를 별도로 저장하는 경우 모아둔 위치를 한 번에 저장한다")
+        public void it_flushes_points_in_bulk() {
+            final Driving driving = bufferingPointsDrivingService.start(new Driving(USER_ID, AFTER_MAP_MATCH));
+            final int numPositions = getNumPositions(driving);
+
+            bufferingPointsDrivingService.update(driving, BEFORE_MAP_MATCH);
+            bufferingPointsDrivingService.update(driving, POINT);
+            bufferingPointsDrivingService.update(driving, BEFORE_MAP_MATCH);
+            bufferingPointsDrivingService.update(driving, POINT);
+            bufferingPointsDrivingService.close();
+            bufferingPointsDrivingService.stop(driving, POINT);
+
+            assertThat(getNumPositions(driving))
+                .isEqualTo(numPositions + 5);
+        }
     }
 }
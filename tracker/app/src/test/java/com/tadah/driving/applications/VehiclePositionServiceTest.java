@@ -0,0 +1,64 @@
+package com.tadah.driving.applications;
+
+import com.tadah.driving.dtos.VehiclePositionData;
+import com.tadah.driving.utils.CoordinateUtil;
+import com.tadah.driving.utils.VehiclePositionIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.opengis.referencing.FactoryException;
+import org.opengis.referencing.operation.TransformException;
+
+import java.util.List;
+
+import static com.tadah.driving.domains.entities.DrivingTest.BEFORE_MAP_MATCH;
+import static com.tadah.driving.domains.entities.DrivingTest.LATITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.LONGITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("VehiclePositionService 클래스")
+public final class VehiclePositionServiceTest {
+    private final VehiclePositionIndex vehiclePositionIndex;
+    private final VehiclePositionService vehiclePositionService;
+
+    public VehiclePositionServiceTest() throws FactoryException {
+        this.vehiclePositionIndex = new VehiclePositionIndex(500D, 4);
+        this.vehiclePositionService = new VehiclePositionService(new CoordinateUtil(), vehiclePositionIndex);
+    }
+
+    @Nested
+    @DisplayName("nearest 메서드는")
+    public final class Describe_nearest {
+        private List<VehiclePositionData> subject() throws TransformException {
+            return vehiclePositionService.nearest(LATITUDE, LONGITUDE, 1, 100D);
+        }
+
+        @Test
+        @DisplayName("가까운 드라이버의 위치를 GPS 좌표로 리턴한다")
+        public void it_returns_the_nearest_positions_in_gps() throws TransformException {
+            vehiclePositionIndex.update(USER_ID, BEFORE_MAP_MATCH);
+
+            final List<VehiclePositionData> vehiclePositions = subject();
+
+            assertThat(vehiclePositions)
+                .hasSize(1);
+            assertThat(vehiclePositions.get(0).getUserId())
+                .isEqualTo(USER_ID);
+            assertThat(vehiclePositions.get(0).getLatitude())
+                .isCloseTo(LATITUDE, within(0.0001));
+            assertThat(vehiclePositions.get(0).getLongitude())
+                .isCloseTo(LONGITUDE, within(0.0001));
+            assertThat(vehiclePositions.get(0).getDistance())
+                .isLessThan(1D);
+        }
+
+        @Test
+        @DisplayName("가까운 드라이버가 없는 경우 빈 목록을 리턴한다")
+        public void it_returns_an_empty_list() throws TransformException {
+            assertThat(subject())
+                .isEmpty();
+        }
+    }
+}
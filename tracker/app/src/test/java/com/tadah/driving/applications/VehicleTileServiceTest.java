@@ -0,0 +1,119 @@
+package com.tadah.driving.applications;
+
+import com.tadah.driving.exceptions.InvalidTileException;
+import com.tadah.driving.utils.CoordinateUtil;
+import com.tadah.driving.utils.VectorTileEncoder;
+import com.tadah.driving.utils.VehiclePositionIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.opengis.referencing.FactoryException;
+import org.opengis.referencing.operation.TransformException;
+
+import static com.tadah.driving.domains.entities.DrivingTest.BEFORE_MAP_MATCH;
+import static com.tadah.driving.domains.entities.DrivingTest.LATITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.LONGITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("VehicleTileService 클래스")
+public final class VehicleTileServiceTest {
+    public static final int ZOOM = 14;
+    private static final int NUM_TILES = 1 << ZOOM;
+    public static final int TILE_X = (int) Math.floor((LONGITUDE + 180D) / 360D * NUM_TILES);
+    public static final int TILE_Y = (int) Math.floor(
+        (1D - Math.log(Math.tan(Math.toRadians(LATITUDE)) + 1D / Math.cos(Math.toRadians(LATITUDE))) / Math.PI) / 2D * NUM_TILES
+    );
+    private static final byte[] EMPTY_TILE = new VectorTileEncoder(VehicleTileService.LAYER_NAME, VehicleTileService.EXTENT).encode();
+
+    private final CoordinateUtil coordinateUtil;
+    private VehiclePositionIndex vehiclePositionIndex;
+
+    public VehicleTileServiceTest() throws FactoryException {
+        this.coordinateUtil = new CoordinateUtil();
+    }
+
+    @BeforeEach
+    private void beforeEach() {
+        vehiclePositionIndex = new VehiclePositionIndex(500D, 4);
+        vehiclePositionIndex.update(USER_ID, BEFORE_MAP_MATCH);
+    }
+
+    private VehicleTileService getVehicleTileService(final long ttlMillis) {
+        return new VehicleTileService(coordinateUtil, vehiclePositionIndex, ttlMillis);
+    }
+
+    @Nested
+    @DisplayName("getTile 메서드는")
+    public final class Describe_getTile {
+        @Test
+        @DisplayName("타일 안의 드라이버 위치를 인코딩한다")
+        public void it_encodes_the_positions_in_the_tile() throws TransformException {
+            final VehicleTileService vehicleTileService = getVehicleTileService(0L);
+
+            assertThat(vehicleTileService.getTile(ZOOM, TILE_X, TILE_Y))
+                .hasSizeGreaterThan(EMPTY_TILE.length)
+                .containsSequence(0x08, USER_ID.intValue());
+            assertThat(vehicleTileService.getTile(ZOOM, TILE_X + 1, TILE_Y))
+                .containsExactly(EMPTY_TILE);
+        }
+
+        @Test
+        @DisplayName("캐싱된 타일이 만료되기 전에는 캐싱된 타일을 리턴한다")
+        public void it_returns_the_cached_tile() throws TransformException {
+            final VehicleTileService vehicleTileService = getVehicleTileService(60000L);
+            final byte[] tile = vehicleTileService.getTile(ZOOM, TILE_X, TILE_Y);
+
+            vehiclePositionIndex.remove(USER_ID);
+
+            assertThat(vehicleTileService.getTile(ZOOM, TILE_X, TILE_Y))
+                .isSameAs(tile);
+            assertThat(getVehicleTileService(0L).getTile(ZOOM, TILE_X, TILE_Y))
+                .containsExactly(EMPTY_TILE);
+        }
+
+        @Test
+        @DisplayName("좌표계 변환에 실패한 경우 예외를 던진다")
+        public void it_throws_an_exception_if_the_transform_fails() throws TransformException {
+            final CoordinateUtil failingCoordinateUtil = mock(CoordinateUtil.class);
+            doThrow(new TransformException("failed"))
+                .when(failingCoordinateUtil).transform(any(double[].class), any(double[].class), anyInt());
+            final VehicleTileService vehicleTileService = new VehicleTileService(failingCoordinateUtil, vehiclePositionIndex, 0L);
+
+            assertThatThrownBy(() -> vehicleTileService.getTile(ZOOM, TILE_X, TILE_Y))
+                .isInstanceOf(TransformException.class);
+        }
+
+        @Test
+        @DisplayName("줌 레벨이 범위를 벗어난 경우 예외를 던진다")
+        public void it_throws_an_exception_if_the_zoom_is_invalid() {
+            final VehicleTileService vehicleTileService = getVehicleTileService(0L);
+
+            assertThatThrownBy(() -> vehicleTileService.getTile(VehicleTileService.MIN_ZOOM - 1, 0, 0))
+                .isInstanceOf(InvalidTileException.class);
+            assertThatThrownBy(() -> vehicleTileService.getTile(VehicleTileService.MAX_ZOOM + 1, 0, 0))
+                .isInstanceOf(InvalidTileException.class);
+        }
+
+        @Test
+        @DisplayName("타일 좌표가 범위를 벗어난 경우 예외를 던진다")
+        public void it_throws_an_exception_if_the_tile_is_out_of_range() {
+            final VehicleTileService vehicleTileService = getVehicleTileService(0L);
+
+            assertThatThrownBy(() -> vehicleTileService.getTile(ZOOM, -1, 0))
+                .isInstanceOf(InvalidTileException.class);
+            assertThatThrownBy(() -> vehicleTileService.getTile(ZOOM, NUM_TILES, 0))
+                .isInstanceOf(InvalidTileException.class);
+            assertThatThrownBy(() -> vehicleTileService.getTile(ZOOM, 0, -1))
+                .isInstanceOf(InvalidTileException.class);
+            assertThatThrownBy(() -> vehicleTileService.getTile(ZOOM, 0, NUM_TILES))
+                .isInstanceOf(InvalidTileException.class);
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.tadah.driving.configs;
 import com.tadah.driving.applications.DrivingService;
 import com.tadah.driving.domains.entities.Driving;
 import com.tadah.driving.domains.repositories.infra.JpaDrivingRepository;
+import com.tadah.driving.domains.repositories.infra.JpaDrivingSequenceRepository;
 import com.tadah.driving.dtos.DrivingDataProto;
+import com.tadah.driving.utils.KeyedExecutor;
+import com.tadah.driving.utils.VehiclePositionIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,8 +22,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.integration.aws.inbound.kinesis.Checkpointer;
+import org.springframework.integration.aws.support.AwsHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -30,6 +38,8 @@ import static com.tadah.driving.domains.entities.DrivingTest.LONGITUDE;
 import static com.tadah.driving.domains.entities.DrivingTest.POINT;
 import static com.tadah.driving.domains.entities.DrivingTest.USER_ID;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest
 @ExtendWith(SpringExtension.class)
@@ -38,6 +48,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public class KinesisConsumerConfigurationTest {
     private static final Driving DRIVING = new Driving(USER_ID, POINT);
+    private static final long SEQUENCE_STEP = 100L;
     private static final DrivingDataProto.DrivingData START_REQUEST = DrivingDataProto.DrivingData.newBuilder()
         .setUserId(USER_ID)
         .setLatitude(LATITUDE)
@@ -63,19 +74,49 @@ public class KinesisConsumerConfigurationTest {
     @Autowired
     private JpaDrivingRepository jpaDrivingRepository;
 
+    @Autowired
+    private JpaDrivingSequenceRepository jpaDrivingSequenceRepository;
+
+    @Autowired
+    private KeyedExecutor keyedExecutor;
+
+    @Autowired
+    private VehiclePositionIndex vehiclePositionIndex;
+
     @SpyBean
     private KinesisConsumerConfiguration kinesisConsumerConfiguration;
 
     private Consumer<DrivingDataProto.DrivingData> kinesisConsumer;
+    private Consumer<List<DrivingDataProto.DrivingData>> kinesisBatchConsumer;
+    private Consumer<Message<DrivingDataProto.DrivingData>> kinesisParallelConsumer;
+    private long sequenceBase;
 
     @BeforeAll
     private void beforeAll() {
+        // 이전에 실행한 테스트가 저장한 sequence보다 작은 요청이 걸러지지 않도록 지운다
+        jpaDrivingSequenceRepository.deleteAll();
         kinesisConsumer = kinesisConsumerConfiguration.processDriving();
+        kinesisBatchConsumer = kinesisConsumerConfiguration.processDrivingBatch();
+        kinesisParallelConsumer = kinesisConsumerConfiguration.processDrivingParallel();
     }
 
     @AfterEach
     private void afterEach() {
         jpaDrivingRepository.deleteAll();
+        vehiclePositionIndex.remove(USER_ID);
+        sequenceBase += SEQUENCE_STEP;
+    }
+
+    private DrivingDataProto.DrivingData sequenced(final DrivingDataProto.DrivingData drivingData, final long sequence) {
+        return drivingData.toBuilder()
+            .setSequence(sequenceBase + sequence)
+            .build();
+    }
+
+    private boolean isIndexed() {
+        return vehiclePositionIndex.nearest(AFTER_MAP_MATCH, 1, 1D)
+            .stream()
+            .anyMatch(position -> position.getUserId() == USER_ID);
     }
 
     @Nested
@@ -110,6 +151,8 @@ public class KinesisConsumerConfigurationTest {
                         .get()
                         .matches(Driving::isDriving)
                         .matches(driving -> driving.getPath().getEndPosition().equals(AFTER_MAP_MATCH.getPosition()));
+                    assertThat(isIndexed())
+                        .isTrue();
                 }
             }
         }
@@ -156,10 +199,30 @@ public class KinesisConsumerConfigurationTest {
                         .matches(driving -> driving.isDriving() == isDriving)
                         .matches(driving -> !driving.getPath().getEndPosition().equals(POINT.getPosition()))
                         .matches(driving -> driving.getPath().getEndPosition().equals(AFTER_MAP_MATCH.getPosition()));
+                    assertThat(isIndexed())
+                        .isEqualTo(isDriving);
                 }
             }
         }
 
+        @Nested
+        @DisplayName("이미 처리한 sequence보다 작은 요청이 들어오면")
+        public final class Context_staleSequence {
+            @Test
+            @DisplayName("요청을 무시한다")
+            public void it_ignores_the_request() {
+                subject(sequenced(START_REQUEST, 2L));
+                subject(sequenced(STOP_REQUEST, 1L));
+
+                assertThat(drivingService.get(USER_ID))
+                    .isPresent()
+                    .get()
+                    .matches(Driving::isDriving);
+                assertThat(isIndexed())
+                    .isTrue();
+            }
+        }
+
         @Nested
         @DisplayName("전송한 위치정보의 좌표계가 잘못된 경우")
         public final class Context_invalidCoordinateSystem {
@@ -186,4 +249,131 @@ public class KinesisConsumerConfigurationTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("processDrivingBatch 메서드는")
+    public final class Describe_processDrivingBatch {
+        private void subject(final List<DrivingDataProto.DrivingData> drivingDataList) {
+            kinesisBatchConsumer.accept(drivingDataList);
+        }
+
+        @Nested
+        @DisplayName("운행 시작과 위치 정보 업데이트 요청이 함께 들어오면")
+        public final class Context_startAndUpdate {
+            @Test
+            @DisplayName("운행을 시작하고 위치 정보를 업데이트한다")
+            public void it_starts_and_updates_the_driving() {
+                subject(List.of(START_REQUEST, UPDATE_REQUEST, UPDATE_REQUEST));
+
+                assertThat(drivingService.get(USER_ID))
+                    .isPresent()
+                    .get()
+                    .matches(Driving::isDriving)
+                    .matches(driving -> driving.getPath().getNumPositions() == 4)
+                    .matches(driving -> driving.getPath().getEndPosition().equals(AFTER_MAP_MATCH.getPosition()));
+                assertThat(isIndexed())
+                    .isTrue();
+            }
+        }
+
+        @Nested
+        @DisplayName("중복되거나 순서가 뒤바뀐 요청이 함께 들어오면")
+        public final class Context_duplicatedSequence {
+            @Test
+            @DisplayName("중복되거나 순서가 뒤바뀐 요청을 제외하고 처리한다")
+            public void it_skips_the_duplicated_or_stale_requests() {
+                subject(List.of(
+                    sequenced(START_REQUEST, 1L),
+                    sequenced(UPDATE_REQUEST, 3L),
+                    sequenced(UPDATE_REQUEST, 3L),
+                    sequenced(UPDATE_REQUEST, 2L)
+                ));
+
+                assertThat(drivingService.get(USER_ID))
+                    .isPresent()
+                    .get()
+                    .matches(Driving::isDriving)
+                    .matches(driving -> driving.getPath().getNumPositions() == 3);
+                assertThat(jpaDrivingSequenceRepository.findLastSequence(USER_ID))
+                    .hasValue(sequenceBase + 3L);
+            }
+        }
+
+        @Nested
+        @DisplayName("운행 종료 요청이 함께 들어오면")
+        public final class Context_stop {
+            @Test
+            @DisplayName("위치 정보를 업데이트하고 운행을 종료한다")
+            public void it_updates_and_stops_the_driving() {
+                final Long id = drivingService.start(DRIVING).getId();
+
+                subject(List.of(UPDATE_REQUEST, STOP_REQUEST));
+
+                assertThat(jpaDrivingRepository.findById(id))
+                    .isPresent()
+                    .get()
+                    .matches(driving -> !driving.isDriving())
+                    .matches(driving -> driving.getPath().getNumPositions() == 4)
+                    .matches(driving -> driving.getPath().getEndPosition().equals(AFTER_MAP_MATCH.getPosition()));
+                assertThat(isIndexed())
+                    .isFalse();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("processDrivingParallel 메서드는")
+    public final class Describe_processDrivingParallel {
+        private void subject(final Message<DrivingDataProto.DrivingData> message) {
+            kinesisParallelConsumer.accept(message);
+        }
+
+        private Message<DrivingDataProto.DrivingData> getMessage(
+            final DrivingDataProto.DrivingData drivingData, final Checkpointer checkpointer, final String sequenceNumber
+        ) {
+            return MessageBuilder.withPayload(drivingData)
+                .setHeader(AwsHeaders.CHECKPOINTER, checkpointer)
+                .setHeader(AwsHeaders.RECEIVED_SEQUENCE_NUMBER, sequenceNumber)
+                .build();
+        }
+
+        private void await() {
+            keyedExecutor.submit(USER_ID, () -> { }).join();
+        }
+
+        @Nested
+        @DisplayName("수동 체크포인트를 사용하는 경우")
+        public final class Context_manualCheckpoint {
+            @Test
+            @DisplayName("드라이버의 레코드를 순서대로 처리하고 처리가 끝난 레코드까지 체크포인트를 저장한다")
+            public void it_processes_in_order_and_checkpoints() {
+                final Checkpointer checkpointer = mock(Checkpointer.class);
+
+                subject(getMessage(START_REQUEST, checkpointer, "1"));
+                subject(getMessage(UPDATE_REQUEST, checkpointer, "2"));
+                await();
+
+                assertThat(drivingService.get(USER_ID))
+                    .isPresent()
+                    .get()
+                    .matches(Driving::isDriving)
+                    .matches(driving -> driving.getPath().getEndPosition().equals(AFTER_MAP_MATCH.getPosition()));
+                verify(checkpointer).checkpoint("2");
+            }
+        }
+
+        @Nested
+        @DisplayName("체크포인트를 사용하지 않는 경우")
+        public final class Context_noCheckpoint {
+            @Test
+            @DisplayName("드라이버의 레코드를 처리한다")
+            public void it_processes_the_record() {
+                subject(MessageBuilder.withPayload(START_REQUEST).build());
+                await();
+
+                assertThat(drivingService.get(USER_ID))
+                    .isPresent();
+            }
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package com.tadah.driving.controllers;
+
+import com.tadah.driving.exceptions.InvalidApiKeyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("VehicleApiKeyInterceptor 클래스")
+public final class VehicleApiKeyInterceptorTest {
+    private static final String API_KEY = "api-key";
+
+    private static boolean subject(final String apiKey, final String authorization) {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return new VehicleApiKeyInterceptor(apiKey).preHandle(request, new MockHttpServletResponse(), new Object());
+    }
+
+    @Nested
+    @DisplayName("preHandle 메서드는")
+    public final class Describe_preHandle {
+        @Test
+        @DisplayName("API 키가 같은 경우 요청을 허용한다")
+        public void it_allows_a_valid_api_key() {
+            assertThat(subject(API_KEY, "Bearer " + API_KEY))
+                .isTrue();
+        }
+
+        @Test
+        @DisplayName("API 키가 다른 경우 예외를 던진다")
+        public void it_rejects_an_invalid_api_key() {
+            assertThatThrownBy(() -> subject(API_KEY, "Bearer invalid"))
+                .isInstanceOf(InvalidApiKeyException.class);
+        }
+
+        @Test
+        @DisplayName("Bearer 형식이 아닌 경우 예외를 던진다")
+        public void it_rejects_a_malformed_header() {
+            assertThatThrownBy(() -> subject(API_KEY, API_KEY))
+                .isInstanceOf(InvalidApiKeyException.class);
+        }
+
+        @Test
+        @DisplayName("API 키가 없는 경우 예외를 던진다")
+        public void it_rejects_a_missing_header() {
+            assertThatThrownBy(() -> subject(API_KEY, null))
+                .isInstanceOf(InvalidApiKeyException.class);
+        }
+
+        @Test
+        @DisplayName("API 키가 설정되지 않은 경우 모든 요청을 거절한다")
+        public void it_rejects_every_request_without_a_configured_key() {
+            assertThatThrownBy(() -> subject("", "Bearer "))
+                .isInstanceOf(InvalidApiKeyException.class);
+        }
+    }
+}
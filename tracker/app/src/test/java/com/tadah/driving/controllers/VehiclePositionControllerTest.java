@@ -0,0 +1,126 @@
+package com.tadah.driving.controllers;
+
+import com.tadah.driving.utils.VehiclePositionIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static com.tadah.driving.applications.VehicleTileServiceTest.TILE_X;
+import static com.tadah.driving.applications.VehicleTileServiceTest.TILE_Y;
+import static com.tadah.driving.applications.VehicleTileServiceTest.ZOOM;
+import static com.tadah.driving.domains.entities.DrivingTest.BEFORE_MAP_MATCH;
+import static com.tadah.driving.domains.entities.DrivingTest.LATITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.LONGITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.USER_ID;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "tracker.vehicle-api.key=" + VehiclePositionControllerTest.API_KEY)
+@AutoConfigureMockMvc
+@DisplayName("VehiclePositionController 클래스")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class VehiclePositionControllerTest {
+    public static final String API_KEY = "api-key";
+    private static final String AUTHORIZATION = "Bearer " + API_KEY;
+    private static final String NEAREST_URL = "/vehicles/nearest";
+    private static final String TILE_URL = "/vehicles/tiles/{z}/{x}/{y}.mvt";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VehiclePositionIndex vehiclePositionIndex;
+
+    @AfterEach
+    private void afterEach() {
+        vehiclePositionIndex.remove(USER_ID);
+    }
+
+    @Nested
+    @DisplayName("nearest 메서드는")
+    public final class Describe_nearest {
+        private ResultActions subject(final String count) throws Exception {
+            return subject(LATITUDE.toString(), count, AUTHORIZATION);
+        }
+
+        private ResultActions subject(final String latitude, final String count, final String authorization) throws Exception {
+            return mockMvc.perform(get(NEAREST_URL)
+                .header("Authorization", authorization)
+                .param("latitude", latitude)
+                .param("longitude", LONGITUDE.toString())
+                .param("count", count));
+        }
+
+        @Test
+        @DisplayName("가까운 드라이버의 위치를 리턴한다")
+        public void it_returns_the_nearest_positions() throws Exception {
+            vehiclePositionIndex.update(USER_ID, BEFORE_MAP_MATCH);
+
+            subject("1")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].userId").value(USER_ID));
+        }
+
+        @Test
+        @DisplayName("찾을 드라이버의 수가 범위를 벗어난 경우 요청을 거절한다")
+        public void it_rejects_an_invalid_count() throws Exception {
+            subject("0")
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("위도가 범위를 벗어난 경우 요청을 거절한다")
+        public void it_rejects_an_invalid_latitude() throws Exception {
+            subject("91", "1", AUTHORIZATION)
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("API 키가 유효하지 않은 경우 요청을 거절한다")
+        public void it_rejects_an_invalid_api_key() throws Exception {
+            subject(LATITUDE.toString(), "1", "Bearer invalid")
+                .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("tile 메서드는")
+    public final class Describe_tile {
+        private ResultActions subject(final int z) throws Exception {
+            return mockMvc.perform(get(TILE_URL, z, TILE_X, TILE_Y)
+                .header("Authorization", AUTHORIZATION));
+        }
+
+        @Test
+        @DisplayName("타일을 Mapbox Vector Tile로 리턴한다")
+        public void it_returns_the_vector_tile() throws Exception {
+            subject(ZOOM)
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(VehiclePositionController.MVT_VALUE));
+        }
+
+        @Test
+        @DisplayName("타일 좌표가 유효하지 않은 경우 요청을 거절한다")
+        public void it_rejects_an_invalid_tile() throws Exception {
+            subject(0)
+                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("API 키가 없는 경우 요청을 거절한다")
+        public void it_rejects_a_request_without_api_key() throws Exception {
+            mockMvc.perform(get(TILE_URL, ZOOM, TILE_X, TILE_Y))
+                .andExpect(status().isUnauthorized());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.tadah.driving.domains.repositories;
 import com.tadah.driving.domains.entities.Driving;
 import com.tadah.driving.domains.repositories.infra.JpaDrivingRepository;
 import com.tadah.driving.dtos.PointData;
+import org.geolatte.geom.Geometries;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -94,6 +96,8 @@ public class DrivingRepositoryTest {
         public final class Context_stopDriving {
             @BeforeAll
             private void beforeAll() {
+                // 공유하는 DRIVING 인스턴스의 운행 상태가 바뀌지 않도록 저장된 운행정보를 다시 조회하여 종료한다
+                driving = jpaDrivingRepository.findById(driving.getId()).orElseThrow();
                 driving.stopDriving();
                 drivingRepository.save(driving);
             }
@@ -145,6 +149,135 @@ public class DrivingRepositoryTest {
                 .matches(driving -> driving.isDriving() == isDriving)
                 .matches(driving -> driving.getPath().getEndPosition().equals(POINT.getPosition()));
         }
+
+        @Nested
+        @DisplayName("종료된 운행정보인 경우")
+        @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+        public final class Context_stopDriving {
+            private Driving stoppedDriving;
+
+            @BeforeAll
+            private void beforeAll() {
+                stoppedDriving = new Driving(USER_ID, AFTER_MAP_MATCH);
+                stoppedDriving.stopDriving();
+                stoppedDriving = drivingRepository.save(stoppedDriving);
+            }
+
+            @Test
+            @DisplayName("운행정보를 업데이트하지 않는다.")
+            public void it_does_not_update_the_driving() {
+                assertThat(drivingRepository.update(stoppedDriving.getId(), POINT, true))
+                    .isZero();
+
+                assertThat(jpaDrivingRepository.findById(stoppedDriving.getId()))
+                    .isPresent()
+                    .get()
+                    .matches(driving -> !driving.isDriving())
+                    .matches(driving -> driving.getPath().getEndPosition().equals(AFTER_MAP_MATCH.getPosition()));
+            }
+
+            @Test
+            @DisplayName("위치를 저장하지 않는다.")
+            public void it_does_not_insert_the_point() {
+                assertThat(drivingRepository.insertPoint(stoppedDriving.getId(), POINT))
+                    .isZero();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("appendAll 메서드는")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    public final class Describe_appendAll {
+        private Driving driving;
+
+        private void subject(final boolean isDriving) {
+            drivingRepository.appendAll(driving.getId(), Geometries.mkMultiPoint(List.of(BEFORE_MAP_MATCH, POINT)), isDriving);
+        }
+
+        private Stream<Arguments> methodSource() {
+            return Stream.of(
+                Arguments.of(true),
+                Arguments.of(false));
+        }
+
+        @BeforeAll
+        private void beforeAll() {
+            driving = new Describe_save().subject();
+        }
+
+        @AfterAll
+        private void afterAll() {
+            jpaDrivingRepository.deleteAll();
+        }
+
+        @MethodSource("methodSource")
+        @DisplayName("여러 위치정보를 한 번에 업데이트한다")
+        @ParameterizedTest(name = "isDriving : \"{0}\"")
+        public void it_appends_the_location_data(final boolean isDriving) {
+            final int numPoints = jpaDrivingRepository.findById(driving.getId()).orElseThrow().getPath().getNumPositions();
+
+            subject(isDriving);
+
+            assertThat(jpaDrivingRepository.findById(driving.getId()))
+                .isPresent()
+                .get()
+                .matches(driving -> driving.isDriving() == isDriving)
+                .matches(driving -> driving.getPath().getNumPositions() == numPoints + 2)
+                .matches(driving -> driving.getPath().getEndPosition().equals(POINT.getPosition()));
+        }
+    }
+
+    @Nested
+    @DisplayName("materialize 메서드는")
+    @TestInstance(TestInstance.Lifecycle.PER_CLASS)
+    public final class Describe_materialize {
+        private Driving driving;
+
+        private void subject() {
+            drivingRepository.materialize(driving.getId(), false);
+        }
+
+        @BeforeAll
+        private void beforeAll() {
+            driving = new Describe_save().subject();
+        }
+
+        @AfterAll
+        private void afterAll() {
+            jpaDrivingRepository.deleteAll();
+        }
+
+        @Test
+        @DisplayName("별도로 저장한 위치를 순서대로 경로에 이어 붙인다")
+        public void it_appends_the_stored_points_in_order() {
+            final int numPoints = jpaDrivingRepository.findById(driving.getId()).orElseThrow().getPath().getNumPositions();
+            drivingRepository.insertPoints(driving.getId(), Geometries.mkMultiPoint(List.of(BEFORE_MAP_MATCH, AFTER_MAP_MATCH)));
+            drivingRepository.insertPoint(driving.getId(), POINT);
+
+            subject();
+
+            assertThat(jpaDrivingRepository.findById(driving.getId()))
+                .isPresent()
+                .get()
+                .matches(driving -> !driving.isDriving())
+                .matches(driving -> driving.getPath().getNumPositions() == numPoints + 3)
+                .matches(driving -> driving.getPath().getPositionN(numPoints).equals(BEFORE_MAP_MATCH.getPosition()))
+                .matches(driving -> driving.getPath().getEndPosition().equals(POINT.getPosition()));
+        }
+
+        @Test
+        @DisplayName("별도로 저장한 위치가 없는 경우 경로를 유지한다")
+        public void it_keeps_the_path_if_no_points_are_stored() {
+            final int numPoints = jpaDrivingRepository.findById(driving.getId()).orElseThrow().getPath().getNumPositions();
+
+            subject();
+
+            assertThat(jpaDrivingRepository.findById(driving.getId()))
+                .isPresent()
+                .get()
+                .matches(driving -> driving.getPath().getNumPositions() == numPoints);
+        }
     }
 
     @Nested
@@ -161,4 +294,20 @@ public class DrivingRepositoryTest {
                 .matches(pointData -> pointData.getPoint().equals(AFTER_MAP_MATCH));
         }
     }
+
+    @Nested
+    @DisplayName("findAllEdges 메서드는")
+    public final class Describe_findAllEdges {
+        private List<String> subject() {
+            return drivingRepository.findAllEdges();
+        }
+
+        @Test
+        @DisplayName("도로 정보를 모두 조회한다.")
+        public void it_finds_all_edges() {
+            assertThat(subject())
+                .isNotEmpty()
+                .allMatch(edge -> edge.contains("LINESTRING"));
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package com.tadah.driving.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CheckpointTracker 클래스")
+public final class CheckpointTrackerTest {
+    private List<String> checkpoints;
+    private CheckpointTracker checkpointTracker;
+
+    @BeforeEach
+    private void beforeEach() {
+        checkpoints = new ArrayList<>();
+        checkpointTracker = new CheckpointTracker(checkpoints::add);
+    }
+
+    @Nested
+    @DisplayName("complete 메서드는")
+    public final class Describe_complete {
+        @Test
+        @DisplayName("앞선 레코드가 처리되지 않은 경우 체크포인트를 저장하지 않는다")
+        public void it_does_not_checkpoint_past_pending_records() {
+            checkpointTracker.register("1");
+            final CheckpointTracker.Record second = checkpointTracker.register("2");
+
+            checkpointTracker.complete(second);
+
+            assertThat(checkpoints).isEmpty();
+            assertThat(checkpointTracker.getCheckpoint()).isNull();
+            assertThat(checkpointTracker.getPendingCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("처리가 끝난 마지막 레코드까지 체크포인트를 저장한다")
+        public void it_checkpoints_the_last_contiguous_record() {
+            final CheckpointTracker.Record first = checkpointTracker.register("1");
+            final CheckpointTracker.Record second = checkpointTracker.register("2");
+            checkpointTracker.register("3");
+
+            checkpointTracker.complete(second);
+            checkpointTracker.complete(first);
+
+            assertThat(checkpoints).containsExactly("2");
+            assertThat(checkpointTracker.getCheckpoint()).isEqualTo("2");
+            assertThat(checkpointTracker.getPendingCount()).isEqualTo(1);
+        }
+    }
+}
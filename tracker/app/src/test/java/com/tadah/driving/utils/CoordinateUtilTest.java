@@ -14,7 +14,7 @@ import static com.tadah.driving.domains.entities.DrivingTest.LATITUDE;
 import static com.tadah.driving.domains.entities.DrivingTest.LONGITUDE;
 import static com.tadah.driving.domains.entities.DrivingTest.X;
 import static com.tadah.driving.domains.entities.DrivingTest.Y;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("CoordinateUtil 클래스")
 public final class CoordinateUtilTest {
@@ -40,6 +40,34 @@ public final class CoordinateUtilTest {
         }
     }
 
+    @Nested
+    @DisplayName("transform 메서드는")
+    public final class Describe_transform {
+        @Test
+        @DisplayName("GPS 데이터의 좌표계를 변환하여 배열에 저장한다")
+        public void it_stores_the_converted_coordinate_into_the_array() throws TransformException {
+            final double[] out = new double[2];
+
+            coordinateUtil.transform(LATITUDE, LONGITUDE, out);
+
+            assertThat(out[0])
+                .isEqualTo(X);
+            assertThat(out[1])
+                .isEqualTo(Y);
+        }
+
+        @Test
+        @DisplayName("여러 GPS 데이터의 좌표계를 한 번에 변환한다")
+        public void it_converts_the_coordinate_system_of_multiple_gps_data() throws TransformException {
+            final double[] coordinates = new double[] {LATITUDE, LONGITUDE, LATITUDE, LONGITUDE};
+
+            coordinateUtil.transform(coordinates, coordinates, 2);
+
+            assertThat(coordinates)
+                .containsExactly(X, Y, X, Y);
+        }
+    }
+
     @Nested
     @DisplayName("toGps 메서드는")
     public final class Describe_toGps {
@@ -0,0 +1,249 @@
+package com.tadah.driving.utils;
+
+import com.tadah.driving.dtos.DrivingDataProto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static com.tadah.driving.domains.entities.DrivingTest.LATITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.LONGITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DrivingSequenceFilter 클래스")
+public final class DrivingSequenceFilterTest {
+    private static final int SEGMENTS = 4;
+    private static final long SEQUENCE = 10L;
+    private static final DrivingDataProto.DrivingData DRIVING_DATA = DrivingDataProto.DrivingData.newBuilder()
+        .setUserId(USER_ID)
+        .setLatitude(LATITUDE)
+        .setLongitude(LONGITUDE)
+        .setDrivingStatus(DrivingDataProto.DrivingStatus.DRIVING)
+        .build();
+
+    private DrivingSequenceFilter drivingSequenceFilter;
+
+    private static final class FakeStore implements DrivingSequenceFilter.Store {
+        private final LongLongHashMap sequences = new LongLongHashMap();
+        private volatile boolean failing;
+        private Runnable onFind;
+        private Runnable onSave;
+
+        private static void runOnce(final Runnable runnable) {
+            if (runnable != null) {
+                runnable.run();
+            }
+        }
+
+        @Override
+        public OptionalLong find(final long userId) {
+            final Runnable runnable = onFind;
+            onFind = null;
+            runOnce(runnable);
+            synchronized (sequences) {
+                return sequences.containsKey(userId) ? OptionalLong.of(sequences.get(userId, 0L)) : OptionalLong.empty();
+            }
+        }
+
+        @Override
+        public void save(final long userId, final long sequence) {
+            final Runnable runnable = onSave;
+            onSave = null;
+            runOnce(runnable);
+            if (failing) {
+                throw new IllegalStateException();
+            }
+            synchronized (sequences) {
+                sequences.put(userId, Math.max(sequences.get(userId, sequence), sequence));
+            }
+        }
+    }
+
+    @BeforeEach
+    private void beforeEach() {
+        drivingSequenceFilter = new DrivingSequenceFilter(SEGMENTS);
+    }
+
+    @Nested
+    @DisplayName("accept 메서드는")
+    public final class Describe_accept {
+        private boolean subject(final long sequence) {
+            return drivingSequenceFilter.accept(DRIVING_DATA.toBuilder()
+                .setSequence(sequence)
+                .build());
+        }
+
+        @Test
+        @DisplayName("sequence가 없는 메시지는 항상 처리한다")
+        public void it_accepts_the_message_without_sequence() {
+            subject(SEQUENCE);
+
+            assertThat(drivingSequenceFilter.accept(DRIVING_DATA))
+                .isTrue();
+            assertThat(drivingSequenceFilter.accept(DRIVING_DATA))
+                .isTrue();
+        }
+
+        @Test
+        @DisplayName("이전보다 큰 sequence는 처리한다")
+        public void it_accepts_the_newer_sequence() {
+            assertThat(subject(SEQUENCE))
+                .isTrue();
+            assertThat(subject(SEQUENCE + 1))
+                .isTrue();
+            assertThat(drivingSequenceFilter.getDroppedCount())
+                .isZero();
+        }
+
+        @Test
+        @DisplayName("중복되거나 이전보다 작은 sequence는 걸러낸다")
+        public void it_drops_the_duplicated_or_stale_sequence() {
+            subject(SEQUENCE);
+
+            assertThat(subject(SEQUENCE))
+                .isFalse();
+            assertThat(subject(SEQUENCE - 1))
+                .isFalse();
+            assertThat(drivingSequenceFilter.getDroppedCount())
+                .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("드라이버별로 sequence를 비교한다")
+        public void it_compares_the_sequence_per_driver() {
+            subject(SEQUENCE);
+
+            assertThat(drivingSequenceFilter.accept(USER_ID + 1, SEQUENCE - 1))
+                .isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("저장소를 지정한 경우")
+    public final class Context_store {
+        private FakeStore store;
+
+        @BeforeEach
+        private void beforeEach() {
+            store = new FakeStore();
+            drivingSequenceFilter = new DrivingSequenceFilter(SEGMENTS, store, 0L);
+        }
+
+        @Test
+        @DisplayName("처음 보는 드라이버는 저장된 sequence와 비교한다")
+        public void it_compares_with_the_stored_sequence() {
+            store.save(USER_ID, SEQUENCE);
+
+            assertThat(drivingSequenceFilter.accept(USER_ID, SEQUENCE))
+                .isFalse();
+            assertThat(drivingSequenceFilter.accept(USER_ID, SEQUENCE + 1))
+                .isTrue();
+        }
+
+        @Test
+        @DisplayName("flush하면 바뀐 sequence를 저장한다")
+        public void it_saves_the_changed_sequence_on_flush() {
+            drivingSequenceFilter.accept(USER_ID, SEQUENCE);
+
+            assertThat(store.find(USER_ID))
+                .isEmpty();
+
+            drivingSequenceFilter.flush();
+
+            assertThat(store.find(USER_ID))
+                .hasValue(SEQUENCE);
+            assertThat(new DrivingSequenceFilter(SEGMENTS, store, 0L).accept(USER_ID, SEQUENCE))
+                .isFalse();
+        }
+
+        @Test
+        @DisplayName("저장에 실패하면 다음 flush에서 다시 저장한다")
+        public void it_retries_the_failed_save() {
+            drivingSequenceFilter.accept(USER_ID, SEQUENCE);
+            store.failing = true;
+
+            drivingSequenceFilter.flush();
+
+            assertThat(drivingSequenceFilter.getFailedSaveCount())
+                .isEqualTo(1);
+
+            store.failing = false;
+            drivingSequenceFilter.flush();
+
+            assertThat(store.find(USER_ID))
+                .hasValue(SEQUENCE);
+        }
+
+        @Test
+        @DisplayName("저장소를 조회하는 동안 더 큰 sequence가 처리되면 더 큰 sequence와 비교한다")
+        public void it_compares_with_the_sequence_accepted_while_finding() {
+            store.save(USER_ID, SEQUENCE);
+            store.onFind = () -> drivingSequenceFilter.accept(USER_ID, SEQUENCE + 2);
+
+            assertThat(drivingSequenceFilter.accept(USER_ID, SEQUENCE + 1))
+                .isFalse();
+        }
+
+        @Test
+        @DisplayName("저장에 실패하는 동안 더 큰 sequence가 처리되면 더 큰 sequence를 저장한다")
+        public void it_keeps_the_newer_sequence_after_the_failed_save() {
+            drivingSequenceFilter.accept(USER_ID, SEQUENCE);
+            store.failing = true;
+            store.onSave = () -> drivingSequenceFilter.accept(USER_ID, SEQUENCE + 1);
+
+            drivingSequenceFilter.flush();
+            store.failing = false;
+            drivingSequenceFilter.flush();
+
+            assertThat(store.find(USER_ID))
+                .hasValue(SEQUENCE + 1);
+        }
+
+        @Test
+        @DisplayName("close하면 바뀐 sequence를 저장한다")
+        public void it_saves_the_changed_sequence_on_close() {
+            drivingSequenceFilter.accept(USER_ID, SEQUENCE);
+
+            drivingSequenceFilter.close();
+
+            assertThat(store.find(USER_ID))
+                .hasValue(SEQUENCE);
+        }
+
+        @Test
+        @DisplayName("flush-interval-millis가 설정되면 주기적으로 저장한다")
+        public void it_saves_periodically() throws InterruptedException {
+            final DrivingSequenceFilter scheduledFilter = new DrivingSequenceFilter(SEGMENTS, store, 10L);
+            scheduledFilter.accept(USER_ID, SEQUENCE);
+
+            for (int i = 0; i < 100 && store.find(USER_ID).isEmpty(); i++) {
+                Thread.sleep(10L);
+            }
+            scheduledFilter.close();
+
+            assertThat(store.find(USER_ID))
+                .hasValue(SEQUENCE);
+        }
+    }
+
+    @Nested
+    @DisplayName("저장소를 지정하지 않은 경우")
+    public final class Context_withoutStore {
+        @Test
+        @DisplayName("flush와 close는 아무것도 하지 않는다")
+        public void it_does_nothing_on_flush() {
+            drivingSequenceFilter.accept(USER_ID, SEQUENCE);
+
+            drivingSequenceFilter.flush();
+            drivingSequenceFilter.close();
+
+            assertThat(drivingSequenceFilter.accept(USER_ID, SEQUENCE))
+                .isFalse();
+            assertThat(drivingSequenceFilter.getFailedSaveCount())
+                .isZero();
+        }
+    }
+}
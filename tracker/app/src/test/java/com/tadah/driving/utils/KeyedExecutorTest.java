@@ -0,0 +1,162 @@
+package com.tadah.driving.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeyedExecutor 클래스")
+public final class KeyedExecutorTest {
+    private static final int LANES = 2;
+    private static final int LANE_CAPACITY = 1;
+    private static final long KEY = 1L;
+    private static final long OTHER_KEY = 2L;
+
+    private final KeyedExecutor keyedExecutor = new KeyedExecutor(LANES, LANE_CAPACITY);
+
+    @AfterEach
+    private void afterEach() throws InterruptedException {
+        keyedExecutor.close();
+        keyedExecutor.awaitTermination(1000L);
+    }
+
+    @Nested
+    @DisplayName("getLane 메서드는")
+    public final class Describe_getLane {
+        @Test
+        @DisplayName("키를 레인에 나누어 배정한다")
+        public void it_assigns_keys_to_lanes() {
+            assertThat(keyedExecutor.getLane(KEY))
+                .isNotEqualTo(keyedExecutor.getLane(OTHER_KEY));
+            assertThat(keyedExecutor.getLane(-KEY))
+                .isBetween(0, LANES - 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("submit 메서드는")
+    public final class Describe_submit {
+        @Test
+        @DisplayName("같은 키의 작업은 제출한 순서대로 실행한다")
+        public void it_keeps_the_order_of_the_same_key() {
+            final List<Integer> results = new CopyOnWriteArrayList<>();
+
+            final CompletableFuture<?>[] futures = IntStream.range(0, 10)
+                .mapToObj(index -> keyedExecutor.submit(KEY, () -> results.add(index)))
+                .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+
+            assertThat(results)
+                .containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        }
+
+        @Test
+        @DisplayName("다른 레인의 작업은 동시에 실행한다")
+        public void it_runs_other_lanes_concurrently() throws InterruptedException {
+            final CountDownLatch blocked = new CountDownLatch(1);
+            keyedExecutor.submit(KEY, () -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            keyedExecutor.submit(OTHER_KEY, () -> { }).join();
+            blocked.countDown();
+        }
+
+        @Test
+        @DisplayName("레인의 대기열이 가득 찬 경우 공간이 생길 때까지 기다린다")
+        public void it_waits_for_space() {
+            final CountDownLatch blocked = new CountDownLatch(1);
+            keyedExecutor.submit(KEY, () -> {
+                try {
+                    blocked.await(50L, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            keyedExecutor.submit(KEY, () -> { });
+
+            assertThat(keyedExecutor.submit(KEY, () -> { }).join())
+                .isNull();
+        }
+
+        @Test
+        @DisplayName("작업이 실패한 경우 예외로 완료된다")
+        public void it_completes_exceptionally_when_the_task_fails() {
+            final CompletableFuture<Void> future = keyedExecutor.submit(KEY, () -> {
+                throw new IllegalStateException();
+            });
+
+            assertThatThrownBy(future::join)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("종료된 경우 작업을 거절한다")
+        public void it_rejects_tasks_after_close() {
+            keyedExecutor.close();
+
+            assertThatThrownBy(() -> keyedExecutor.submit(KEY, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        }
+
+        @Test
+        @DisplayName("기다리는 도중 인터럽트된 경우 작업을 거절한다")
+        public void it_rejects_tasks_when_interrupted() {
+            final CountDownLatch blocked = new CountDownLatch(1);
+            keyedExecutor.submit(KEY, () -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            keyedExecutor.submit(KEY, () -> { });
+
+            Thread.currentThread().interrupt();
+            assertThatThrownBy(() -> keyedExecutor.submit(KEY, () -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+            assertThat(Thread.interrupted())
+                .isTrue();
+            blocked.countDown();
+        }
+    }
+
+    @Nested
+    @DisplayName("awaitTermination 메서드는")
+    public final class Describe_awaitTermination {
+        @Test
+        @DisplayName("시간 내에 종료되지 않은 경우 false를 리턴한다")
+        public void it_returns_false_when_lanes_are_running() throws InterruptedException {
+            final CountDownLatch blocked = new CountDownLatch(1);
+            keyedExecutor.submit(KEY, () -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            keyedExecutor.close();
+
+            assertThat(keyedExecutor.awaitTermination(10L))
+                .isFalse();
+            blocked.countDown();
+            assertThat(keyedExecutor.awaitTermination(1000L))
+                .isTrue();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.tadah.driving.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LongLongHashMap 클래스")
+public final class LongLongHashMapTest {
+    private static final long KEY = 1L;
+    private static final long VALUE = 10L;
+    private static final long DEFAULT_VALUE = -1L;
+    private static final int KEY_COUNT = 1000;
+
+    private LongLongHashMap map;
+
+    @BeforeEach
+    private void beforeEach() {
+        map = new LongLongHashMap(1);
+    }
+
+    private void putAll() {
+        for (long key = 0; key < KEY_COUNT; key++) {
+            map.put(key, key * 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("get 메서드는")
+    public final class Describe_get {
+        @Test
+        @DisplayName("저장된 값을 리턴한다")
+        public void it_returns_the_value() {
+            map.put(KEY, VALUE);
+
+            assertThat(map.get(KEY, DEFAULT_VALUE))
+                .isEqualTo(VALUE);
+            assertThat(map.containsKey(KEY))
+                .isTrue();
+        }
+
+        @Test
+        @DisplayName("키가 없으면 기본값을 리턴한다")
+        public void it_returns_the_default_value() {
+            assertThat(map.get(KEY, DEFAULT_VALUE))
+                .isEqualTo(DEFAULT_VALUE);
+            assertThat(map.containsKey(KEY))
+                .isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("put 메서드는")
+    public final class Describe_put {
+        @Test
+        @DisplayName("같은 키의 값을 덮어쓴다")
+        public void it_overwrites_the_value() {
+            map.put(KEY, VALUE);
+            map.put(KEY, VALUE + 1);
+
+            assertThat(map.get(KEY, DEFAULT_VALUE))
+                .isEqualTo(VALUE + 1);
+            assertThat(map.size())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("용량을 넘으면 용량을 늘려서 모든 값을 보존한다")
+        public void it_resizes_the_table() {
+            putAll();
+
+            assertThat(map.size())
+                .isEqualTo(KEY_COUNT);
+            for (long key = 0; key < KEY_COUNT; key++) {
+                assertThat(map.get(key, DEFAULT_VALUE))
+                    .isEqualTo(key * 2);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("remove 메서드는")
+    public final class Describe_remove {
+        @Test
+        @DisplayName("키가 없으면 false를 리턴한다")
+        public void it_returns_false() {
+            assertThat(map.remove(KEY))
+                .isFalse();
+        }
+
+        @Test
+        @DisplayName("키를 삭제해도 나머지 키를 찾을 수 있다")
+        public void it_keeps_the_other_keys() {
+            putAll();
+
+            for (long key = 0; key < KEY_COUNT; key += 2) {
+                assertThat(map.remove(key))
+                    .isTrue();
+            }
+
+            assertThat(map.size())
+                .isEqualTo(KEY_COUNT / 2);
+            for (long key = 0; key < KEY_COUNT; key++) {
+                assertThat(map.get(key, DEFAULT_VALUE))
+                    .isEqualTo(key % 2 == 0 ? DEFAULT_VALUE : key * 2);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("forEach 메서드는")
+    public final class Describe_forEach {
+        @Test
+        @DisplayName("저장된 모든 키와 값을 전달한다")
+        public void it_passes_all_entries() {
+            putAll();
+            final LongLongHashMap visited = new LongLongHashMap();
+
+            map.forEach(visited::put);
+
+            assertThat(visited.size())
+                .isEqualTo(KEY_COUNT);
+            for (long key = 0; key < KEY_COUNT; key++) {
+                assertThat(visited.get(key, DEFAULT_VALUE))
+                    .isEqualTo(key * 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.tadah.driving.utils;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.tadah.driving.dtos.DrivingDataProto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.tadah.driving.domains.entities.DrivingTest.LATITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.LONGITUDE;
+import static com.tadah.driving.domains.entities.DrivingTest.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProtobufMessageConverter 클래스")
+public final class ProtobufMessageConverterTest {
+    private static final String CONTENT_TYPE = "application/x-protobuf";
+    private static final Type LIST_TYPE = new ParameterizedTypeReference<List<DrivingDataProto.DrivingData>>() {
+    }.getType();
+    private static final DrivingDataProto.DrivingData START_REQUEST = DrivingDataProto.DrivingData.newBuilder()
+        .setUserId(USER_ID)
+        .setLatitude(LATITUDE)
+        .setLongitude(LONGITUDE)
+        .setDrivingStatus(DrivingDataProto.DrivingStatus.START)
+        .build();
+    private static final DrivingDataProto.DrivingData STOP_REQUEST = START_REQUEST.toBuilder()
+        .setDrivingStatus(DrivingDataProto.DrivingStatus.STOP)
+        .build();
+
+    private final ProtobufMessageConverter protobufMessageConverter = new ProtobufMessageConverter();
+
+    private static byte[] aggregate(final DrivingDataProto.DrivingData... drivingDataList) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(ProtobufMessageConverter.AGGREGATION_MAGIC);
+        final CodedOutputStream codedOutputStream = CodedOutputStream.newInstance(outputStream);
+        for (final DrivingDataProto.DrivingData drivingData : drivingDataList) {
+            codedOutputStream.writeMessage(ProtobufMessageConverter.AGGREGATION_FIELD_NUMBER, drivingData);
+        }
+        codedOutputStream.writeInt32(2, 0);
+        codedOutputStream.flush();
+        return outputStream.toByteArray();
+    }
+
+    private static Message<?> message(final Object payload) {
+        return MessageBuilder.withPayload(payload)
+            .setHeader(MessageHeaders.CONTENT_TYPE, CONTENT_TYPE)
+            .build();
+    }
+
+    @Nested
+    @DisplayName("getParser 메서드는")
+    public final class Describe_getParser {
+        @Test
+        @DisplayName("메시지 타입의 Parser를 캐싱하여 리턴한다")
+        public void it_returns_the_cached_parser() {
+            assertThat(ProtobufMessageConverter.getParser(DrivingDataProto.DrivingData.class))
+                .isSameAs(DrivingDataProto.DrivingData.parser())
+                .isSameAs(ProtobufMessageConverter.getParser(DrivingDataProto.DrivingData.class));
+        }
+
+        @Test
+        @DisplayName("메시지 타입이 아닌 경우 예외를 던진다")
+        public void it_throws_an_exception_for_an_unsupported_type() {
+            assertThatThrownBy(() -> ProtobufMessageConverter.getParser(String.class))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("parse 메서드는")
+    public final class Describe_parse {
+        private Object subject(final Object payload) {
+            return ProtobufMessageConverter.parse(DrivingDataProto.DrivingData.class, payload);
+        }
+
+        @Test
+        @DisplayName("ByteBuffer를 메시지로 변환한다")
+        public void it_parses_a_byte_buffer() {
+            assertThat(subject(ByteBuffer.wrap(START_REQUEST.toByteArray())))
+                .isEqualTo(START_REQUEST);
+        }
+
+        @Test
+        @DisplayName("CodedInputStream을 메시지로 변환한다")
+        public void it_parses_a_coded_input_stream() {
+            assertThat(subject(CodedInputStream.newInstance(START_REQUEST.toByteArray())))
+                .isEqualTo(START_REQUEST);
+        }
+
+        @Test
+        @DisplayName("잘못된 레코드인 경우 예외를 던진다")
+        public void it_throws_an_exception_for_an_invalid_input() {
+            assertThatThrownBy(() -> subject(new byte[0]))
+                .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 레코드 타입인 경우 예외를 던진다")
+        public void it_throws_an_exception_for_an_unsupported_input() {
+            assertThatThrownBy(() -> subject("input"))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("fromMessage 메서드는")
+    public final class Describe_fromMessage {
+        @Test
+        @DisplayName("레코드를 메시지로 변환한다")
+        public void it_converts_a_record() {
+            assertThat(protobufMessageConverter.fromMessage(message(START_REQUEST.toByteArray()), DrivingDataProto.DrivingData.class))
+                .isEqualTo(START_REQUEST);
+        }
+
+        @Nested
+        @DisplayName("List로 변환하는 경우")
+        public final class Context_listTarget {
+            @Test
+            @DisplayName("묶은 레코드를 풀어서 변환한다")
+            public void it_deaggregates_a_record() throws IOException {
+                assertThat(protobufMessageConverter.fromMessage(message(aggregate(START_REQUEST, STOP_REQUEST)), List.class, LIST_TYPE))
+                    .isEqualTo(List.of(START_REQUEST, STOP_REQUEST));
+            }
+
+            @Test
+            @DisplayName("레코드 목록의 묶은 레코드와 묶지 않은 레코드를 모두 변환한다")
+            public void it_flattens_a_batch_of_records() throws IOException {
+                final List<byte[]> records = List.of(aggregate(START_REQUEST), STOP_REQUEST.toByteArray());
+
+                assertThat(protobufMessageConverter.fromMessage(message(records), List.class, null))
+                    .isEqualTo(List.of(START_REQUEST, STOP_REQUEST));
+            }
+
+            @Test
+            @DisplayName("잘못된 묶은 레코드는 예외를 던진다")
+            public void it_throws_an_exception_for_an_invalid_record() throws IOException {
+                final byte[] record = aggregate(START_REQUEST);
+
+                assertThatThrownBy(() -> protobufMessageConverter.fromMessage(message(List.of(Arrays.copyOf(record, record.length - 3))), List.class, LIST_TYPE))
+                    .isInstanceOf(IllegalStateException.class);
+            }
+        }
+
+        @Nested
+        @DisplayName("묶은 레코드를 메시지로 변환하는 경우")
+        public final class Context_aggregatedRecord {
+            @Test
+            @DisplayName("예외를 던진다")
+            public void it_throws_an_exception() throws IOException {
+                final Message<?> message = message(aggregate(START_REQUEST));
+
+                assertThatThrownBy(() -> protobufMessageConverter.fromMessage(message, DrivingDataProto.DrivingData.class))
+                    .isInstanceOf(IllegalStateException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("toMessage 메서드는")
+    public final class Describe_toMessage {
+        @Test
+        @DisplayName("메시지를 레코드로 변환한다")
+        public void it_converts_a_message() {
+            final MessageHeaders headers = new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, CONTENT_TYPE));
+
+            assertThat(protobufMessageConverter.toMessage(START_REQUEST, headers))
+                .matches(message -> Arrays.equals((byte[]) message.getPayload(), START_REQUEST.toByteArray()));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.tadah.driving.utils;
+
+import com.tadah.driving.dtos.PointData;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Geometries;
+import org.geolatte.geom.crs.CrsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.io.ParseException;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RoadNetworkIndex 클래스")
+public final class RoadNetworkIndexTest {
+    private static final List<String> EDGES = List.of(
+        "LINESTRING(0 0, 100 0)",
+        "LINESTRING(0 100, 100 100)",
+        "MULTILINESTRING((200 0, 200 100), (300 0, 300 100))");
+
+    private final RoadNetworkIndex roadNetworkIndex;
+
+    public RoadNetworkIndexTest() throws ParseException {
+        roadNetworkIndex = RoadNetworkIndex.fromWkt(EDGES);
+    }
+
+    @Nested
+    @DisplayName("fromWkt 메서드는")
+    public final class Describe_fromWkt {
+        @Test
+        @DisplayName("도로 정보를 색인한다")
+        public void it_indexes_the_edges() {
+            assertThat(roadNetworkIndex.size())
+                .isEqualTo(EDGES.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("closestPoint 메서드는")
+    public final class Describe_closestPoint {
+        @Test
+        @DisplayName("가장 가까운 도로 위의 위치를 리턴한다")
+        public void it_returns_the_closest_point_on_the_nearest_edge() {
+            assertThat(roadNetworkIndex.closestPoint(50, 30))
+                .contains(new Coordinate(50, 0));
+            assertThat(roadNetworkIndex.closestPoint(50, 70))
+                .contains(new Coordinate(50, 100));
+            assertThat(roadNetworkIndex.closestPoint(290, 50))
+                .contains(new Coordinate(300, 50));
+        }
+    }
+
+    @Nested
+    @DisplayName("match 메서드는")
+    public final class Describe_match {
+        private PointData subject(final RoadNetworkIndex index) {
+            return index.match(Geometries.mkPoint(new C2D(50, 30), CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(5179)));
+        }
+
+        @Test
+        @DisplayName("맵매칭 수행 결과를 리턴한다")
+        public void it_returns_the_result_of_map_matching() {
+            assertThat(subject(roadNetworkIndex))
+                .matches(pointData -> pointData.getPoint().getPosition().getX() == 50)
+                .matches(pointData -> pointData.getPoint().getPosition().getY() == 0);
+        }
+
+        @Test
+        @DisplayName("색인된 도로가 없는 경우 예외를 던진다")
+        public void it_throws_an_exception_if_the_index_is_empty() {
+            assertThatThrownBy(() -> subject(new RoadNetworkIndex(Collections.emptyList())))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
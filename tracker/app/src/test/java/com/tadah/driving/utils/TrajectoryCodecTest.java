@@ -0,0 +1,130 @@
+package com.tadah.driving.utils;
+
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Geometries;
+import org.geolatte.geom.LineString;
+import org.geolatte.geom.PositionSequenceBuilder;
+import org.geolatte.geom.PositionSequenceBuilders;
+import org.geolatte.geom.crs.CrsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("TrajectoryCodec 클래스")
+public final class TrajectoryCodecTest {
+    private static final double[][] COORDINATES = {
+        {955000.123, 1950000.456},
+        {955010.5, 1950003.25},
+        {955008.01, 1949990.99}
+    };
+    private static final long[] TIMESTAMPS = {1_600_000_000_000L, 1_600_000_001_000L, 1_600_000_000_500L};
+    private static final LineString<C2D> PATH = getPath(COORDINATES);
+
+    private static LineString<C2D> getPath(final double[][] coordinates) {
+        final PositionSequenceBuilder<C2D> builder = PositionSequenceBuilders.fixedSized(coordinates.length, C2D.class);
+        Arrays.stream(coordinates).forEach(coordinate -> builder.add(coordinate[0], coordinate[1]));
+        return Geometries.mkLineString(builder.toPositionSequence(), CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(5179));
+    }
+
+    @Nested
+    @DisplayName("encode 메서드는")
+    public final class Describe_encode {
+        @Test
+        @DisplayName("좌표당 16바이트보다 작게 압축한다")
+        public void it_compresses_the_path() {
+            assertThat(TrajectoryCodec.encode(PATH))
+                .hasSizeLessThan(COORDINATES.length * 16);
+        }
+
+        @Test
+        @DisplayName("측정 시각의 개수가 좌표의 개수와 다른 경우 예외를 던진다")
+        public void it_throws_an_exception_if_timestamps_mismatch() {
+            assertThatThrownBy(() -> TrajectoryCodec.encode(PATH, new long[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("decode 메서드는")
+    public final class Describe_decode {
+        @Test
+        @DisplayName("압축된 경로를 cm 단위로 복원한다")
+        public void it_restores_the_path() {
+            final LineString<C2D> decoded = TrajectoryCodec.decode(TrajectoryCodec.encode(PATH, TIMESTAMPS));
+
+            assertThat(decoded.getNumPositions())
+                .isEqualTo(COORDINATES.length);
+            assertThat(decoded.getSRID())
+                .isEqualTo(5179);
+            for (int index = 0; index < COORDINATES.length; index++) {
+                assertThat(decoded.getPositionN(index).getX())
+                    .isCloseTo(COORDINATES[index][0], within(0.005));
+                assertThat(decoded.getPositionN(index).getY())
+                    .isCloseTo(COORDINATES[index][1], within(0.005));
+            }
+        }
+
+        @Test
+        @DisplayName("압축된 경로가 잘린 경우 예외를 던진다")
+        public void it_throws_an_exception_if_truncated() {
+            final byte[] encoded = TrajectoryCodec.encode(PATH);
+
+            assertThatThrownBy(() -> TrajectoryCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("varint가 잘못된 경우 예외를 던진다")
+        public void it_throws_an_exception_if_malformed() {
+            final byte[] malformed = new byte[11];
+            Arrays.fill(malformed, (byte) 0xFF);
+
+            assertThatThrownBy(() -> TrajectoryCodec.decode(malformed))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("좌표 개수가 남은 길이보다 많은 경우 예외를 던진다")
+        public void it_throws_an_exception_if_the_count_is_too_large() {
+            final byte[] oversized = new byte[] {0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x7F, 0, 0};
+
+            assertThatThrownBy(() -> TrajectoryCodec.decode(oversized))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("좌표 개수가 음수인 경우 예외를 던진다")
+        public void it_throws_an_exception_if_the_count_is_negative() {
+            final byte[] negative = new byte[11];
+            Arrays.fill(negative, 1, 10, (byte) 0xFF);
+            negative[10] = 0x01;
+
+            assertThatThrownBy(() -> TrajectoryCodec.decode(negative))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("decodeTimestamps 메서드는")
+    public final class Describe_decodeTimestamps {
+        @Test
+        @DisplayName("압축된 측정 시각을 복원한다")
+        public void it_restores_the_timestamps() {
+            assertThat(TrajectoryCodec.decodeTimestamps(TrajectoryCodec.encode(PATH, TIMESTAMPS)))
+                .containsExactly(TIMESTAMPS);
+        }
+
+        @Test
+        @DisplayName("측정 시각을 저장하지 않은 경우 빈 배열을 리턴한다")
+        public void it_returns_an_empty_array() {
+            assertThat(TrajectoryCodec.decodeTimestamps(TrajectoryCodec.encode(PATH)))
+                .isEmpty();
+        }
+    }
+}
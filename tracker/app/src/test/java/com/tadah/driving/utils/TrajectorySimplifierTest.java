@@ -0,0 +1,157 @@
+package com.tadah.driving.utils;
+
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Geometries;
+import org.geolatte.geom.Point;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CrsRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TrajectorySimplifier 클래스")
+public final class TrajectorySimplifierTest {
+    private static final CoordinateReferenceSystem<C2D> COORDINATE_REFERENCE_SYSTEM = CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(5179);
+    private static final Long KEY = 1L;
+    private static final double TOLERANCE_METERS = 10D;
+
+    private static Point<C2D> getPoint(final double x, final double y) {
+        return Geometries.mkPoint(new C2D(x, y), COORDINATE_REFERENCE_SYSTEM);
+    }
+
+    @Nested
+    @DisplayName("생성자는")
+    public final class Describe_constructor {
+        @Test
+        @DisplayName("보관할 위치의 최대 개수가 1보다 작으면 예외를 던진다")
+        public void it_throws_if_the_max_window_size_is_less_than_one() {
+            assertThatThrownBy(() -> new TrajectorySimplifier(TOLERANCE_METERS, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("distance 메서드는")
+    public final class Describe_distance {
+        @Test
+        @DisplayName("선분에서 위치까지의 거리를 계산한다")
+        public void it_calculates_the_distance_to_the_segment() {
+            assertThat(TrajectorySimplifier.distance(new C2D(0, 0), new C2D(100, 0), new C2D(50, 30)))
+                .isEqualTo(30D);
+            assertThat(TrajectorySimplifier.distance(new C2D(0, 0), new C2D(100, 0), new C2D(130, 40)))
+                .isEqualTo(50D);
+            assertThat(TrajectorySimplifier.distance(new C2D(0, 0), new C2D(0, 0), new C2D(30, 40)))
+                .isEqualTo(50D);
+        }
+    }
+
+    @Nested
+    @DisplayName("offer 메서드는")
+    public final class Describe_offer {
+        @Test
+        @DisplayName("기준점이 없는 경우 위치를 기준점으로 설정하고 리턴한다")
+        public void it_returns_the_first_point() {
+            final TrajectorySimplifier trajectorySimplifier = new TrajectorySimplifier(TOLERANCE_METERS, 60);
+
+            assertThat(trajectorySimplifier.offer(KEY, getPoint(0, 0)))
+                .contains(getPoint(0, 0));
+            assertThat(trajectorySimplifier.size())
+                .isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("허용 오차 이내의 위치는 리턴하지 않는다")
+        public void it_skips_points_within_the_tolerance() {
+            final TrajectorySimplifier trajectorySimplifier = new TrajectorySimplifier(TOLERANCE_METERS, 60);
+            trajectorySimplifier.start(KEY, getPoint(0, 0));
+
+            assertThat(trajectorySimplifier.offer(KEY, getPoint(100, 5)))
+                .isEmpty();
+            assertThat(trajectorySimplifier.offer(KEY, getPoint(200, 0)))
+                .isEmpty();
+        }
+
+        @Test
+        @DisplayName("허용 오차를 넘는 경우 직전 위치를 리턴한다")
+        public void it_returns_the_previous_point_when_the_tolerance_is_exceeded() {
+            final TrajectorySimplifier trajectorySimplifier = new TrajectorySimplifier(TOLERANCE_METERS, 60);
+            trajectorySimplifier.start(KEY, getPoint(0, 0));
+            trajectorySimplifier.offer(KEY, getPoint(100, 0));
+
+            assertThat(trajectorySimplifier.offer(KEY, getPoint(100, 100)))
+                .contains(getPoint(100, 0));
+        }
+
+        @Test
+        @DisplayName("보관한 위치가 최대 개수에 도달한 경우 직전 위치를 리턴한다")
+        public void it_returns_the_previous_point_when_the_window_is_full() {
+            final TrajectorySimplifier trajectorySimplifier = new TrajectorySimplifier(TOLERANCE_METERS, 1);
+            trajectorySimplifier.start(KEY, getPoint(0, 0));
+            trajectorySimplifier.offer(KEY, getPoint(100, 0));
+
+            assertThat(trajectorySimplifier.offer(KEY, getPoint(200, 0)))
+                .contains(getPoint(100, 0));
+        }
+
+        @Test
+        @DisplayName("허용 오차가 0 이하인 경우 모든 위치를 리턴한다")
+        public void it_returns_all_points_when_disabled() {
+            final TrajectorySimplifier trajectorySimplifier = new TrajectorySimplifier(0, 60);
+            trajectorySimplifier.start(KEY, getPoint(0, 0));
+
+            assertThat(trajectorySimplifier.offer(KEY, getPoint(100, 0)))
+                .contains(getPoint(100, 0));
+            assertThat(trajectorySimplifier.size())
+                .isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("stop 메서드는")
+    public final class Describe_stop {
+        @Test
+        @DisplayName("운행을 종료한 위치를 리턴하고 보관한 위치를 삭제한다")
+        public void it_returns_the_last_point() {
+            final TrajectorySimplifier trajectorySimplifier = new TrajectorySimplifier(TOLERANCE_METERS, 60);
+            trajectorySimplifier.start(KEY, getPoint(0, 0));
+            trajectorySimplifier.offer(KEY, getPoint(100, 0));
+
+            assertThat(trajectorySimplifier.stop(KEY, getPoint(200, 0)))
+                .containsExactly(getPoint(200, 0));
+            assertThat(trajectorySimplifier.size())
+                .isZero();
+        }
+
+        @Test
+        @DisplayName("허용 오차를 넘는 경우 직전 위치와 운행을 종료한 위치를 리턴한다")
+        public void it_returns_the_pending_and_last_points() {
+            final TrajectorySimplifier trajectorySimplifier = new TrajectorySimplifier(TOLERANCE_METERS, 60);
+            trajectorySimplifier.start(KEY, getPoint(0, 0));
+            trajectorySimplifier.offer(KEY, getPoint(100, 0));
+
+            assertThat(trajectorySimplifier.stop(KEY, getPoint(100, 100)))
+                .containsExactly(getPoint(100, 0), getPoint(100, 100));
+        }
+
+        @Test
+        @DisplayName("기준점이 없는 경우 운행을 종료한 위치만 리턴한다")
+        public void it_returns_only_the_last_point_without_a_window() {
+            final TrajectorySimplifier trajectorySimplifier = new TrajectorySimplifier(TOLERANCE_METERS, 60);
+
+            assertThat(trajectorySimplifier.stop(KEY, getPoint(0, 0)))
+                .containsExactly(getPoint(0, 0));
+        }
+
+        @Test
+        @DisplayName("허용 오차가 0 이하인 경우 운행을 종료한 위치만 리턴한다")
+        public void it_returns_only_the_last_point_when_disabled() {
+            final TrajectorySimplifier trajectorySimplifier = new TrajectorySimplifier(0, 60);
+
+            assertThat(trajectorySimplifier.stop(KEY, getPoint(0, 0)))
+                .containsExactly(getPoint(0, 0));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.tadah.driving.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VectorTileEncoder 클래스")
+public final class VectorTileEncoderTest {
+    private static final String LAYER_NAME = "v";
+    private static final int EXTENT = 4096;
+    private static final byte[] EMPTY_TILE = {
+        0x1A, 0x08,
+        0x78, 0x02,
+        0x0A, 0x01, 0x76,
+        0x28, (byte) 0x80, 0x20
+    };
+    private static final byte[] POINT_TILE = {
+        0x1A, 0x13,
+        0x78, 0x02,
+        0x0A, 0x01, 0x76,
+        0x12, 0x09, 0x08, 0x01, 0x18, 0x01, 0x22, 0x03, 0x09, 0x02, 0x04,
+        0x28, (byte) 0x80, 0x20
+    };
+
+    @Nested
+    @DisplayName("encode 메서드는")
+    public final class Describe_encode {
+        @Test
+        @DisplayName("점이 없는 경우 빈 레이어를 가진 타일을 인코딩한다")
+        public void it_encodes_an_empty_layer() {
+            final VectorTileEncoder vectorTileEncoder = new VectorTileEncoder(LAYER_NAME, EXTENT);
+
+            assertThat(vectorTileEncoder.encode())
+                .containsExactly(EMPTY_TILE);
+        }
+
+        @Test
+        @DisplayName("추가한 점을 feature로 인코딩한다")
+        public void it_encodes_the_points() {
+            final VectorTileEncoder vectorTileEncoder = new VectorTileEncoder(LAYER_NAME, EXTENT);
+
+            vectorTileEncoder.addPoint(1L, 1, 2);
+
+            assertThat(vectorTileEncoder.size())
+                .isEqualTo(1);
+            assertThat(vectorTileEncoder.encode())
+                .containsExactly(POINT_TILE);
+        }
+
+        @Test
+        @DisplayName("음수 좌표는 zig-zag로 인코딩한다")
+        public void it_encodes_negative_coordinates() {
+            final VectorTileEncoder vectorTileEncoder = new VectorTileEncoder(LAYER_NAME, EXTENT);
+
+            vectorTileEncoder.addPoint(300L, -1, 0);
+
+            assertThat(vectorTileEncoder.encode())
+                .containsSequence(0x08, 0xAC, 0x02)
+                .containsSequence(0x22, 0x03, 0x09, 0x01, 0x00);
+        }
+    }
+}
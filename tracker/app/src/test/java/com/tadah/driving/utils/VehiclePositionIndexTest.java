@@ -0,0 +1,235 @@
+package com.tadah.driving.utils;
+
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.Geometries;
+import org.geolatte.geom.Point;
+import org.geolatte.geom.crs.CoordinateReferenceSystem;
+import org.geolatte.geom.crs.CrsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VehiclePositionIndex 클래스")
+public final class VehiclePositionIndexTest {
+    private static final CoordinateReferenceSystem<C2D> COORDINATE_REFERENCE_SYSTEM = CrsRegistry.getProjectedCoordinateReferenceSystemForEPSG(5179);
+    private static final double CELL_SIZE_METERS = 100D;
+    private static final double MAX_DISTANCE_METERS = 1000D;
+    private static final long TTL_MILLIS = 1000L;
+
+    private VehiclePositionIndex vehiclePositionIndex;
+
+    private static Point<C2D> getPoint(final double x, final double y) {
+        return Geometries.mkPoint(new C2D(x, y), COORDINATE_REFERENCE_SYSTEM);
+    }
+
+    private static List<Long> getUserIds(final List<VehiclePositionIndex.Position> positions) {
+        return positions.stream()
+            .map(VehiclePositionIndex.Position::getUserId)
+            .collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    private void beforeEach() {
+        vehiclePositionIndex = new VehiclePositionIndex(CELL_SIZE_METERS, 4);
+    }
+
+    @Nested
+    @DisplayName("update 메서드는")
+    public final class Describe_update {
+        @Test
+        @DisplayName("드라이버의 위치를 저장한다")
+        public void it_stores_the_position() {
+            vehiclePositionIndex.update(1L, getPoint(10, 10));
+
+            assertThat(vehiclePositionIndex.size())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("다른 격자로 이동한 경우 이전 격자에서 제거한다")
+        public void it_moves_the_position_to_another_cell() {
+            vehiclePositionIndex.update(1L, getPoint(10, 10));
+            vehiclePositionIndex.update(1L, getPoint(20, 20));
+            vehiclePositionIndex.update(1L, getPoint(510, 510));
+
+            assertThat(vehiclePositionIndex.size())
+                .isEqualTo(1);
+            assertThat(vehiclePositionIndex.nearest(getPoint(10, 10), 1, 100))
+                .isEmpty();
+            assertThat(vehiclePositionIndex.nearest(getPoint(510, 510), 1, 100))
+                .singleElement()
+                .matches(position -> position.getUserId() == 1L)
+                .matches(position -> position.getX() == 510D && position.getY() == 510D)
+                .matches(position -> position.getDistance() == 0D);
+        }
+    }
+
+    @Nested
+    @DisplayName("remove 메서드는")
+    public final class Describe_remove {
+        @Test
+        @DisplayName("드라이버의 위치를 삭제한다")
+        public void it_removes_the_position() {
+            vehiclePositionIndex.update(1L, getPoint(10, 10));
+
+            vehiclePositionIndex.remove(1L);
+            vehiclePositionIndex.remove(1L);
+
+            assertThat(vehiclePositionIndex.size())
+                .isZero();
+            assertThat(vehiclePositionIndex.nearest(getPoint(10, 10), 1, MAX_DISTANCE_METERS))
+                .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("nearest 메서드는")
+    public final class Describe_nearest {
+        @BeforeEach
+        private void beforeEach() {
+            vehiclePositionIndex.update(1L, getPoint(50, 50));
+            vehiclePositionIndex.update(2L, getPoint(-30, 50));
+            vehiclePositionIndex.update(3L, getPoint(250, 50));
+            vehiclePositionIndex.update(4L, getPoint(90, 60));
+            vehiclePositionIndex.update(5L, getPoint(50, 2000));
+            vehiclePositionIndex.update(6L, getPoint(1000, 700));
+        }
+
+        @Test
+        @DisplayName("가까운 순서로 정렬한 드라이버를 찾는다")
+        public void it_finds_the_nearest_positions() {
+            assertThat(getUserIds(vehiclePositionIndex.nearest(getPoint(60, 50), 3, MAX_DISTANCE_METERS)))
+                .containsExactly(1L, 4L, 2L);
+        }
+
+        @Test
+        @DisplayName("다른 격자의 드라이버가 더 가까운 경우 그 드라이버를 찾는다")
+        public void it_finds_positions_in_neighbour_cells() {
+            assertThat(getUserIds(vehiclePositionIndex.nearest(getPoint(-10, 50), 1, MAX_DISTANCE_METERS)))
+                .containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("먼저 찾은 드라이버보다 가까운 드라이버를 찾으면 교체한다")
+        public void it_replaces_farther_positions() {
+            assertThat(getUserIds(vehiclePositionIndex.nearest(getPoint(190, 50), 1, MAX_DISTANCE_METERS)))
+                .containsExactly(3L);
+        }
+
+        @Test
+        @DisplayName("최대 거리보다 먼 드라이버는 찾지 않는다")
+        public void it_ignores_positions_beyond_the_max_distance() {
+            assertThat(getUserIds(vehiclePositionIndex.nearest(getPoint(60, 50), 10, MAX_DISTANCE_METERS)))
+                .containsExactly(1L, 4L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("찾을 드라이버의 수가 0 이하인 경우 빈 목록을 리턴한다")
+        public void it_returns_an_empty_list() {
+            assertThat(vehiclePositionIndex.nearest(getPoint(60, 50), 0, MAX_DISTANCE_METERS))
+                .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("within 메서드는")
+    public final class Describe_within {
+        @BeforeEach
+        private void beforeEach() {
+            vehiclePositionIndex.update(1L, getPoint(50, 50));
+            vehiclePositionIndex.update(2L, getPoint(150, 50));
+            vehiclePositionIndex.update(3L, getPoint(250, 250));
+            vehiclePositionIndex.update(4L, getPoint(-150, -50));
+            vehiclePositionIndex.update(5L, getPoint(10, 50));
+        }
+
+        @Test
+        @DisplayName("영역에 포함된 격자가 적은 경우 영역의 격자를 확인하여 찾는다")
+        public void it_scans_the_cells_in_range() {
+            assertThat(getUserIds(vehiclePositionIndex.within(40, 40, 160, 60)))
+                .containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @Test
+        @DisplayName("영역에 포함된 격자가 많은 경우 드라이버가 있는 격자만 확인하여 찾는다")
+        public void it_scans_the_occupied_cells() {
+            assertThat(getUserIds(vehiclePositionIndex.within(-100, 0, 1000, 1000)))
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("위치가 만료된 경우")
+    public final class Context_expired {
+        private AtomicLong now;
+        private VehiclePositionIndex expiringIndex;
+
+        @BeforeEach
+        private void beforeEach() {
+            now = new AtomicLong();
+            expiringIndex = new VehiclePositionIndex(CELL_SIZE_METERS, 4, TTL_MILLIS, now::get);
+            expiringIndex.update(1L, getPoint(10, 10));
+            expiringIndex.update(2L, getPoint(20, 20));
+            now.addAndGet(TTL_MILLIS + 1);
+            expiringIndex.update(2L, getPoint(30, 30));
+        }
+
+        @Test
+        @DisplayName("가까운 드라이버로 찾지 않는다")
+        public void it_skips_expired_positions_in_nearest() {
+            assertThat(getUserIds(expiringIndex.nearest(getPoint(10, 10), 10, MAX_DISTANCE_METERS)))
+                .containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("영역 안의 드라이버로 찾지 않는다")
+        public void it_skips_expired_positions_in_within() {
+            assertThat(getUserIds(expiringIndex.within(0, 0, 50, 50)))
+                .containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("evictExpired 메서드는 만료된 위치만 삭제한다")
+        public void it_evicts_only_expired_positions() {
+            expiringIndex.evictExpired();
+
+            assertThat(expiringIndex.size())
+                .isEqualTo(1);
+            assertThat(getUserIds(expiringIndex.within(0, 0, 50, 50)))
+                .containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("ttl-millis가 0보다 크면 주기적으로 삭제한다")
+        public void it_evicts_expired_positions_periodically() throws InterruptedException {
+            final VehiclePositionIndex scheduledIndex = new VehiclePositionIndex(CELL_SIZE_METERS, 4, 10L);
+            scheduledIndex.update(1L, getPoint(10, 10));
+
+            for (int i = 0; i < 100 && scheduledIndex.size() > 0; i++) {
+                Thread.sleep(10L);
+            }
+
+            assertThat(scheduledIndex.size())
+                .isZero();
+        }
+
+        @Test
+        @DisplayName("ttl-millis가 0이면 만료시키지 않는다")
+        public void it_does_not_expire_without_ttl() {
+            final VehiclePositionIndex unexpiringIndex = new VehiclePositionIndex(CELL_SIZE_METERS, 4, 0L);
+            unexpiringIndex.update(1L, getPoint(10, 10));
+
+            unexpiringIndex.evictExpired();
+
+            assertThat(unexpiringIndex.size())
+                .isEqualTo(1);
+        }
+    }
+}
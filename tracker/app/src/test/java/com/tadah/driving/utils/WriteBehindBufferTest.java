@@ -0,0 +1,218 @@
+package com.tadah.driving.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WriteBehindBuffer 클래스")
+public final class WriteBehindBufferTest {
+    private static final Long KEY = 1L;
+    private static final Long OTHER_KEY = 2L;
+    private static final int MAX_SIZE = 3;
+
+    private final List<Map.Entry<Long, List<Integer>>> flushed = new ArrayList<>();
+
+    private WriteBehindBuffer<Long, Integer> getWriteBehindBuffer(final int maxSize) {
+        return new WriteBehindBuffer<>(
+            new WriteBehindBuffer.Policy(maxSize, 0),
+            (key, values) -> flushed.add(Map.entry(key, values))
+        );
+    }
+
+    @Nested
+    @DisplayName("add 메서드는")
+    public final class Describe_add {
+        @Test
+        @DisplayName("최대 개수보다 적은 경우 값을 모아둔다")
+        public void it_buffers_the_values() {
+            final WriteBehindBuffer<Long, Integer> writeBehindBuffer = getWriteBehindBuffer(MAX_SIZE);
+
+            writeBehindBuffer.add(KEY, 1);
+            writeBehindBuffer.add(KEY, 2);
+
+            assertThat(flushed)
+                .isEmpty();
+            assertThat(writeBehindBuffer.getDepth())
+                .isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("최대 개수만큼 모이면 추가한 순서대로 저장한다")
+        public void it_flushes_the_values_when_full() {
+            final WriteBehindBuffer<Long, Integer> writeBehindBuffer = getWriteBehindBuffer(MAX_SIZE);
+
+            writeBehindBuffer.add(KEY, 1);
+            writeBehindBuffer.add(OTHER_KEY, 4);
+            writeBehindBuffer.add(KEY, 2);
+            writeBehindBuffer.add(KEY, 3);
+
+            assertThat(flushed)
+                .containsExactly(Map.entry(KEY, List.of(1, 2, 3)));
+            assertThat(writeBehindBuffer.getDepth())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("최대 개수가 1 이하인 경우 값을 바로 저장한다")
+        public void it_flushes_immediately() {
+            final WriteBehindBuffer<Long, Integer> writeBehindBuffer = getWriteBehindBuffer(0);
+
+            writeBehindBuffer.add(KEY, 1);
+
+            assertThat(flushed)
+                .containsExactly(Map.entry(KEY, List.of(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("flush 메서드는")
+    public final class Describe_flush {
+        @Test
+        @DisplayName("키에 모아둔 값을 저장하고 키를 제거한다")
+        public void it_flushes_the_key() {
+            final WriteBehindBuffer<Long, Integer> writeBehindBuffer = getWriteBehindBuffer(MAX_SIZE);
+            writeBehindBuffer.add(KEY, 1);
+            writeBehindBuffer.add(OTHER_KEY, 2);
+
+            writeBehindBuffer.flush(KEY);
+            writeBehindBuffer.flush(KEY);
+
+            assertThat(flushed)
+                .containsExactly(Map.entry(KEY, List.of(1)));
+            assertThat(writeBehindBuffer.getDepth())
+                .isEqualTo(1);
+
+            writeBehindBuffer.add(KEY, 3);
+            writeBehindBuffer.flush(KEY);
+
+            assertThat(flushed)
+                .containsExactly(Map.entry(KEY, List.of(1)), Map.entry(KEY, List.of(3)));
+        }
+
+        @Test
+        @DisplayName("저장에 실패한 경우 값과 키를 남겨둔다")
+        public void it_keeps_the_key_when_the_flush_fails() {
+            final AtomicBoolean isFailing = new AtomicBoolean(true);
+            final WriteBehindBuffer<Long, Integer> writeBehindBuffer = new WriteBehindBuffer<>(
+                new WriteBehindBuffer.Policy(MAX_SIZE, 0),
+                (key, values) -> {
+                    if (isFailing.get()) {
+                        throw new IllegalStateException();
+                    }
+                    flushed.add(Map.entry(key, values));
+                }
+            );
+            writeBehindBuffer.add(KEY, 1);
+
+            assertThatThrownBy(() -> writeBehindBuffer.flush(KEY))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(writeBehindBuffer.getDepth())
+                .isEqualTo(1);
+
+            isFailing.set(false);
+            writeBehindBuffer.flush(KEY);
+
+            assertThat(flushed)
+                .containsExactly(Map.entry(KEY, List.of(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("flushAll 메서드는")
+    public final class Describe_flushAll {
+        @Test
+        @DisplayName("모든 키에 모아둔 값을 저장한다")
+        public void it_flushes_all_keys() {
+            final WriteBehindBuffer<Long, Integer> writeBehindBuffer = getWriteBehindBuffer(MAX_SIZE);
+            writeBehindBuffer.add(KEY, 1);
+            writeBehindBuffer.add(OTHER_KEY, 2);
+
+            writeBehindBuffer.flushAll();
+            writeBehindBuffer.flushAll();
+
+            assertThat(flushed)
+                .containsExactlyInAnyOrder(Map.entry(KEY, List.of(1)), Map.entry(OTHER_KEY, List.of(2)));
+            assertThat(writeBehindBuffer.getDepth())
+                .isZero();
+        }
+
+        @Test
+        @DisplayName("저장에 실패한 값은 남겨두었다가 다음 저장 때 순서대로 저장하고 다른 키는 저장한다")
+        public void it_retries_the_failed_values() {
+            final AtomicBoolean isFailing = new AtomicBoolean(true);
+            final BiConsumer<Long, List<Integer>> flusher = (key, values) -> {
+                if (KEY.equals(key) && isFailing.get()) {
+                    throw new IllegalStateException();
+                }
+                flushed.add(Map.entry(key, List.copyOf(values)));
+            };
+            final WriteBehindBuffer<Long, Integer> writeBehindBuffer = new WriteBehindBuffer<>(new WriteBehindBuffer.Policy(MAX_SIZE, 0), flusher);
+            writeBehindBuffer.add(KEY, 1);
+            writeBehindBuffer.add(OTHER_KEY, 2);
+
+            writeBehindBuffer.flushAll();
+
+            assertThat(flushed)
+                .containsExactly(Map.entry(OTHER_KEY, List.of(2)));
+            assertThat(writeBehindBuffer.getDepth())
+                .isEqualTo(1);
+            assertThat(writeBehindBuffer.getFailedFlushCount())
+                .isEqualTo(1);
+
+            isFailing.set(false);
+            writeBehindBuffer.add(KEY, 3);
+            writeBehindBuffer.flushAll();
+
+            assertThat(flushed)
+                .containsExactly(Map.entry(OTHER_KEY, List.of(2)), Map.entry(KEY, List.of(1, 3)));
+            assertThat(writeBehindBuffer.getDepth())
+                .isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("close 메서드는")
+    public final class Describe_close {
+        @Test
+        @DisplayName("모아둔 값을 모두 저장한다")
+        public void it_flushes_all_keys() {
+            final WriteBehindBuffer<Long, Integer> writeBehindBuffer = getWriteBehindBuffer(MAX_SIZE);
+            writeBehindBuffer.add(KEY, 1);
+
+            writeBehindBuffer.close();
+
+            assertThat(flushed)
+                .containsExactly(Map.entry(KEY, List.of(1)));
+        }
+
+        @Test
+        @DisplayName("주기적으로 저장하던 경우 주기적인 저장을 멈춘다")
+        public void it_stops_the_scheduler() throws InterruptedException {
+            final CountDownLatch latch = new CountDownLatch(1);
+            final WriteBehindBuffer<Long, Integer> writeBehindBuffer = new WriteBehindBuffer<>(
+                new WriteBehindBuffer.Policy(MAX_SIZE, 1),
+                (key, values) -> latch.countDown()
+            );
+            writeBehindBuffer.add(KEY, 1);
+
+            assertThat(latch.await(1, TimeUnit.SECONDS))
+                .isTrue();
+
+            writeBehindBuffer.close();
+
+            assertThat(writeBehindBuffer.getDepth())
+                .isZero();
+        }
+    }
+}
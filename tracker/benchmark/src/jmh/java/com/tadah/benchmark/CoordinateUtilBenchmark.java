@@ -0,0 +1,50 @@
+package com.tadah.benchmark;
+
+import com.tadah.driving.utils.CoordinateUtil;
+import org.geolatte.geom.C2D;
+import org.geolatte.geom.G2D;
+import org.geolatte.geom.Point;
+import org.opengis.referencing.FactoryException;
+import org.opengis.referencing.operation.TransformException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CoordinateUtil.fromGps, CoordinateUtil.toGps 처리량을 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CoordinateUtilBenchmark {
+    private static final Double LATITUDE = 37.487964946;
+    private static final Double LONGITUDE = 127.065536349;
+
+    private CoordinateUtil coordinateUtil;
+    private Double x;
+    private Double y;
+
+    @Setup
+    public void setup() throws FactoryException, TransformException {
+        coordinateUtil = new CoordinateUtil();
+        final Point<C2D> point = coordinateUtil.fromGps(LATITUDE, LONGITUDE);
+        x = point.getPosition().getX();
+        y = point.getPosition().getY();
+    }
+
+    @Benchmark
+    public Point<C2D> fromGps() throws TransformException {
+        return coordinateUtil.fromGps(LATITUDE, LONGITUDE);
+    }
+
+    @Benchmark
+    public Point<G2D> toGps() throws TransformException {
+        return coordinateUtil.toGps(x, y);
+    }
+}
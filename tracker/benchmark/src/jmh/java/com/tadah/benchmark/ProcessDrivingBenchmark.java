@@ -0,0 +1,122 @@
+package com.tadah.benchmark;
+
+import com.tadah.driving.applications.DrivingService;
+import com.tadah.driving.configs.KinesisConsumerConfiguration;
+import com.tadah.driving.domains.entities.Driving;
+import com.tadah.driving.domains.repositories.DrivingRepository;
+import com.tadah.driving.dtos.DrivingDataProto;
+import com.tadah.driving.dtos.PointData;
+import com.tadah.driving.utils.CoordinateUtil;
+import com.tadah.driving.utils.DrivingSequenceFilter;
+import com.tadah.driving.utils.KeyedExecutor;
+import com.tadah.driving.utils.TrajectorySimplifier;
+import com.tadah.driving.utils.VehiclePositionIndex;
+import com.tadah.driving.utils.WriteBehindBuffer;
+import org.opengis.referencing.FactoryException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * processDriving Consumer가 위치 정보 업데이트 레코드 하나를 처리하는 처리량을 측정한다
+ * DrivingRepository는 호출을 기록하지 않는 stub으로 대체하고, 맵매칭은 변환한 위치를 그대로 사용하여 좌표 변환과 애플리케이션 코드만 측정한다
+ * duplicated는 이미 처리한 sequence의 레코드를 걸러내는 경우이다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessDrivingBenchmark {
+    private static final long DRIVING_ID = 1L;
+    private static final double LATITUDE = 37.487964946;
+    private static final double LONGITUDE = 127.065536349;
+
+    @Param({"1000"})
+    private int drivers;
+
+    @Param({"1"})
+    private int writeBehindSize;
+
+    private DrivingService drivingService;
+    private KeyedExecutor keyedExecutor;
+    private Consumer<DrivingDataProto.DrivingData> processDriving;
+    private DrivingDataProto.DrivingData[] drivingDataList;
+    private DrivingDataProto.DrivingData duplicatedDrivingData;
+    private int index;
+
+    @Setup
+    public void setup() throws FactoryException {
+        final Driving driving = mock(Driving.class, withSettings().stubOnly());
+        when(driving.getId()).thenReturn(DRIVING_ID);
+        final DrivingRepository drivingRepository = mock(DrivingRepository.class, withSettings().stubOnly());
+        when(drivingRepository.find(anyLong())).thenReturn(Optional.of(driving));
+        // 운행정보를 업데이트한 것처럼 응답하여 캐시가 지워지지 않도록 한다
+        when(drivingRepository.update(anyLong(), any(), anyBoolean())).thenReturn(1);
+        when(drivingRepository.appendAll(anyLong(), any(), anyBoolean())).thenReturn(1);
+
+        drivingService = new DrivingService(
+            new CoordinateUtil(),
+            drivingRepository,
+            PointData::new,
+            new TrajectorySimplifier(0D, 1),
+            DrivingService.StorageMode.PATH,
+            false,
+            new WriteBehindBuffer.Policy(writeBehindSize, 0L)
+        );
+        keyedExecutor = new KeyedExecutor(1, 1);
+        final DrivingSequenceFilter drivingSequenceFilter = new DrivingSequenceFilter(64);
+        processDriving = new KinesisConsumerConfiguration(
+            drivingService,
+            keyedExecutor,
+            new VehiclePositionIndex(500D, 64),
+            drivingSequenceFilter
+        ).processDriving();
+
+        drivingDataList = new DrivingDataProto.DrivingData[drivers];
+        for (int userId = 0; userId < drivers; userId++) {
+            drivingDataList[userId] = DrivingDataProto.DrivingData.newBuilder()
+                .setUserId(userId)
+                .setLatitude(LATITUDE + userId * 0.0001D)
+                .setLongitude(LONGITUDE)
+                .setDrivingStatus(DrivingDataProto.DrivingStatus.DRIVING)
+                .build();
+        }
+        duplicatedDrivingData = drivingDataList[0].toBuilder()
+            .setSequence(1L)
+            .build();
+        drivingSequenceFilter.accept(duplicatedDrivingData);
+    }
+
+    @TearDown
+    public void tearDown() {
+        drivingService.close();
+        keyedExecutor.close();
+    }
+
+    @Benchmark
+    public void driving() {
+        processDriving.accept(drivingDataList[index]);
+        index = (index + 1) % drivers;
+    }
+
+    @Benchmark
+    public void duplicated() {
+        processDriving.accept(duplicatedDrivingData);
+    }
+}
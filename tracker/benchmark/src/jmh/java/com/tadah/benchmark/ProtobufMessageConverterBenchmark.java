@@ -0,0 +1,83 @@
+package com.tadah.benchmark;
+
+import com.google.protobuf.CodedOutputStream;
+import com.tadah.driving.dtos.DrivingDataProto;
+import com.tadah.driving.utils.ProtobufMessageConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProtobufMessageConverter의 직렬화, 역직렬화 처리량을 측정한다
+ * fromAggregatedMessage는 서버가 aggregated-records개의 메시지를 묶어서 전송한 레코드를 푸는 경우이다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProtobufMessageConverterBenchmark {
+    private static final DrivingDataProto.DrivingData DRIVING_DATA = DrivingDataProto.DrivingData.newBuilder()
+        .setUserId(1L)
+        .setLatitude(37.487964946)
+        .setLongitude(127.065536349)
+        .setDrivingStatus(DrivingDataProto.DrivingStatus.DRIVING)
+        .setSequence(1_600_000_000_000_000L)
+        .build();
+
+    @Param({"100"})
+    private int aggregatedRecords;
+
+    private ProtobufMessageConverter protobufMessageConverter;
+    private MessageHeaders headers;
+    private Message<byte[]> message;
+    private Message<byte[]> aggregatedMessage;
+
+    @Setup
+    public void setup() throws IOException {
+        protobufMessageConverter = new ProtobufMessageConverter();
+        headers = new MessageHeaders(Collections.emptyMap());
+        message = MessageBuilder.withPayload(DRIVING_DATA.toByteArray()).build();
+        aggregatedMessage = MessageBuilder.withPayload(aggregate()).build();
+    }
+
+    private byte[] aggregate() throws IOException {
+        final int magicLength = ProtobufMessageConverter.AGGREGATION_MAGIC.length;
+        final int recordSize = CodedOutputStream.computeMessageSize(ProtobufMessageConverter.AGGREGATION_FIELD_NUMBER, DRIVING_DATA);
+        final byte[] record = new byte[magicLength + recordSize * aggregatedRecords];
+        System.arraycopy(ProtobufMessageConverter.AGGREGATION_MAGIC, 0, record, 0, magicLength);
+
+        final CodedOutputStream outputStream = CodedOutputStream.newInstance(record, magicLength, record.length - magicLength);
+        for (int index = 0; index < aggregatedRecords; index++) {
+            outputStream.writeMessage(ProtobufMessageConverter.AGGREGATION_FIELD_NUMBER, DRIVING_DATA);
+        }
+        outputStream.flush();
+        return record;
+    }
+
+    @Benchmark
+    public Message<?> toMessage() {
+        return protobufMessageConverter.toMessage(DRIVING_DATA, headers);
+    }
+
+    @Benchmark
+    public Object fromMessage() {
+        return protobufMessageConverter.fromMessage(message, DrivingDataProto.DrivingData.class);
+    }
+
+    @Benchmark
+    public Object fromAggregatedMessage() {
+        return protobufMessageConverter.fromMessage(aggregatedMessage, List.class);
+    }
+}